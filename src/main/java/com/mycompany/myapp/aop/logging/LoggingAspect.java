@@ -1,30 +1,52 @@
 package com.mycompany.myapp.aop.logging;
 
-import java.util.Arrays;
+import com.mycompany.myapp.management.MethodMetersService;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.AfterThrowing;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.Profiles;
+import org.springframework.util.ClassUtils;
 import tech.jhipster.config.JHipsterConstants;
 
 /**
  * Aspect for logging execution of service and repository Spring components.
  *
- * By default, it only runs with the "dev" profile.
+ * It only runs when {@code application.method-logging.enabled} is set, which is the default with the "dev" profile.
+ * Every call is timed in the {@value MethodMetersService#METHOD_METER_NAME} meters, and a sample of the calls, set by
+ * {@code application.method-logging.sample-rate}, is logged on entry and exit. The logger and the timer of a method are
+ * looked up on its first call only, for every class it is called on: the timers are tagged with the fully qualified
+ * name of the called class, or repository interface, so that an inherited method is timed separately in every class.
  */
 @Aspect
 public class LoggingAspect {
 
-    private final Environment env;
+    private final boolean development;
 
-    public LoggingAspect(Environment env) {
-        this.env = env;
+    private final double sampleRate;
+
+    private final MethodMetersService methodMetersService;
+
+    private final Map<Class<?>, Map<Method, MethodLog>> methodLogs = new ConcurrentHashMap<>();
+
+    public LoggingAspect(Environment env, double sampleRate, MethodMetersService methodMetersService) {
+        this.development = env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT));
+        this.sampleRate = sampleRate;
+        this.methodMetersService = methodMetersService;
     }
 
     /**
@@ -52,13 +74,38 @@ public class LoggingAspect {
     }
 
     /**
-     * Retrieves the {@link Logger} associated to the given {@link JoinPoint}.
+     * Retrieves the {@link MethodLog} associated to the given {@link JoinPoint}.
      *
-     * @param joinPoint join point we want the logger for.
-     * @return {@link Logger} associated to the given {@link JoinPoint}.
+     * @param joinPoint join point we want the logger and the timer for.
+     * @return {@link MethodLog} associated to the given {@link JoinPoint}.
      */
-    private Logger logger(JoinPoint joinPoint) {
-        return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
+    private MethodLog methodLog(JoinPoint joinPoint) {
+        Class<?> targetClass = targetClass(joinPoint.getTarget());
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Map<Method, MethodLog> classMethodLogs = methodLogs.get(targetClass);
+        if (classMethodLogs == null) {
+            classMethodLogs = methodLogs.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>());
+        }
+        MethodLog methodLog = classMethodLogs.get(method);
+        if (methodLog == null) {
+            methodLog = classMethodLogs.computeIfAbsent(method, key -> new MethodLog(targetClass, key));
+        }
+        return methodLog;
+    }
+
+    /**
+     * Returns the class of the called bean: its user class, or its first interface when it is a JDK proxy, like a Spring
+     * Data repository.
+     */
+    private static Class<?> targetClass(Object target) {
+        if (Proxy.isProxyClass(target.getClass())) {
+            return AopProxyUtils.proxiedUserInterfaces(target)[0];
+        }
+        return ClassUtils.getUserClass(target);
+    }
+
+    private boolean sampled() {
+        return sampleRate >= 1 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
     }
 
     /**
@@ -69,9 +116,9 @@ public class LoggingAspect {
      */
     @AfterThrowing(pointcut = "applicationPackagePointcut() && springBeanPointcut()", throwing = "e")
     public void logAfterThrowing(JoinPoint joinPoint, Throwable e) {
-        if (env.acceptsProfiles(Profiles.of(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT))) {
-            logger(joinPoint)
-                .error(
+        Logger log = methodLog(joinPoint).log;
+        if (development) {
+            log.error(
                     "Exception in {}() with cause = '{}' and exception = '{}'",
                     joinPoint.getSignature().getName(),
                     e.getCause() != null ? e.getCause() : "NULL",
@@ -79,8 +126,7 @@ public class LoggingAspect {
                     e
                 );
         } else {
-            logger(joinPoint)
-                .error(
+            log.error(
                     "Exception in {}() with cause = {}",
                     joinPoint.getSignature().getName(),
                     e.getCause() != null ? e.getCause() : "NULL"
@@ -97,19 +143,51 @@ public class LoggingAspect {
      */
     @Around("applicationPackagePointcut() && springBeanPointcut()")
     public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
-        Logger log = logger(joinPoint);
-        if (log.isDebugEnabled()) {
-            log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+        MethodLog methodLog = methodLog(joinPoint);
+        Logger log = methodLog.log;
+        boolean logged = log.isDebugEnabled() && sampled();
+        if (logged) {
+            log.debug("Enter: {}() with argument[s] = {}", methodLog.name, joinPoint.getArgs());
         }
+        long start = System.nanoTime();
         try {
             Object result = joinPoint.proceed();
-            if (log.isDebugEnabled()) {
-                log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
+            methodLog.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (logged) {
+                log.debug("Exit: {}() with result = {}", methodLog.name, result);
             }
             return result;
-        } catch (IllegalArgumentException e) {
-            log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
+        } catch (Throwable e) {
+            methodLog.exceptionTimer(e).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (e instanceof IllegalArgumentException) {
+                log.error("Illegal argument: {} in {}()", joinPoint.getArgs(), methodLog.name);
+            }
             throw e;
         }
     }
+
+    /**
+     * Logger and timer of a method.
+     */
+    private final class MethodLog {
+
+        private final Logger log;
+
+        private final String className;
+
+        private final String name;
+
+        private final Timer timer;
+
+        private MethodLog(Class<?> targetClass, Method method) {
+            this.log = LoggerFactory.getLogger(method.getDeclaringClass().getName());
+            this.className = targetClass.getName();
+            this.name = method.getName();
+            this.timer = methodMetersService.methodTimer(className, name, MethodMetersService.NO_EXCEPTION);
+        }
+
+        private Timer exceptionTimer(Throwable e) {
+            return methodMetersService.methodTimer(className, name, e.getClass().getSimpleName());
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package com.mycompany.myapp.config;
 
+import java.util.HashMap;
+import java.util.Map;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 /**
@@ -10,7 +12,576 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  */
 @ConfigurationProperties(prefix = "application", ignoreUnknownFields = false)
 public class ApplicationProperties {
+
     // jhipster-needle-application-properties-property
+    private final Bulk bulk = new Bulk();
+
+    private final Cache cache = new Cache();
+
+    private final Password password = new Password();
+
+    private final Mail mail = new Mail();
+
+    private final Execution execution = new Execution();
+
+    private final MethodLogging methodLogging = new MethodLogging();
+
+    private final EndpointMetrics endpointMetrics = new EndpointMetrics();
+
+    private final HibernateStatistics hibernateStatistics = new HibernateStatistics();
+
+    private final ReadReplica readReplica = new ReadReplica();
+
+    private final Search search = new Search();
+
     // jhipster-needle-application-properties-property-getter
+    public Bulk getBulk() {
+        return bulk;
+    }
+
+    public Cache getCache() {
+        return cache;
+    }
+
+    public Password getPassword() {
+        return password;
+    }
+
+    public Mail getMail() {
+        return mail;
+    }
+
+    public Execution getExecution() {
+        return execution;
+    }
+
+    public MethodLogging getMethodLogging() {
+        return methodLogging;
+    }
+
+    public EndpointMetrics getEndpointMetrics() {
+        return endpointMetrics;
+    }
+
+    public HibernateStatistics getHibernateStatistics() {
+        return hibernateStatistics;
+    }
+
+    public ReadReplica getReadReplica() {
+        return readReplica;
+    }
+
+    public Search getSearch() {
+        return search;
+    }
+
     // jhipster-needle-application-properties-property-class
+    public static class Bulk {
+
+        /**
+         * Number of rows inserted in a single transaction by the bulk endpoints.
+         */
+        private int chunkSize = 1000;
+
+        /**
+         * Number of statements sent in a single JDBC batch by the bulk endpoints.
+         */
+        private int jdbcBatchSize = 50;
+
+        public int getChunkSize() {
+            return chunkSize;
+        }
+
+        public void setChunkSize(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        public int getJdbcBatchSize() {
+            return jdbcBatchSize;
+        }
+
+        public void setJdbcBatchSize(int jdbcBatchSize) {
+            this.jdbcBatchSize = jdbcBatchSize;
+        }
+    }
+
+    public static class Cache {
+
+        /**
+         * Time to live of the entries of the regions which do not override it.
+         */
+        private long timeToLiveSeconds = 3600;
+
+        /**
+         * Maximum number of entries of the regions which do not override it.
+         */
+        private long maxEntries = 100;
+
+        /**
+         * Settings of the cache regions, by region name.
+         */
+        private Map<String, Region> regions = new HashMap<>();
+
+        public long getTimeToLiveSeconds() {
+            return timeToLiveSeconds;
+        }
+
+        public void setTimeToLiveSeconds(long timeToLiveSeconds) {
+            this.timeToLiveSeconds = timeToLiveSeconds;
+        }
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public Map<String, Region> getRegions() {
+            return regions;
+        }
+
+        public void setRegions(Map<String, Region> regions) {
+            this.regions = regions;
+        }
+
+        public long getTimeToLiveSeconds(String region) {
+            Region settings = regions.get(region);
+            return settings != null && settings.getTimeToLiveSeconds() != null ? settings.getTimeToLiveSeconds() : timeToLiveSeconds;
+        }
+
+        public long getMaxEntries(String region) {
+            Region settings = regions.get(region);
+            return settings != null && settings.getMaxEntries() != null ? settings.getMaxEntries() : maxEntries;
+        }
+
+        public static class Region {
+
+            private Long timeToLiveSeconds;
+
+            private Long maxEntries;
+
+            public Long getTimeToLiveSeconds() {
+                return timeToLiveSeconds;
+            }
+
+            public void setTimeToLiveSeconds(Long timeToLiveSeconds) {
+                this.timeToLiveSeconds = timeToLiveSeconds;
+            }
+
+            public Long getMaxEntries() {
+                return maxEntries;
+            }
+
+            public void setMaxEntries(Long maxEntries) {
+                this.maxEntries = maxEntries;
+            }
+        }
+    }
+
+    public static class Password {
+
+        /**
+         * Time a single BCrypt hash should take: the cost is calibrated at startup to the highest one which stays within it.
+         */
+        private long targetHashTimeMillis = 250;
+
+        /**
+         * Lowest BCrypt cost used, whatever the calibration.
+         */
+        private int minStrength = 10;
+
+        /**
+         * Highest BCrypt cost used, whatever the calibration.
+         */
+        private int maxStrength = 16;
+
+        /**
+         * Number of threads which hash passwords, defaults to the number of processors.
+         */
+        private int hashingThreads = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * Number of passwords waiting to be hashed before new ones are rejected.
+         */
+        private int hashingQueueCapacity = 100;
+
+        public long getTargetHashTimeMillis() {
+            return targetHashTimeMillis;
+        }
+
+        public void setTargetHashTimeMillis(long targetHashTimeMillis) {
+            this.targetHashTimeMillis = targetHashTimeMillis;
+        }
+
+        public int getMinStrength() {
+            return minStrength;
+        }
+
+        public void setMinStrength(int minStrength) {
+            this.minStrength = minStrength;
+        }
+
+        public int getMaxStrength() {
+            return maxStrength;
+        }
+
+        public void setMaxStrength(int maxStrength) {
+            this.maxStrength = maxStrength;
+        }
+
+        public int getHashingThreads() {
+            return hashingThreads;
+        }
+
+        public void setHashingThreads(int hashingThreads) {
+            this.hashingThreads = hashingThreads;
+        }
+
+        public int getHashingQueueCapacity() {
+            return hashingQueueCapacity;
+        }
+
+        public void setHashingQueueCapacity(int hashingQueueCapacity) {
+            this.hashingQueueCapacity = hashingQueueCapacity;
+        }
+    }
+
+    public static class Mail {
+
+        /**
+         * Number of emails waiting to be sent before new ones are dropped.
+         */
+        private int queueCapacity = 1000;
+
+        /**
+         * Maximum number of emails sent over a single SMTP connection.
+         */
+        private int batchSize = 50;
+
+        /**
+         * Number of attempts to send an email before it is dropped.
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * Delay before the second attempt to send an email, doubled before each following attempt.
+         */
+        private long initialBackoffMillis = 1000;
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getMaxAttempts() {
+            return maxAttempts;
+        }
+
+        public void setMaxAttempts(int maxAttempts) {
+            this.maxAttempts = maxAttempts;
+        }
+
+        public long getInitialBackoffMillis() {
+            return initialBackoffMillis;
+        }
+
+        public void setInitialBackoffMillis(long initialBackoffMillis) {
+            this.initialBackoffMillis = initialBackoffMillis;
+        }
+    }
+
+    public static class Execution {
+
+        /**
+         * Threads running the servlet requests and the {@code @Async} methods.
+         */
+        public enum Mode {
+            /**
+             * Pools of platform threads, sized by {@code server.undertow.threads} and {@code spring.task.execution}.
+             */
+            PLATFORM,
+            /**
+             * A new virtual thread per request or task, falling back to {@link #PLATFORM} on a Java runtime without
+             * virtual threads.
+             */
+            VIRTUAL,
+        }
+
+        /**
+         * Handling of the {@code @Async} methods called when the queue of {@code spring.task.execution} is full.
+         */
+        public enum RejectionPolicy {
+            /**
+             * The method throws a {@link org.springframework.core.task.TaskRejectedException}.
+             */
+            ABORT,
+            /**
+             * The method runs on the calling thread, which slows down the callers until the queue drains.
+             */
+            CALLER_RUNS,
+        }
+
+        private Mode mode = Mode.PLATFORM;
+
+        /**
+         * Maximum number of JDBC connections used at once, and thus of threads waiting on the connection pool.
+         * Defaults to the maximum size of the connection pool with virtual threads, and to no limit otherwise.
+         */
+        private int jdbcMaxConcurrency = 0;
+
+        /**
+         * Time to wait for a JDBC connection when the maximum concurrency is reached, before failing.
+         */
+        private long jdbcAcquireTimeoutMillis = 30000;
+
+        private RejectionPolicy asyncRejectionPolicy = RejectionPolicy.CALLER_RUNS;
+
+        public Mode getMode() {
+            return mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        public int getJdbcMaxConcurrency() {
+            return jdbcMaxConcurrency;
+        }
+
+        public void setJdbcMaxConcurrency(int jdbcMaxConcurrency) {
+            this.jdbcMaxConcurrency = jdbcMaxConcurrency;
+        }
+
+        public long getJdbcAcquireTimeoutMillis() {
+            return jdbcAcquireTimeoutMillis;
+        }
+
+        public void setJdbcAcquireTimeoutMillis(long jdbcAcquireTimeoutMillis) {
+            this.jdbcAcquireTimeoutMillis = jdbcAcquireTimeoutMillis;
+        }
+
+        public RejectionPolicy getAsyncRejectionPolicy() {
+            return asyncRejectionPolicy;
+        }
+
+        public void setAsyncRejectionPolicy(RejectionPolicy asyncRejectionPolicy) {
+            this.asyncRejectionPolicy = asyncRejectionPolicy;
+        }
+    }
+
+    public static class MethodLogging {
+
+        /**
+         * Whether the repository, service and REST methods are timed and logged by the
+         * {@link com.mycompany.myapp.aop.logging.LoggingAspect}. When disabled, the methods are not proxied at all.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Fraction of the calls logged on entry and exit, when the logger of their class is at the DEBUG level.
+         */
+        private double sampleRate = 0.01;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public double getSampleRate() {
+            return sampleRate;
+        }
+
+        public void setSampleRate(double sampleRate) {
+            this.sampleRate = sampleRate;
+        }
+    }
+
+    public static class EndpointMetrics {
+
+        /**
+         * Number of JDBC statements above which a request to an instrumented endpoint is logged as a warning.
+         */
+        private int statementBudget = 20;
+
+        public int getStatementBudget() {
+            return statementBudget;
+        }
+
+        public void setStatementBudget(int statementBudget) {
+            this.statementBudget = statementBudget;
+        }
+    }
+
+    public static class HibernateStatistics {
+
+        /**
+         * Whether the Hibernate statistics are collected at startup. They can be switched on and off at runtime with
+         * the {@code hibernatestats} management endpoint.
+         */
+        private boolean enabled = false;
+
+        /**
+         * Number of queries listed by the {@code hibernatestats} management endpoint, in the slowest and in the most
+         * frequent ones.
+         */
+        private int top = 10;
+
+        /**
+         * Number of distinct queries tracked, the queries executed once this number is reached are only counted.
+         */
+        private int maxQueries = 500;
+
+        /**
+         * Number of latest execution times kept by query, to compute their percentiles.
+         */
+        private int samples = 256;
+
+        /**
+         * Duration above which a JDBC statement is logged by Hibernate with its SQL, 0 to disable.
+         */
+        private long slowQueryThresholdMillis = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getTop() {
+            return top;
+        }
+
+        public void setTop(int top) {
+            this.top = top;
+        }
+
+        public int getMaxQueries() {
+            return maxQueries;
+        }
+
+        public void setMaxQueries(int maxQueries) {
+            this.maxQueries = maxQueries;
+        }
+
+        public int getSamples() {
+            return samples;
+        }
+
+        public void setSamples(int samples) {
+            this.samples = samples;
+        }
+
+        public long getSlowQueryThresholdMillis() {
+            return slowQueryThresholdMillis;
+        }
+
+        public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+            this.slowQueryThresholdMillis = slowQueryThresholdMillis;
+        }
+    }
+
+    public static class Search {
+
+        /**
+         * Number of students found by the search index above which a name search is run in the database with a
+         * {@code LIKE} predicate, rather than with the list of their ids.
+         */
+        private int maxIds = 1000;
+
+        public int getMaxIds() {
+            return maxIds;
+        }
+
+        public void setMaxIds(int maxIds) {
+            this.maxIds = maxIds;
+        }
+    }
+
+    public static class ReadReplica {
+
+        /**
+         * Whether the read-only transactions run on the read replica, and the other ones on the
+         * {@code spring.datasource} database.
+         */
+        private boolean enabled = false;
+
+        /**
+         * JDBC URL of the read replica.
+         */
+        private String url;
+
+        /**
+         * Login username of the read replica, defaults to the one of {@code spring.datasource}.
+         */
+        private String username;
+
+        /**
+         * Login password of the read replica, defaults to the one of {@code spring.datasource}.
+         */
+        private String password;
+
+        /**
+         * Maximum size of the connection pool of the read replica, defaults to the one of
+         * {@code spring.datasource.hikari}.
+         */
+        private int maximumPoolSize = 0;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+
+        public int getMaximumPoolSize() {
+            return maximumPoolSize;
+        }
+
+        public void setMaximumPoolSize(int maximumPoolSize) {
+            this.maximumPoolSize = maximumPoolSize;
+        }
+    }
 }
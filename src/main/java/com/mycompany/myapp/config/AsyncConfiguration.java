@@ -1,6 +1,9 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.management.AsyncMetersService;
+import java.util.Optional;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
@@ -9,6 +12,7 @@ import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -25,19 +29,52 @@ public class AsyncConfiguration implements AsyncConfigurer {
 
     private final TaskExecutionProperties taskExecutionProperties;
 
-    public AsyncConfiguration(TaskExecutionProperties taskExecutionProperties) {
+    private final ApplicationProperties applicationProperties;
+
+    private final AsyncMetersService asyncMetersService;
+
+    public AsyncConfiguration(
+        TaskExecutionProperties taskExecutionProperties,
+        ApplicationProperties applicationProperties,
+        AsyncMetersService asyncMetersService
+    ) {
         this.taskExecutionProperties = taskExecutionProperties;
+        this.applicationProperties = applicationProperties;
+        this.asyncMetersService = asyncMetersService;
     }
 
     @Override
     @Bean(name = "taskExecutor")
     public Executor getAsyncExecutor() {
         log.debug("Creating Async Task Executor");
+        Optional<ThreadFactory> virtualThreadFactory = VirtualThreads.threadFactory(
+            applicationProperties.getExecution(),
+            taskExecutionProperties.getThreadNamePrefix()
+        );
+        if (virtualThreadFactory.isPresent()) {
+            // A thread is started for every task: nothing is queued nor rejected, only the tasks are timed
+            log.info(
+                "@Async methods are run on virtual threads, the {}, {}, {} and {} meters are not reported",
+                AsyncMetersService.QUEUED_METER_NAME,
+                AsyncMetersService.ACTIVE_METER_NAME,
+                AsyncMetersService.POOL_SIZE_METER_NAME,
+                AsyncMetersService.REJECTED_METER_NAME
+            );
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor();
+            executor.setThreadFactory(virtualThreadFactory.get());
+            executor.setTaskDecorator(asyncMetersService::monitorTask);
+            return new ExceptionHandlingAsyncTaskExecutor(executor);
+        }
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(taskExecutionProperties.getPool().getCoreSize());
         executor.setMaxPoolSize(taskExecutionProperties.getPool().getMaxSize());
         executor.setQueueCapacity(taskExecutionProperties.getPool().getQueueCapacity());
         executor.setThreadNamePrefix(taskExecutionProperties.getThreadNamePrefix());
+        executor.setTaskDecorator(asyncMetersService::monitorTask);
+        executor.setRejectedExecutionHandler(
+            new AsyncRejectedExecutionHandler(applicationProperties.getExecution().getAsyncRejectionPolicy(), asyncMetersService)
+        );
+        asyncMetersService.monitorExecutor(executor);
         return new ExceptionHandlingAsyncTaskExecutor(executor);
     }
 
@@ -0,0 +1,90 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.AsyncMetersService;
+import io.micrometer.core.instrument.Counter;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.interceptor.AsyncExecutionInterceptor;
+
+/**
+ * Handler of the tasks rejected by the async task executor, see {@code application.execution.async-rejection-policy}.
+ * <p>
+ * Rejections are counted by {@code @Async} method. The method is found on the stack of the calling thread, as the
+ * task submitted by Spring does not know it: it is the proxy method which called the {@link AsyncExecutionInterceptor}.
+ * The counter of each method is kept, so that a burst of rejections does not look it up in the registry every time.
+ */
+class AsyncRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    static final String NO_METHOD = "none";
+
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final Logger log = LoggerFactory.getLogger(AsyncRejectedExecutionHandler.class);
+
+    private final ApplicationProperties.Execution.RejectionPolicy policy;
+
+    private final String policyTag;
+
+    private final AsyncMetersService asyncMetersService;
+
+    private final Map<String, Counter> rejectedCounters = new ConcurrentHashMap<>();
+
+    AsyncRejectedExecutionHandler(ApplicationProperties.Execution.RejectionPolicy policy, AsyncMetersService asyncMetersService) {
+        this.policy = policy;
+        this.policyTag = policy.name().toLowerCase(Locale.ROOT).replace('_', '-');
+        this.asyncMetersService = asyncMetersService;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        String method = asyncMethod();
+        rejectedCounters.computeIfAbsent(method, name -> asyncMetersService.rejectedCounter(name, policyTag)).increment();
+        if (policy == ApplicationProperties.Execution.RejectionPolicy.CALLER_RUNS) {
+            if (!executor.isShutdown()) {
+                log.debug("Async task queue is full, '{}' runs on the calling thread", method);
+                task.run();
+            }
+            return;
+        }
+        throw new RejectedExecutionException("Async task queue is full, '" + method + "' is rejected");
+    }
+
+    /**
+     * @return the simple class name and the name of the {@code @Async} method submitting the task, or {@value #NO_METHOD}
+     * if the task is submitted to the executor directly.
+     */
+    static String asyncMethod() {
+        return STACK_WALKER.walk(frames ->
+            frames
+                .dropWhile(frame -> !frame.getClassName().equals(AsyncExecutionInterceptor.class.getName()))
+                .dropWhile(frame -> isFrameworkClass(frame.getClassName()))
+                .findFirst()
+                .map(frame -> simpleClassName(frame.getClassName()) + "." + frame.getMethodName())
+                .orElse(NO_METHOD)
+        );
+    }
+
+    private static boolean isFrameworkClass(String className) {
+        return (
+            className.startsWith("org.springframework.") ||
+            className.startsWith("java.") ||
+            className.startsWith("jdk.") ||
+            className.startsWith("com.sun.")
+        );
+    }
+
+    /**
+     * Strips the package, and the suffix of the CGLIB proxy class.
+     */
+    private static String simpleClassName(String className) {
+        int proxySuffix = className.indexOf("$$");
+        String proxiedClassName = proxySuffix < 0 ? className : className.substring(0, proxySuffix);
+        return proxiedClassName.substring(proxiedClassName.lastIndexOf('.') + 1);
+    }
+}
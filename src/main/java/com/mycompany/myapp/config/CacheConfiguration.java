@@ -0,0 +1,74 @@
+package com.mycompany.myapp.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.mycompany.myapp.security.DomainUserDetailsService;
+import com.mycompany.myapp.service.StudentService;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.boot.autoconfigure.cache.JCacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caffeine-backed JCache regions for the Hibernate second-level and query caches, for the user details loaded at
+ * login, and for the student statistics.
+ * <p>
+ * Every region is created up front, so that its size and time to live come from {@link ApplicationProperties.Cache}
+ * and its statistics are exported with the other cache metrics.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    private final ApplicationProperties.Cache cacheProperties;
+
+    public CacheConfiguration(ApplicationProperties applicationProperties) {
+        this.cacheProperties = applicationProperties.getCache();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernatePropertiesCustomizer(javax.cache.CacheManager cacheManager) {
+        return hibernateProperties -> hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+    }
+
+    @Bean
+    public JCacheManagerCustomizer cacheManagerCustomizer() {
+        return cm -> {
+            createCache(cm, com.mycompany.myapp.domain.User.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.Authority.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.User.class.getName() + ".authorities");
+            createCache(cm, com.mycompany.myapp.domain.Student.class.getName());
+            createCache(cm, com.mycompany.myapp.domain.ClassEntity.class.getName());
+            createCache(cm, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME);
+            // query results are checked against the last update of their tables, which must outlive them
+            createCache(cm, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+            createCache(cm, DomainUserDetailsService.USER_DETAILS_BY_LOGIN_CACHE);
+            createCache(cm, DomainUserDetailsService.USER_DETAILS_BY_EMAIL_CACHE);
+            createCache(cm, StudentService.STATISTICS_CACHE);
+            // jhipster-needle-caffeine-add-entry
+        };
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName) {
+        CaffeineConfiguration<Object, Object> caffeineConfiguration = new CaffeineConfiguration<>();
+        caffeineConfiguration.setMaximumSize(OptionalLong.of(cacheProperties.getMaxEntries(cacheName)));
+        caffeineConfiguration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(cacheProperties.getTimeToLiveSeconds(cacheName))));
+        createCache(cm, cacheName, caffeineConfiguration);
+    }
+
+    private void createCache(javax.cache.CacheManager cm, String cacheName, CaffeineConfiguration<Object, Object> caffeineConfiguration) {
+        javax.cache.Cache<Object, Object> cache = cm.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        } else {
+            // Hibernate only stores immutable cache entries, which do not need to be copied
+            caffeineConfiguration.setStoreByValue(false);
+            caffeineConfiguration.setStatisticsEnabled(true);
+            cm.createCache(cacheName, caffeineConfiguration);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.mycompany.myapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.management.EndpointMetersService;
+import com.mycompany.myapp.web.rest.ClassEntityResource;
+import com.mycompany.myapp.web.rest.StudentResource;
+import java.util.Set;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Configuration of the per-endpoint metrics: the JDBC statements, the time spent in the database and serializing the
+ * response, and the number of rows returned, by controller method.
+ */
+@Configuration
+public class EndpointMetricsConfiguration implements WebMvcConfigurer {
+
+    private static final Set<Class<?>> INSTRUMENTED_CONTROLLERS = Set.of(StudentResource.class, ClassEntityResource.class);
+
+    private final ApplicationProperties applicationProperties;
+
+    private final EndpointMetersService endpointMetersService;
+
+    public EndpointMetricsConfiguration(ApplicationProperties applicationProperties, EndpointMetersService endpointMetersService) {
+        this.applicationProperties = applicationProperties;
+        this.endpointMetersService = endpointMetersService;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(
+            new EndpointMetricsInterceptor(
+                INSTRUMENTED_CONTROLLERS,
+                applicationProperties.getEndpointMetrics().getStatementBudget(),
+                endpointMetersService
+            )
+        );
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatisticsHibernatePropertiesCustomizer() {
+        return hibernateProperties ->
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, RequestStatisticsSessionEventListener.class.getName());
+    }
+
+    /**
+     * Replaces the JSON converter of Spring Boot.
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        return new TimedMappingJackson2HttpMessageConverter(objectMapper);
+    }
+}
@@ -0,0 +1,61 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.EndpointMetersService;
+import com.mycompany.myapp.management.RequestStatistics;
+import java.util.Set;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Interceptor collecting the {@link RequestStatistics} of the requests handled by some controllers, and warning about
+ * the requests which exceed the JDBC statement budget.
+ */
+class EndpointMetricsInterceptor implements HandlerInterceptor {
+
+    private final Logger log = LoggerFactory.getLogger(EndpointMetricsInterceptor.class);
+
+    private final Set<Class<?>> controllers;
+
+    private final int statementBudget;
+
+    private final EndpointMetersService endpointMetersService;
+
+    EndpointMetricsInterceptor(Set<Class<?>> controllers, int statementBudget, EndpointMetersService endpointMetersService) {
+        this.controllers = controllers;
+        this.statementBudget = statementBudget;
+        this.endpointMetersService = endpointMetersService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod && controllers.contains(((HandlerMethod) handler).getBeanType())) {
+            RequestStatistics.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestStatistics statistics = RequestStatistics.end();
+        if (statistics == null) {
+            return;
+        }
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        String endpoint = handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        endpointMetersService.trackRequest(endpoint, statistics);
+        if (statistics.getStatements() > statementBudget) {
+            log.warn(
+                "{} {} ran {} JDBC statements in {}, over the budget of {}",
+                request.getMethod(),
+                request.getRequestURI(),
+                statistics.getStatements(),
+                endpoint,
+                statementBudget
+            );
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Objects;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the threads running the servlet requests, see {@code application.execution}.
+ * <p>
+ * In {@code virtual} mode, Undertow dispatches every servlet request to a new virtual thread instead of its pool of
+ * worker threads, and the {@link AsyncConfiguration} does the same for the {@code @Async} methods. The JDBC
+ * connections are then limited by a {@link ConcurrencyLimitingDataSource}.
+ */
+@Configuration
+public class ExecutionConfiguration {
+
+    private static final String REQUEST_THREAD_NAME_PREFIX = "request-";
+
+    private static final String JDBC_ACTIVE_METER_NAME = "jdbc.concurrency.active";
+    private static final String JDBC_ACTIVE_METER_DESCRIPTION = "Indicates the number of JDBC connections in use.";
+
+    private static final String JDBC_WAITING_METER_NAME = "jdbc.concurrency.waiting";
+    private static final String JDBC_WAITING_METER_DESCRIPTION = "Indicates the number of threads waiting for a JDBC connection.";
+
+    private static final String JDBC_METER_BASE_UNIT = "connections";
+
+    private static final String JDBC_POOL_TAG = "pool";
+
+    private static final String JDBC_DEFAULT_POOL_NAME = "default";
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionConfiguration.class);
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> undertowExecutionCustomizer(
+        ApplicationProperties applicationProperties
+    ) {
+        return factory ->
+            VirtualThreads
+                .threadFactory(applicationProperties.getExecution(), REQUEST_THREAD_NAME_PREFIX)
+                .ifPresent(threadFactory -> {
+                    log.info("Servlet requests are run on virtual threads");
+                    factory.addDeploymentInfoCustomizers(deploymentInfo ->
+                        deploymentInfo.setExecutor(command -> threadFactory.newThread(command).start())
+                    );
+                });
+    }
+
+    /**
+     * Static, as a {@link BeanPostProcessor} is created before the other beans of its configuration.
+     */
+    @Bean
+    public static BeanPostProcessor jdbcConcurrencyLimiter(ObjectProvider<ApplicationProperties> applicationProperties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                if (DataSourceUnwrapper.unwrap((DataSource) bean, ReadOnlyRoutingDataSource.class) != null) {
+                    // Its primary and replica pools are limited each
+                    return bean;
+                }
+                ApplicationProperties.Execution execution = applicationProperties.getObject().getExecution();
+                int maxConcurrency = execution.getJdbcMaxConcurrency();
+                if (
+                    maxConcurrency <= 0 &&
+                    execution.getMode() == ApplicationProperties.Execution.Mode.VIRTUAL &&
+                    bean instanceof HikariDataSource
+                ) {
+                    maxConcurrency = ((HikariDataSource) bean).getMaximumPoolSize();
+                }
+                if (maxConcurrency <= 0) {
+                    return bean;
+                }
+                log.info("JDBC connections are limited to {} at once", maxConcurrency);
+                return new ConcurrencyLimitingDataSource((DataSource) bean, maxConcurrency, execution.getJdbcAcquireTimeoutMillis());
+            }
+        };
+    }
+
+    /**
+     * The meters of each limited connection pool, tagged by its name like the {@code hikaricp} meters.
+     */
+    @Bean
+    public MeterBinder jdbcConcurrencyMeters(ObjectProvider<DataSource> dataSources) {
+        return registry ->
+            dataSources
+                .orderedStream()
+                .map(dataSource -> DataSourceUnwrapper.unwrap(dataSource, ConcurrencyLimitingDataSource.class))
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(dataSource -> {
+                    String pool = poolName(dataSource);
+                    Gauge
+                        .builder(JDBC_ACTIVE_METER_NAME, dataSource, ConcurrencyLimitingDataSource::getActiveConnections)
+                        .tag(JDBC_POOL_TAG, pool)
+                        .baseUnit(JDBC_METER_BASE_UNIT)
+                        .description(JDBC_ACTIVE_METER_DESCRIPTION)
+                        .register(registry);
+                    Gauge
+                        .builder(JDBC_WAITING_METER_NAME, dataSource, ConcurrencyLimitingDataSource::getWaitingThreads)
+                        .tag(JDBC_POOL_TAG, pool)
+                        .baseUnit(JDBC_METER_BASE_UNIT)
+                        .description(JDBC_WAITING_METER_DESCRIPTION)
+                        .register(registry);
+                });
+    }
+
+    private static String poolName(DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        return hikari != null && hikari.getPoolName() != null ? hikari.getPoolName() : JDBC_DEFAULT_POOL_NAME;
+    }
+}
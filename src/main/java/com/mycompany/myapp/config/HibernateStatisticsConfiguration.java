@@ -0,0 +1,34 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.QueryStatisticsCollector;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.internal.StatisticsInitiator;
+import org.hibernate.stat.spi.StatisticsFactory;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the Hibernate statistics, reported by the {@code hibernatestats} management endpoint.
+ */
+@Configuration
+public class HibernateStatisticsConfiguration {
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateStatisticsHibernatePropertiesCustomizer(
+        ApplicationProperties applicationProperties,
+        QueryStatisticsCollector queryStatisticsCollector
+    ) {
+        ApplicationProperties.HibernateStatistics properties = applicationProperties.getHibernateStatistics();
+        StatisticsFactory statisticsFactory = sessionFactory -> new QueryCollectingStatistics(sessionFactory, queryStatisticsCollector);
+        return hibernateProperties -> {
+            hibernateProperties.put(StatisticsInitiator.STATS_BUILDER, statisticsFactory);
+            if (properties.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.GENERATE_STATISTICS, "true");
+            }
+            if (properties.getSlowQueryThresholdMillis() > 0) {
+                hibernateProperties.put(AvailableSettings.LOG_SLOW_QUERY, Long.toString(properties.getSlowQueryThresholdMillis()));
+            }
+        };
+    }
+}
@@ -1,17 +1,22 @@
 package com.mycompany.myapp.config;
 
 import com.mycompany.myapp.aop.logging.LoggingAspect;
+import com.mycompany.myapp.management.MethodMetersService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.*;
 import org.springframework.core.env.Environment;
-import tech.jhipster.config.JHipsterConstants;
 
 @Configuration
 @EnableAspectJAutoProxy
 public class LoggingAspectConfiguration {
 
     @Bean
-    @Profile(JHipsterConstants.SPRING_PROFILE_DEVELOPMENT)
-    public LoggingAspect loggingAspect(Environment env) {
-        return new LoggingAspect(env);
+    @ConditionalOnProperty(prefix = "application.method-logging", name = "enabled", havingValue = "true")
+    public LoggingAspect loggingAspect(
+        Environment env,
+        ApplicationProperties applicationProperties,
+        MethodMetersService methodMetersService
+    ) {
+        return new LoggingAspect(env, applicationProperties.getMethodLogging().getSampleRate(), methodMetersService);
     }
 }
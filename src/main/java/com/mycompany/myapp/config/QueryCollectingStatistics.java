@@ -0,0 +1,26 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.QueryStatisticsCollector;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.internal.StatisticsImpl;
+
+/**
+ * Hibernate statistics also recording the queries in a {@link QueryStatisticsCollector}.
+ * <p>
+ * Hibernate only reports the queries while its statistics are enabled.
+ */
+class QueryCollectingStatistics extends StatisticsImpl {
+
+    private final QueryStatisticsCollector collector;
+
+    QueryCollectingStatistics(SessionFactoryImplementor sessionFactory, QueryStatisticsCollector collector) {
+        super(sessionFactory);
+        this.collector = collector;
+    }
+
+    @Override
+    public void queryExecuted(String hql, int rows, long time) {
+        super.queryExecuted(hql, rows, time);
+        collector.record(hql, rows, time);
+    }
+}
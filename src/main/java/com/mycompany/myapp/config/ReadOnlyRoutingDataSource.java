@@ -0,0 +1,38 @@
+package com.mycompany.myapp.config;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link DataSource} sending the read-only transactions to the read replica, and everything else to the primary
+ * database.
+ * <p>
+ * The transaction manager gets its connection before it marks the transaction as read-only, so this data source must
+ * be used behind a {@link LazyConnectionDataSourceProxy}, which only gets the connection at the first statement.
+ */
+class ReadOnlyRoutingDataSource extends AbstractRoutingDataSource {
+
+    ReadOnlyRoutingDataSource(DataSource primaryDataSource, DataSource replicaDataSource) {
+        setTargetDataSources(Map.<Object, Object>of(Boolean.FALSE, primaryDataSource, Boolean.TRUE, replicaDataSource));
+        setDefaultTargetDataSource(primaryDataSource);
+        afterPropertiesSet();
+    }
+
+    /**
+     * @param primaryDataSource the data source of the primary database.
+     * @param replicaDataSource the data source of the read replica.
+     * @return the routing data source, behind the proxy which defers getting its connections. The proxy reads the
+     * default auto-commit mode and isolation level of the connections from a connection of the primary database.
+     */
+    static DataSource lazy(DataSource primaryDataSource, DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReadOnlyRoutingDataSource(primaryDataSource, replicaDataSource));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
@@ -0,0 +1,80 @@
+package com.mycompany.myapp.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+
+/**
+ * Configuration of the read replica, see {@code application.read-replica}.
+ * <p>
+ * The {@code @Transactional(readOnly = true)} methods run on a pool of connections to the read replica, and the
+ * other ones on the pool of {@code spring.datasource}, through a {@link ReadOnlyRoutingDataSource}. Both pools are
+ * configured by {@code spring.datasource.hikari}, and have their own {@code hikaricp} meters.
+ * <p>
+ * The replica may lag behind the primary database: a read-only transaction does not always see the writes just
+ * committed, and the methods which must read their own writes should not be read-only.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "application.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfiguration {
+
+    private static final String HIKARI_PROPERTIES_PREFIX = "spring.datasource.hikari";
+
+    private static final String REPLICA_POOL_NAME = "HikariReplica";
+
+    private final Logger log = LoggerFactory.getLogger(ReadReplicaConfiguration.class);
+
+    /**
+     * The pool of {@code spring.datasource}, which Spring Boot does not create when another data source is defined.
+     */
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+
+    @Bean
+    public DataSource replicaDataSource(
+        DataSourceProperties properties,
+        ApplicationProperties applicationProperties,
+        Environment environment
+    ) {
+        ApplicationProperties.ReadReplica replica = applicationProperties.getReadReplica();
+        HikariDataSource dataSource = DataSourceBuilder
+            .create(properties.getClassLoader())
+            .type(HikariDataSource.class)
+            .url(replica.getUrl())
+            .username(replica.getUsername() != null ? replica.getUsername() : properties.determineUsername())
+            .password(replica.getPassword() != null ? replica.getPassword() : properties.determinePassword())
+            .build();
+        Binder.get(environment).bind(HIKARI_PROPERTIES_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(REPLICA_POOL_NAME);
+        dataSource.setReadOnly(true);
+        if (replica.getMaximumPoolSize() > 0) {
+            dataSource.setMaximumPoolSize(replica.getMaximumPoolSize());
+        }
+        log.info("Read-only transactions run on the read replica {}", replica.getUrl());
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primaryDataSource,
+        @Qualifier("replicaDataSource") DataSource replicaDataSource
+    ) {
+        return ReadOnlyRoutingDataSource.lazy(primaryDataSource, replicaDataSource);
+    }
+}
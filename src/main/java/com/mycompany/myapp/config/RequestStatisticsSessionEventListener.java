@@ -0,0 +1,37 @@
+package com.mycompany.myapp.config;
+
+import com.mycompany.myapp.management.RequestStatistics;
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Hibernate listener recording the JDBC statements of a session in the {@link RequestStatistics}.
+ * <p>
+ * Hibernate creates a listener per session, which is used by a single thread. A JDBC batch counts as one statement, as
+ * it is a single round trip.
+ */
+public class RequestStatisticsSessionEventListener extends BaseSessionEventListener {
+
+    private long statementStart;
+
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestStatistics.recordStatement(System.nanoTime() - statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestStatistics.recordStatement(System.nanoTime() - batchStart);
+    }
+}
@@ -1,7 +1,11 @@
 package com.mycompany.myapp.config;
 
+import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.security.*;
 import com.mycompany.myapp.security.jwt.*;
+import java.time.Duration;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpMethod;
@@ -23,6 +27,8 @@ import tech.jhipster.config.JHipsterProperties;
 @Import(SecurityProblemSupport.class)
 public class SecurityConfiguration {
 
+    private final Logger log = LoggerFactory.getLogger(SecurityConfiguration.class);
+
     private final JHipsterProperties jHipsterProperties;
 
     private final TokenProvider tokenProvider;
@@ -43,8 +49,20 @@ public class SecurityConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(ApplicationProperties applicationProperties, SecurityMetersService securityMetersService) {
+        ApplicationProperties.Password passwordProperties = applicationProperties.getPassword();
+        int strength = BCryptStrengthCalibrator.calibrate(
+            Duration.ofMillis(passwordProperties.getTargetHashTimeMillis()),
+            passwordProperties.getMinStrength(),
+            passwordProperties.getMaxStrength()
+        );
+        log.info("Hashing passwords with a BCrypt strength of {}", strength);
+        return new OffloadingPasswordEncoder(
+            new BCryptPasswordEncoder(strength),
+            passwordProperties.getHashingThreads(),
+            passwordProperties.getHashingQueueCapacity(),
+            securityMetersService
+        );
     }
 
     @Bean
@@ -0,0 +1,45 @@
+package com.mycompany.myapp.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.management.RequestStatistics;
+import java.io.IOException;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * JSON converter recording the serialization of the response bodies in the {@link RequestStatistics}.
+ */
+class TimedMappingJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    TimedMappingJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+        throws IOException, HttpMessageNotWritableException {
+        long start = System.nanoTime();
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            RequestStatistics.recordSerialization(System.nanoTime() - start, rows(object));
+        }
+    }
+
+    private static long rows(Object object) {
+        if (object == null) {
+            return 0;
+        }
+        if (object instanceof Collection) {
+            return ((Collection<?>) object).size();
+        }
+        if (object.getClass().isArray()) {
+            return Array.getLength(object);
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,58 @@
+package com.mycompany.myapp.config;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Access to the virtual threads of Java 21+, while the application is compiled for Java 11.
+ */
+final class VirtualThreads {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private VirtualThreads() {}
+
+    /**
+     * Creates a factory of virtual threads if they are enabled by {@code application.execution.mode}.
+     *
+     * @param execution the execution properties.
+     * @param namePrefix the prefix of the thread names, followed by a counter.
+     * @return the factory, or empty to use platform threads.
+     */
+    static Optional<ThreadFactory> threadFactory(ApplicationProperties.Execution execution, String namePrefix) {
+        if (execution.getMode() != ApplicationProperties.Execution.Mode.VIRTUAL) {
+            return Optional.empty();
+        }
+        Optional<ThreadFactory> threadFactory = threadFactory(namePrefix);
+        if (threadFactory.isEmpty()) {
+            log.warn("Virtual threads are not available on Java {}, '{}' threads are platform threads", Runtime.version(), namePrefix);
+        }
+        return threadFactory;
+    }
+
+    /**
+     * Creates a factory of virtual threads.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a counter.
+     * @return the factory, or empty if the Java runtime has no virtual threads.
+     */
+    static Optional<ThreadFactory> threadFactory(String namePrefix) {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Method name = builderClass.getMethod("name", String.class, long.class);
+            Method factory = builderClass.getMethod("factory");
+            return Optional.of((ThreadFactory) factory.invoke(name.invoke(builder, namePrefix, 0L)));
+        } catch (ReflectiveOperationException e) {
+            if (e instanceof InvocationTargetException && !(e.getCause() instanceof UnsupportedOperationException)) {
+                throw new IllegalStateException("Virtual threads could not be created", e.getCause());
+            }
+            // Before Java 19, or a preview feature which is not enabled
+            return Optional.empty();
+        }
+    }
+}
@@ -1,30 +1,71 @@
 package com.mycompany.myapp.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.io.Serializable;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
 import javax.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OptimisticLock;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
  * A ClassEntity.
  */
 @Entity
 @Table(name = "class_entity")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(AuditingEntityListener.class)
+@JsonIgnoreProperties(value = { "lastModifiedDate" }, allowGetters = true)
+@BatchSize(size = ClassEntity.BATCH_SIZE)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class ClassEntity implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Number of the uninitialized classEntities, or rosters, loaded together when one of them is accessed.
+     */
+    static final int BATCH_SIZE = 50;
+
     @Id
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sequenceGenerator")
     @SequenceGenerator(name = "sequenceGenerator")
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "class_id")
+    @Column(name = "class_id", unique = true)
     private Integer classId;
 
     @Column(name = "name")
     private String name;
 
+    /**
+     * The roster of the classEntity. It is not cached: Hibernate does not evict it when a student changes its
+     * classEntity, the owning side of the relationship. For the same reason, its changes do not increment the version
+     * of the classEntity.
+     */
+    @OneToMany(mappedBy = "classEntity")
+    @OptimisticLock(excluded = true)
+    @BatchSize(size = BATCH_SIZE)
+    @JsonIgnoreProperties(value = { "classEntity" }, allowSetters = true)
+    private Set<Student> students = new HashSet<>();
+
+    /**
+     * Incremented by every update, which fails when the row has another version.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @LastModifiedDate
+    @Column(name = "last_modified_date")
+    private Instant lastModifiedDate;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -66,6 +107,53 @@ public class ClassEntity implements Serializable {
         this.name = name;
     }
 
+    public Set<Student> getStudents() {
+        return this.students;
+    }
+
+    public void setStudents(Set<Student> students) {
+        if (this.students != null) {
+            this.students.forEach(i -> i.setClassEntity(null));
+        }
+        if (students != null) {
+            students.forEach(i -> i.setClassEntity(this));
+        }
+        this.students = students;
+    }
+
+    public ClassEntity students(Set<Student> students) {
+        this.setStudents(students);
+        return this;
+    }
+
+    public ClassEntity addStudent(Student student) {
+        this.students.add(student);
+        student.setClassEntity(this);
+        return this;
+    }
+
+    public ClassEntity removeStudent(Student student) {
+        this.students.remove(student);
+        student.setClassEntity(null);
+        return this;
+    }
+
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getLastModifiedDate() {
+        return this.lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(Instant lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -1,13 +1,23 @@
 package com.mycompany.myapp.domain;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import java.io.Serializable;
+import java.time.Instant;
 import javax.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Formula;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 /**
  * A Student.
  */
 @Entity
 @Table(name = "student")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+@EntityListeners(AuditingEntityListener.class)
+@JsonIgnoreProperties(value = { "lastModifiedDate" }, allowGetters = true)
 @SuppressWarnings("common-java:DuplicatedBlocks")
 public class Student implements Serializable {
 
@@ -19,7 +29,7 @@ public class Student implements Serializable {
     @Column(name = "id")
     private Long id;
 
-    @Column(name = "student_id")
+    @Column(name = "student_id", unique = true)
     private Integer studentId;
 
     @Column(name = "name")
@@ -28,12 +38,44 @@ public class Student implements Serializable {
     @Column(name = "age")
     private Integer age;
 
-    @Column(name = "class_nam")
+    /**
+     * The classNam of the queries, which filter and sort on it: the name of the classEntity of the student, or the
+     * class_nam of a student without classEntity. It is never written, and never read by {@link #getClassNam()},
+     * which reads the classEntity itself, so that a renamed classEntity is only written to its own row.
+     */
+    @Formula(
+        "case when class_entity_id is null then class_nam" +
+        " else (select c.name from class_entity c where c.id = class_entity_id) end"
+    )
     private String classNam;
 
+    /**
+     * The classNam of a student without classEntity, {@code null} for a student with a classEntity.
+     */
+    @Column(name = "class_nam")
+    private String storedClassNam;
+
     @Column(name = "address")
     private String address;
 
+    /**
+     * Lazy, so that the read paths which return it fetch it with the students, in the same query.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JsonIgnoreProperties(value = { "students" }, allowSetters = true)
+    private ClassEntity classEntity;
+
+    /**
+     * Incremented by every update, which fails when the row has another version.
+     */
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
+    @LastModifiedDate
+    @Column(name = "last_modified_date")
+    private Instant lastModifiedDate;
+
     // jhipster-needle-entity-add-field - JHipster will add fields here
 
     public Long getId() {
@@ -88,8 +130,11 @@ public class Student implements Serializable {
         this.age = age;
     }
 
+    /**
+     * The name of the classEntity of the student, or the classNam it was given when it has no classEntity.
+     */
     public String getClassNam() {
-        return this.classNam;
+        return this.classEntity != null ? this.classEntity.getName() : this.storedClassNam;
     }
 
     public Student classNam(String classNam) {
@@ -97,8 +142,11 @@ public class Student implements Serializable {
         return this;
     }
 
+    /**
+     * Sets the classNam of a student without classEntity, the one of a student with a classEntity is its name.
+     */
     public void setClassNam(String classNam) {
-        this.classNam = classNam;
+        this.storedClassNam = classNam;
     }
 
     public String getAddress() {
@@ -114,6 +162,35 @@ public class Student implements Serializable {
         this.address = address;
     }
 
+    public ClassEntity getClassEntity() {
+        return this.classEntity;
+    }
+
+    public void setClassEntity(ClassEntity classEntity) {
+        this.classEntity = classEntity;
+    }
+
+    public Student classEntity(ClassEntity classEntity) {
+        this.setClassEntity(classEntity);
+        return this;
+    }
+
+    public Long getVersion() {
+        return this.version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public Instant getLastModifiedDate() {
+        return this.lastModifiedDate;
+    }
+
+    public void setLastModifiedDate(Instant lastModifiedDate) {
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
     // jhipster-needle-entity-add-getters-setters - JHipster will add getters and setters here
 
     @Override
@@ -141,7 +218,7 @@ public class Student implements Serializable {
             ", studentId=" + getStudentId() +
             ", name='" + getName() + "'" +
             ", age=" + getAge() +
-            ", classNam='" + getClassNam() + "'" +
+            ", classNam='" + storedClassNam + "'" +
             ", address='" + getAddress() + "'" +
             "}";
     }
@@ -0,0 +1,108 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AsyncMetersService {
+
+    public static final String QUEUED_METER_NAME = "async.task.queued";
+    public static final String QUEUED_METER_DESCRIPTION = "Indicates the number of tasks waiting for a thread of the async task executor.";
+    public static final String ACTIVE_METER_NAME = "async.task.active";
+    public static final String ACTIVE_METER_DESCRIPTION = "Indicates the number of threads of the async task executor running a task.";
+    public static final String POOL_SIZE_METER_NAME = "async.task.pool.size";
+    public static final String POOL_SIZE_METER_DESCRIPTION = "Indicates the number of threads of the async task executor.";
+    public static final String TASKS_METER_BASE_UNIT = "tasks";
+    public static final String THREADS_METER_BASE_UNIT = "threads";
+
+    public static final String WAIT_METER_NAME = "async.task.wait";
+    public static final String WAIT_METER_DESCRIPTION = "Indicates the time the async tasks wait for a thread.";
+
+    public static final String RUN_METER_NAME = "async.task.run";
+    public static final String RUN_METER_DESCRIPTION = "Indicates the time taken to run the async tasks.";
+
+    public static final String REJECTED_METER_NAME = "async.task.rejected";
+    public static final String REJECTED_METER_DESCRIPTION =
+        "Indicates the async tasks which were rejected because the queue of the async task executor was full.";
+    public static final String REJECTED_METER_METHOD_DIMENSION = "method";
+    public static final String REJECTED_METER_POLICY_DIMENSION = "policy";
+
+    private final MeterRegistry registry;
+
+    private final Timer waitTimer;
+    private final Timer runTimer;
+
+    public AsyncMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.waitTimer = Timer.builder(WAIT_METER_NAME).description(WAIT_METER_DESCRIPTION).publishPercentileHistogram().register(registry);
+        this.runTimer = Timer.builder(RUN_METER_NAME).description(RUN_METER_DESCRIPTION).publishPercentileHistogram().register(registry);
+    }
+
+    private Counter.Builder rejectedCounterBuilder(String method, String policy) {
+        return Counter
+            .builder(REJECTED_METER_NAME)
+            .baseUnit(TASKS_METER_BASE_UNIT)
+            .description(REJECTED_METER_DESCRIPTION)
+            .tag(REJECTED_METER_METHOD_DIMENSION, method)
+            .tag(REJECTED_METER_POLICY_DIMENSION, policy);
+    }
+
+    /**
+     * Exports the queue depth, the active threads and the size of the async task executor.
+     *
+     * @param executor the executor, which may not be initialized yet.
+     */
+    public void monitorExecutor(ThreadPoolTaskExecutor executor) {
+        Gauge
+            .builder(QUEUED_METER_NAME, executor, ThreadPoolTaskExecutor::getQueueSize)
+            .baseUnit(TASKS_METER_BASE_UNIT)
+            .description(QUEUED_METER_DESCRIPTION)
+            .register(registry);
+        Gauge
+            .builder(ACTIVE_METER_NAME, executor, ThreadPoolTaskExecutor::getActiveCount)
+            .baseUnit(THREADS_METER_BASE_UNIT)
+            .description(ACTIVE_METER_DESCRIPTION)
+            .register(registry);
+        Gauge
+            .builder(POOL_SIZE_METER_NAME, executor, ThreadPoolTaskExecutor::getPoolSize)
+            .baseUnit(THREADS_METER_BASE_UNIT)
+            .description(POOL_SIZE_METER_DESCRIPTION)
+            .register(registry);
+    }
+
+    /**
+     * Wraps an async task to record the time it waits for a thread, and the time it takes to run.
+     *
+     * @param task the task, as submitted to the executor.
+     * @return the task to run.
+     */
+    public Runnable monitorTask(Runnable task) {
+        long submitted = System.nanoTime();
+        return () -> {
+            long started = System.nanoTime();
+            this.waitTimer.record(started - submitted, TimeUnit.NANOSECONDS);
+            try {
+                task.run();
+            } finally {
+                this.runTimer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+            }
+        };
+    }
+
+    /**
+     * Returns the counter of the rejected tasks of a method, which should be kept by the caller as looking it up
+     * allocates.
+     *
+     * @param method the {@code @Async} method submitting the tasks.
+     * @param policy the rejection policy of the executor.
+     * @return the counter.
+     */
+    public Counter rejectedCounter(String method, String policy) {
+        return rejectedCounterBuilder(method, policy).register(registry);
+    }
+}
@@ -0,0 +1,94 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+@Service
+public class EndpointMetersService {
+
+    public static final String STATEMENTS_METER_NAME = "http.endpoint.statements";
+    public static final String STATEMENTS_METER_DESCRIPTION = "Indicates the number of JDBC statements executed by a request.";
+    public static final String STATEMENTS_METER_BASE_UNIT = "statements";
+
+    public static final String DATABASE_METER_NAME = "http.endpoint.database";
+    public static final String DATABASE_METER_DESCRIPTION = "Indicates the time a request spent executing JDBC statements.";
+
+    public static final String SERIALIZATION_METER_NAME = "http.endpoint.serialization";
+    public static final String SERIALIZATION_METER_DESCRIPTION = "Indicates the time a request spent serializing its response to JSON.";
+
+    public static final String ROWS_METER_NAME = "http.endpoint.rows";
+    public static final String ROWS_METER_DESCRIPTION = "Indicates the number of elements in the response of a request.";
+    public static final String ROWS_METER_BASE_UNIT = "rows";
+
+    public static final String ENDPOINT_DIMENSION = "endpoint";
+
+    private final MeterRegistry registry;
+
+    private final Map<String, EndpointMeters> endpointMeters = new ConcurrentHashMap<>();
+
+    public EndpointMetersService(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Records the statistics of a request.
+     *
+     * @param endpoint the simple class name and the name of the controller method.
+     * @param statistics the statistics of the request.
+     */
+    public void trackRequest(String endpoint, RequestStatistics statistics) {
+        EndpointMeters meters = endpointMeters.computeIfAbsent(endpoint, EndpointMeters::new);
+        meters.statements.record(statistics.getStatements());
+        meters.database.record(statistics.getDatabaseNanos(), TimeUnit.NANOSECONDS);
+        meters.serialization.record(statistics.getSerializationNanos(), TimeUnit.NANOSECONDS);
+        meters.rows.record(statistics.getRows());
+    }
+
+    private final class EndpointMeters {
+
+        private final DistributionSummary statements;
+        private final Timer database;
+        private final Timer serialization;
+        private final DistributionSummary rows;
+
+        private EndpointMeters(String endpoint) {
+            this.statements =
+                DistributionSummary
+                    .builder(STATEMENTS_METER_NAME)
+                    .baseUnit(STATEMENTS_METER_BASE_UNIT)
+                    .description(STATEMENTS_METER_DESCRIPTION)
+                    .tag(ENDPOINT_DIMENSION, endpoint)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(1000.0)
+                    .register(registry);
+            this.database =
+                Timer
+                    .builder(DATABASE_METER_NAME)
+                    .description(DATABASE_METER_DESCRIPTION)
+                    .tag(ENDPOINT_DIMENSION, endpoint)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.serialization =
+                Timer
+                    .builder(SERIALIZATION_METER_NAME)
+                    .description(SERIALIZATION_METER_DESCRIPTION)
+                    .tag(ENDPOINT_DIMENSION, endpoint)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            this.rows =
+                DistributionSummary
+                    .builder(ROWS_METER_NAME)
+                    .baseUnit(ROWS_METER_BASE_UNIT)
+                    .description(ROWS_METER_DESCRIPTION)
+                    .tag(ENDPOINT_DIMENSION, endpoint)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(100000.0)
+                    .register(registry);
+        }
+    }
+}
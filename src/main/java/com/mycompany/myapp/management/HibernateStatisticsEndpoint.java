@@ -0,0 +1,87 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * Management endpoint reporting the Hibernate statistics: the counts of the sessions, statements and queries, the hits
+ * and misses of the caches, and the slowest and most frequent queries.
+ * <p>
+ * The statistics are switched on and off at runtime with a {@code POST} of {@code {"enabled": true}}, and reset with a
+ * {@code DELETE}.
+ */
+@Component
+@Endpoint(id = "hibernatestats")
+public class HibernateStatisticsEndpoint {
+
+    private final Statistics statistics;
+
+    private final QueryStatisticsCollector queryStatisticsCollector;
+
+    private final int top;
+
+    public HibernateStatisticsEndpoint(
+        EntityManagerFactory entityManagerFactory,
+        QueryStatisticsCollector queryStatisticsCollector,
+        ApplicationProperties applicationProperties
+    ) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.queryStatisticsCollector = queryStatisticsCollector;
+        this.top = applicationProperties.getHibernateStatistics().getTop();
+    }
+
+    @ReadOperation
+    public Map<String, Object> statistics() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", statistics.isStatisticsEnabled());
+        result.put("since", Instant.ofEpochMilli(statistics.getStartTime()).toString());
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put("sessions", statistics.getSessionOpenCount());
+        counts.put("transactions", statistics.getTransactionCount());
+        counts.put("flushes", statistics.getFlushCount());
+        counts.put("statementsPrepared", statistics.getPrepareStatementCount());
+        counts.put("queries", statistics.getQueryExecutionCount());
+        counts.put("entitiesLoaded", statistics.getEntityLoadCount());
+        counts.put("entitiesFetched", statistics.getEntityFetchCount());
+        counts.put("collectionsFetched", statistics.getCollectionFetchCount());
+        counts.put("untrackedQueries", queryStatisticsCollector.getUntracked());
+        result.put("counts", counts);
+
+        Map<String, Long> caches = new LinkedHashMap<>();
+        caches.put("secondLevelCacheHits", statistics.getSecondLevelCacheHitCount());
+        caches.put("secondLevelCacheMisses", statistics.getSecondLevelCacheMissCount());
+        caches.put("secondLevelCachePuts", statistics.getSecondLevelCachePutCount());
+        caches.put("queryCacheHits", statistics.getQueryCacheHitCount());
+        caches.put("queryCacheMisses", statistics.getQueryCacheMissCount());
+        caches.put("queryCachePuts", statistics.getQueryCachePutCount());
+        caches.put("queryPlanCacheHits", statistics.getQueryPlanCacheHitCount());
+        caches.put("queryPlanCacheMisses", statistics.getQueryPlanCacheMissCount());
+        result.put("caches", caches);
+
+        result.put("slowestQueries", queryStatisticsCollector.slowest(top));
+        result.put("mostFrequentQueries", queryStatisticsCollector.mostFrequent(top));
+        return result;
+    }
+
+    @WriteOperation
+    public void enable(boolean enabled) {
+        statistics.setStatisticsEnabled(enabled);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.clear();
+        queryStatisticsCollector.clear();
+    }
+}
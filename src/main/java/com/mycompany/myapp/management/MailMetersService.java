@@ -0,0 +1,81 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MailMetersService {
+
+    public static final String QUEUE_METER_NAME = "mail.queue.size";
+    public static final String QUEUE_METER_DESCRIPTION = "Indicates the number of emails waiting to be sent.";
+    public static final String QUEUE_METER_BASE_UNIT = "emails";
+
+    public static final String SEND_METER_NAME = "mail.send";
+    public static final String SEND_METER_DESCRIPTION = "Indicates the time taken to send a batch of emails over a single SMTP connection.";
+    public static final String SEND_METER_RESULT_DIMENSION = "result";
+
+    public static final String SENT_METER_NAME = "mail.sent";
+    public static final String SENT_METER_DESCRIPTION = "Indicates the number of emails accepted by the SMTP server.";
+    public static final String SENT_METER_BASE_UNIT = "emails";
+
+    public static final String FAILURES_METER_NAME = "mail.failures";
+    public static final String FAILURES_METER_DESCRIPTION = "Indicates the number of emails which were dropped without being sent.";
+    public static final String FAILURES_METER_BASE_UNIT = "emails";
+    public static final String FAILURES_METER_CAUSE_DIMENSION = "cause";
+
+    private final MeterRegistry registry;
+
+    private final Timer sendSuccessTimer;
+    private final Timer sendFailureTimer;
+    private final Counter sentCounter;
+    private final Counter queueFullCounter;
+    private final Counter sendFailedCounter;
+
+    public MailMetersService(MeterRegistry registry) {
+        this.registry = registry;
+        this.sendSuccessTimer = sendTimerForResultBuilder("success").register(registry);
+        this.sendFailureTimer = sendTimerForResultBuilder("failure").register(registry);
+        this.sentCounter = Counter.builder(SENT_METER_NAME).baseUnit(SENT_METER_BASE_UNIT).description(SENT_METER_DESCRIPTION).register(registry);
+        this.queueFullCounter = failuresCounterForCauseBuilder("queue-full").register(registry);
+        this.sendFailedCounter = failuresCounterForCauseBuilder("send-failed").register(registry);
+    }
+
+    private Timer.Builder sendTimerForResultBuilder(String result) {
+        return Timer.builder(SEND_METER_NAME).description(SEND_METER_DESCRIPTION).tag(SEND_METER_RESULT_DIMENSION, result);
+    }
+
+    private Counter.Builder failuresCounterForCauseBuilder(String cause) {
+        return Counter
+            .builder(FAILURES_METER_NAME)
+            .baseUnit(FAILURES_METER_BASE_UNIT)
+            .description(FAILURES_METER_DESCRIPTION)
+            .tag(FAILURES_METER_CAUSE_DIMENSION, cause);
+    }
+
+    public void monitorQueue(Collection<?> queue) {
+        Gauge.builder(QUEUE_METER_NAME, queue, Collection::size).baseUnit(QUEUE_METER_BASE_UNIT).description(QUEUE_METER_DESCRIPTION).register(registry);
+    }
+
+    public void trackBatchSent(long durationNanos, int emails) {
+        this.sendSuccessTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        this.sentCounter.increment(emails);
+    }
+
+    public void trackBatchFailed(long durationNanos, int sentEmails) {
+        this.sendFailureTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+        this.sentCounter.increment(sentEmails);
+    }
+
+    public void trackQueueFull() {
+        this.queueFullCounter.increment();
+    }
+
+    public void trackSendFailed(int emails) {
+        this.sendFailedCounter.increment(emails);
+    }
+}
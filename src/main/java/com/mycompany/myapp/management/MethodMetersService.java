@@ -0,0 +1,43 @@
+package com.mycompany.myapp.management;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Service;
+
+@Service
+public class MethodMetersService {
+
+    /**
+     * Same meter as {@link io.micrometer.core.aop.TimedAspect}, so that both can be used in the same dashboards.
+     */
+    public static final String METHOD_METER_NAME = "method.timed";
+    public static final String METHOD_METER_DESCRIPTION = "Indicates the time taken by the repository, service and REST methods.";
+    public static final String METHOD_METER_CLASS_DIMENSION = "class";
+    public static final String METHOD_METER_METHOD_DIMENSION = "method";
+    public static final String METHOD_METER_EXCEPTION_DIMENSION = "exception";
+    public static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry registry;
+
+    public MethodMetersService(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Returns the timer of a method, which should be kept by the caller as looking it up allocates.
+     *
+     * @param className the fully qualified name of the class the method is called on.
+     * @param methodName the name of the method.
+     * @param exception the simple name of the exception thrown by the method, or {@value #NO_EXCEPTION}.
+     * @return the timer.
+     */
+    public Timer methodTimer(String className, String methodName, String exception) {
+        return Timer
+            .builder(METHOD_METER_NAME)
+            .description(METHOD_METER_DESCRIPTION)
+            .tag(METHOD_METER_CLASS_DIMENSION, className)
+            .tag(METHOD_METER_METHOD_DIMENSION, methodName)
+            .tag(METHOD_METER_EXCEPTION_DIMENSION, exception)
+            .register(registry);
+    }
+}
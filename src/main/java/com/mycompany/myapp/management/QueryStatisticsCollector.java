@@ -0,0 +1,247 @@
+package com.mycompany.myapp.management;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Service;
+
+/**
+ * Collector of the execution times and row counts of the HQL and native SQL queries, by normalized query text.
+ * <p>
+ * Its memory is bounded: it tracks a maximum number of distinct queries, and computes the percentiles from a ring
+ * buffer of the latest execution times of each query.
+ */
+@Service
+public class QueryStatisticsCollector {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("(?<![\\w:?.])-?\\d+(?:\\.\\d+)?\\b");
+
+    private static final Pattern IN_LIST = Pattern.compile("(?i)\\bin\\s*\\(\\s*(?:\\?\\d*|:\\w+)(?:\\s*,\\s*(?:\\?\\d*|:\\w+))*\\s*\\)");
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final int maxQueries;
+
+    private final int samples;
+
+    /**
+     * Queries by their text as executed, which saves normalizing the queries executed several times.
+     */
+    private final Map<String, QueryEntry> queries = new ConcurrentHashMap<>();
+
+    private final Map<String, QueryEntry> normalizedQueries = new ConcurrentHashMap<>();
+
+    private final LongAdder untracked = new LongAdder();
+
+    public QueryStatisticsCollector(ApplicationProperties applicationProperties) {
+        this.maxQueries = applicationProperties.getHibernateStatistics().getMaxQueries();
+        this.samples = applicationProperties.getHibernateStatistics().getSamples();
+    }
+
+    /**
+     * Records the execution of a query.
+     *
+     * @param query the HQL or SQL of the query.
+     * @param rows the number of rows returned by the query.
+     * @param millis the execution time of the query, in milliseconds.
+     */
+    public void record(String query, long rows, long millis) {
+        QueryEntry entry = queries.get(query);
+        if (entry == null) {
+            entry = entryOf(query);
+            if (entry == null) {
+                untracked.increment();
+                return;
+            }
+        }
+        entry.record(rows, millis);
+    }
+
+    private QueryEntry entryOf(String query) {
+        String normalizedQuery = normalize(query);
+        QueryEntry entry = normalizedQueries.get(normalizedQuery);
+        if (entry == null) {
+            if (normalizedQueries.size() >= maxQueries) {
+                return null;
+            }
+            entry = normalizedQueries.computeIfAbsent(normalizedQuery, key -> new QueryEntry(key, samples));
+        }
+        if (queries.size() < 4 * maxQueries) {
+            queries.putIfAbsent(query, entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Normalizes a query, replacing its literals with {@code ?}, its lists of parameters with a single one, and its
+     * whitespace with single spaces.
+     *
+     * @param query the HQL or SQL of the query.
+     * @return the normalized query.
+     */
+    static String normalize(String query) {
+        String normalizedQuery = STRING_LITERAL.matcher(query).replaceAll("?");
+        normalizedQuery = NUMERIC_LITERAL.matcher(normalizedQuery).replaceAll("?");
+        normalizedQuery = WHITESPACE.matcher(normalizedQuery).replaceAll(" ").trim();
+        return IN_LIST.matcher(normalizedQuery).replaceAll("in (?)");
+    }
+
+    /**
+     * Returns the queries with the highest 99th percentile execution time.
+     *
+     * @param count the maximum number of queries.
+     * @return the queries.
+     */
+    public List<QuerySummary> slowest(int count) {
+        return top(count, Comparator.comparingLong(QuerySummary::getP99Millis).thenComparingDouble(QuerySummary::getMeanMillis));
+    }
+
+    /**
+     * Returns the queries executed the most.
+     *
+     * @param count the maximum number of queries.
+     * @return the queries.
+     */
+    public List<QuerySummary> mostFrequent(int count) {
+        return top(count, Comparator.comparingLong(QuerySummary::getExecutions));
+    }
+
+    private List<QuerySummary> top(int count, Comparator<QuerySummary> comparator) {
+        return normalizedQueries
+            .values()
+            .stream()
+            .map(QueryEntry::summary)
+            .filter(summary -> summary.getExecutions() > 0)
+            .sorted(comparator.reversed())
+            .limit(count)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the number of executions which were not tracked, as the maximum number of queries was reached.
+     *
+     * @return the number of executions.
+     */
+    public long getUntracked() {
+        return untracked.sum();
+    }
+
+    public void clear() {
+        queries.clear();
+        normalizedQueries.clear();
+        untracked.reset();
+    }
+
+    private static final class QueryEntry {
+
+        private final String query;
+
+        private final LongAdder executions = new LongAdder();
+
+        private final LongAdder rows = new LongAdder();
+
+        private final LongAdder totalMillis = new LongAdder();
+
+        private final AtomicLong maxMillis = new AtomicLong();
+
+        private final AtomicLong recorded = new AtomicLong();
+
+        private final AtomicLongArray latestMillis;
+
+        private QueryEntry(String query, int samples) {
+            this.query = query;
+            this.latestMillis = new AtomicLongArray(samples);
+        }
+
+        private void record(long rows, long millis) {
+            executions.increment();
+            this.rows.add(rows);
+            totalMillis.add(millis);
+            if (millis > maxMillis.get()) {
+                maxMillis.accumulateAndGet(millis, Math::max);
+            }
+            latestMillis.lazySet((int) (recorded.getAndIncrement() % latestMillis.length()), millis);
+        }
+
+        private QuerySummary summary() {
+            int sampled = (int) Math.min(recorded.get(), latestMillis.length());
+            long[] sortedMillis = new long[sampled];
+            for (int i = 0; i < sampled; i++) {
+                sortedMillis[i] = latestMillis.get(i);
+            }
+            Arrays.sort(sortedMillis);
+            long p99Millis = sampled == 0 ? 0 : sortedMillis[(int) Math.ceil(0.99 * sampled) - 1];
+            return new QuerySummary(query, executions.sum(), rows.sum(), totalMillis.sum(), p99Millis, maxMillis.get());
+        }
+    }
+
+    /**
+     * Statistics of a normalized query.
+     */
+    public static final class QuerySummary {
+
+        private final String query;
+
+        private final long executions;
+
+        private final long rows;
+
+        private final double meanMillis;
+
+        private final long p99Millis;
+
+        private final long maxMillis;
+
+        QuerySummary(String query, long executions, long rows, long totalMillis, long p99Millis, long maxMillis) {
+            this.query = query;
+            this.executions = executions;
+            this.rows = rows;
+            this.meanMillis = executions == 0 ? 0 : (double) totalMillis / executions;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public long getExecutions() {
+            return executions;
+        }
+
+        public long getRows() {
+            return rows;
+        }
+
+        public double getMeanRows() {
+            return executions == 0 ? 0 : (double) rows / executions;
+        }
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        /**
+         * Returns the 99th percentile of the latest execution times.
+         *
+         * @return the execution time, in milliseconds.
+         */
+        public long getP99Millis() {
+            return p99Millis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+    }
+}
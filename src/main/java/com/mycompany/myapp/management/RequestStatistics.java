@@ -0,0 +1,82 @@
+package com.mycompany.myapp.management;
+
+/**
+ * Statistics of the request handled by the current thread: its JDBC statements, and the serialization of its response.
+ * <p>
+ * The statistics are only collected between {@link #start()} and {@link #end()}, the other threads record nothing.
+ */
+public final class RequestStatistics {
+
+    private static final ThreadLocal<RequestStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+
+    private long databaseNanos;
+
+    private long serializationNanos;
+
+    private long rows;
+
+    private RequestStatistics() {}
+
+    /**
+     * Starts collecting the statistics of the current thread.
+     */
+    public static void start() {
+        CURRENT.set(new RequestStatistics());
+    }
+
+    /**
+     * Stops collecting the statistics of the current thread.
+     *
+     * @return the statistics collected since {@link #start()}, or {@code null} if they were not collected.
+     */
+    public static RequestStatistics end() {
+        RequestStatistics statistics = CURRENT.get();
+        CURRENT.remove();
+        return statistics;
+    }
+
+    /**
+     * Records a JDBC statement, or batch of statements, executed by the current thread.
+     *
+     * @param durationNanos the time taken by the database.
+     */
+    public static void recordStatement(long durationNanos) {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.statements++;
+            statistics.databaseNanos += durationNanos;
+        }
+    }
+
+    /**
+     * Records the serialization of a response body by the current thread.
+     *
+     * @param durationNanos the time taken to serialize the body.
+     * @param rows the number of elements of the body, or 1 if it is not a collection.
+     */
+    public static void recordSerialization(long durationNanos, long rows) {
+        RequestStatistics statistics = CURRENT.get();
+        if (statistics != null) {
+            statistics.serializationNanos += durationNanos;
+            statistics.rows += rows;
+        }
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDatabaseNanos() {
+        return databaseNanos;
+    }
+
+    public long getSerializationNanos() {
+        return serializationNanos;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+}
@@ -0,0 +1,88 @@
+package com.mycompany.myapp.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Criteria-based implementation of {@link KeysetRepository}.
+ * <p>
+ * Rows are ordered by {@code (property, id)}, both in the requested direction, with {@code null} values first in
+ * ascending order and last in descending order, as MariaDB does. One extra row is fetched to know whether a next
+ * page exists. Each row is selected as the projection given by the caller.
+ *
+ * @param <T> the entity type.
+ */
+public abstract class AbstractKeysetRepository<T> implements KeysetRepository<T> {
+
+    private final Class<T> domainClass;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    protected AbstractKeysetRepository(Class<T> domainClass) {
+        this.domainClass = domainClass;
+    }
+
+    @Override
+    public <D> Slice<D> findAllAfter(
+        Keyset after,
+        Pageable pageable,
+        Class<D> resultClass,
+        BiFunction<CriteriaBuilder, Root<T>, Selection<D>> selection
+    ) {
+        Sort.Order order = Keyset.keysetOrder(pageable.getSort());
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<D> query = cb.createQuery(resultClass);
+        Root<T> root = query.from(domainClass);
+        Path<Long> id = root.get(Keyset.ID_PROPERTY);
+
+        if (after != null) {
+            if (!after.getProperty().equals(order.getProperty())) {
+                throw new IllegalArgumentException("The keyset was created for another sort property: " + after.getProperty());
+            }
+            query.where(after(cb, root, id, order, after));
+        }
+        List<javax.persistence.criteria.Order> orderBy = new ArrayList<>();
+        if (!Keyset.ID_PROPERTY.equals(order.getProperty())) {
+            orderBy.add(order.isAscending() ? cb.asc(root.get(order.getProperty())) : cb.desc(root.get(order.getProperty())));
+        }
+        orderBy.add(order.isAscending() ? cb.asc(id) : cb.desc(id));
+        query.select(selection.apply(cb, root)).orderBy(orderBy);
+
+        List<D> content = entityManager.createQuery(query).setMaxResults(pageable.getPageSize() + 1).getResultList();
+        boolean hasNext = content.size() > pageable.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, pageable.getPageSize());
+        }
+        return new SliceImpl<>(content, PageRequest.of(0, pageable.getPageSize(), Sort.by(order)), hasNext);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private Predicate after(CriteriaBuilder cb, Root<T> root, Path<Long> id, Sort.Order order, Keyset after) {
+        boolean asc = order.isAscending();
+        Predicate idAfter = asc ? cb.greaterThan(id, after.getId()) : cb.lessThan(id, after.getId());
+        if (Keyset.ID_PROPERTY.equals(order.getProperty())) {
+            return idAfter;
+        }
+        Path path = root.get(order.getProperty());
+        if (after.getValue() == null) {
+            Predicate sameNull = cb.and(cb.isNull(path), idAfter);
+            return asc ? cb.or(sameNull, cb.isNotNull(path)) : sameNull;
+        }
+        Comparable value = after.parseValue(path.getJavaType());
+        Predicate sameValue = cb.and(cb.equal(path, value), idAfter);
+        if (asc) {
+            return cb.or(cb.greaterThan(path, value), sameValue);
+        }
+        return cb.or(cb.lessThan(path, value), sameValue, cb.isNull(path));
+    }
+}
@@ -0,0 +1,84 @@
+package com.mycompany.myapp.repository;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Base class of the repositories writing a versioned entity with a native statement built from its Hibernate mapping.
+ * <p>
+ * Hibernate evicts the whole second-level cache region of the entity after a bulk statement. The statements are
+ * declared on a query space of no entity instead, and only the written entities are evicted, once the transaction
+ * completes, in case a concurrent transaction cached their previous state in the meantime.
+ *
+ * @param <T> the entity type.
+ */
+abstract class AbstractNativeWriteRepository<T> {
+
+    /**
+     * A query space which no entity is mapped to, so that Hibernate evicts no cache region after the statement.
+     */
+    private static final String NO_QUERY_SPACE = "";
+
+    protected final Class<T> domainClass;
+
+    protected final String lastModifiedDateProperty;
+
+    @PersistenceContext
+    protected EntityManager entityManager;
+
+    protected AbstractNativeWriteRepository(Class<T> domainClass, String lastModifiedDateProperty) {
+        this.domainClass = domainClass;
+        this.lastModifiedDateProperty = lastModifiedDateProperty;
+    }
+
+    protected SessionImplementor session() {
+        return entityManager.unwrap(SessionImplementor.class);
+    }
+
+    protected AbstractEntityPersister persister() {
+        return (AbstractEntityPersister) session().getFactory().getMetamodel().entityPersister(domainClass);
+    }
+
+    /**
+     * Creates a native statement which leaves the cache regions alone.
+     *
+     * @param sql the statement.
+     * @return the query.
+     */
+    protected Query createNativeQuery(String sql) {
+        Query query = entityManager.createNativeQuery(sql);
+        query.unwrap(NativeQuery.class).addSynchronizedQuerySpace(NO_QUERY_SPACE);
+        return query;
+    }
+
+    /**
+     * Forgets the managed instances of the entities, which the statement makes stale, and evicts them from the
+     * second-level cache, now and once the transaction completes. The pending changes must have been flushed.
+     *
+     * @param ids the ids of the written entities.
+     */
+    protected void detachAndEvict(Collection<? extends Serializable> ids) {
+        List<Serializable> evicted = List.copyOf(ids);
+        evicted.forEach(id -> entityManager.detach(entityManager.getReference(domainClass, id)));
+        Cache cache = entityManager.getEntityManagerFactory().getCache();
+        evicted.forEach(id -> cache.evict(domainClass, id));
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    evicted.forEach(id -> cache.evict(domainClass, id));
+                }
+            }
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.mycompany.myapp.repository;
+
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import org.hibernate.CacheMode;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.Type;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * Native SQL implementation of {@link PartialUpdateRepository}.
+ * <p>
+ * The statement is built from the Hibernate mapping of the entity: {@code update <table> set <supplied columns>,
+ * version = version + 1, <last modified date> = ? where id = ? [and version in (?)]}. MariaDB has no
+ * {@code UPDATE ... RETURNING}, so the updated entity is read by a second statement, with its fetched associations,
+ * without caching it, as it is not committed yet. When no row is updated although versions are given, a second
+ * statement tells a missing entity from a modified one, in the same transaction, so never on a read replica.
+ *
+ * @param <T> the entity type.
+ */
+public abstract class AbstractPartialUpdateRepository<T> extends AbstractNativeWriteRepository<T> implements PartialUpdateRepository<T> {
+
+    protected AbstractPartialUpdateRepository(Class<T> domainClass, String lastModifiedDateProperty) {
+        super(domainClass, lastModifiedDateProperty);
+    }
+
+    @Override
+    public Optional<T> partialUpdate(T patch, Collection<Long> versions) {
+        Serializable id = (Serializable) entityManager.getEntityManagerFactory().getPersistenceUnitUtil().getIdentifier(patch);
+        if (versions != null && versions.isEmpty()) {
+            return notUpdated(id, versions);
+        }
+        AbstractEntityPersister persister = persister();
+        String versionColumn = persister.getVersionColumnName();
+
+        StringBuilder sql = new StringBuilder("update ").append(persister.getTableName()).append(" set ");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        String[] propertyNames = persister.getPropertyNames();
+        Type[] propertyTypes = persister.getPropertyTypes();
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (
+                i == persister.getVersionProperty() ||
+                propertyTypes[i].isAssociationType() ||
+                propertyNames[i].equals(lastModifiedDateProperty) ||
+                !persister.getPropertyUpdateability()[i]
+            ) {
+                continue;
+            }
+            Object value = persister.getPropertyValue(patch, i);
+            if (value != null) {
+                String column = persister.getPropertyColumnNames(i)[0];
+                sql.append(column).append(" = ").append(assignedValue(propertyNames[i], column, ":" + propertyNames[i])).append(", ");
+                parameters.put(propertyNames[i], value);
+            }
+        }
+        sql.append(versionColumn).append(" = ").append(versionColumn).append(" + 1, ");
+        sql.append(persister.getPropertyColumnNames(lastModifiedDateProperty)[0]).append(" = :").append(lastModifiedDateProperty);
+        parameters.put(lastModifiedDateProperty, Instant.now());
+        sql.append(" where ").append(persister.getIdentifierColumnNames()[0]).append(" = :id");
+        parameters.put("id", id);
+        if (versions != null) {
+            sql.append(" and ").append(versionColumn).append(" in (:versions)");
+            parameters.put("versions", versions);
+        }
+
+        entityManager.flush();
+        detachAndEvict(List.of(id));
+        Query update = createNativeQuery(sql.toString());
+        parameters.forEach(update::setParameter);
+        if (update.executeUpdate() == 0) {
+            return notUpdated(id, versions);
+        }
+        return findUpdated(id);
+    }
+
+    /**
+     * Returns the SQL expression assigned to the column of a supplied property, its parameter by default.
+     *
+     * @param property the name of the property.
+     * @param column the column of the property.
+     * @param parameter the parameter holding the supplied value.
+     * @return the assigned expression.
+     */
+    protected String assignedValue(String property, String column, String parameter) {
+        return parameter;
+    }
+
+    /**
+     * Adds the fetches of the associations returned with the updated entity, none by default.
+     *
+     * @param root the root of the query.
+     */
+    protected void fetch(Root<T> root) {}
+
+    private Optional<T> notUpdated(Serializable id, Collection<Long> versions) {
+        if (versions != null && exists(id)) {
+            throw new ObjectOptimisticLockingFailureException(domainClass, id);
+        }
+        return Optional.empty();
+    }
+
+    private boolean exists(Serializable id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        query.select(cb.count(root)).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).getSingleResult() > 0;
+    }
+
+    private Optional<T> findUpdated(Serializable id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(domainClass);
+        Root<T> root = query.from(domainClass);
+        fetch(root);
+        query.select(root).where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(query).setHint(HINT_CACHE_MODE, CacheMode.IGNORE).getResultList().stream().findFirst();
+    }
+}
@@ -0,0 +1,161 @@
+package com.mycompany.myapp.repository;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.Query;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.jpa.TypedParameterValue;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.type.EntityType;
+import org.hibernate.type.Type;
+
+/**
+ * MariaDB implementation of {@link UpsertRepository}.
+ * <p>
+ * The statement is built from the Hibernate mapping of the entity: {@code insert into <table> (id, <columns>, version,
+ * <last modified date>) select coalesce(existing.id, nextval(<sequence>)), upserted.<columns>, 0, ? from (select 0 as
+ * position, ? as <column>, ... union all select 1, ...) upserted left join <table> existing on existing.<key> =
+ * upserted.<key> order by upserted.position on duplicate key update version = version + 1, <last modified date> =
+ * values(...), <columns> = values(...) returning id, version}, which gives back one row per entity, in order.
+ * <p>
+ * The rows of the existing keys keep their id, so they take no value of the id sequence, whose values each stand for
+ * a whole allocation of ids of the pooled optimizer. Only a key inserted by a concurrent transaction in the meantime
+ * takes one, which is then left unused. The values taken by this statement never collide with the ids Hibernate
+ * generates, as Hibernate only uses the ids up to the value it takes from the sequence.
+ *
+ * @param <T> the entity type.
+ */
+public abstract class AbstractUpsertRepository<T> extends AbstractNativeWriteRepository<T> implements UpsertRepository<T> {
+
+    private static final String UPSERTED = "upserted";
+
+    private static final String EXISTING = "existing";
+
+    private static final String POSITION = "position";
+
+    private final String keyProperty;
+
+    protected AbstractUpsertRepository(Class<T> domainClass, String keyProperty, String lastModifiedDateProperty) {
+        super(domainClass, lastModifiedDateProperty);
+        this.keyProperty = keyProperty;
+    }
+
+    @Override
+    public List<T> upsertAll(List<T> entities) {
+        if (entities.isEmpty()) {
+            return entities;
+        }
+        SessionImplementor session = session();
+        AbstractEntityPersister persister = persister();
+        PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+        List<Integer> properties = writtenProperties(persister);
+        String[] propertyNames = persister.getPropertyNames();
+        Type[] propertyTypes = persister.getPropertyTypes();
+        String table = persister.getTableName();
+        String idColumn = persister.getIdentifierColumnNames()[0];
+        String keyColumn = persister.getPropertyColumnNames(keyProperty)[0];
+        String versionColumn = persister.getVersionColumnName();
+        String lastModifiedDateColumn = persister.getPropertyColumnNames(lastModifiedDateProperty)[0];
+        String nextId = session
+            .getJdbcServices()
+            .getDialect()
+            .getSelectSequenceNextValString(
+                ((SequenceStyleGenerator) persister.getIdentifierGenerator()).getDatabaseStructure().getPhysicalName().render()
+            );
+
+        StringBuilder sql = new StringBuilder("insert into ").append(table).append(" (").append(idColumn);
+        properties.forEach(i -> sql.append(", ").append(persister.getPropertyColumnNames(i)[0]));
+        sql.append(", ").append(versionColumn).append(", ").append(lastModifiedDateColumn).append(") select coalesce(");
+        sql.append(EXISTING).append('.').append(idColumn).append(", ").append(nextId).append(')');
+        properties.forEach(i -> sql.append(", ").append(UPSERTED).append('.').append(persister.getPropertyColumnNames(i)[0]));
+        sql.append(", 0, :").append(lastModifiedDateProperty).append(" from (");
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        Set<Object> keys = new HashSet<>();
+        for (int row = 0; row < entities.size(); row++) {
+            T entity = entities.get(row);
+            sql.append(row == 0 ? "select " : " union all select ").append(row).append(" as ").append(POSITION);
+            for (int i : properties) {
+                Object value = persister.getPropertyValue(entity, i);
+                Type type = propertyTypes[i];
+                if (type.isEntityType()) {
+                    value = value != null ? persistenceUnitUtil.getIdentifier(value) : null;
+                    type = ((EntityType) type).getIdentifierOrUniqueKeyType(session.getFactory());
+                }
+                if (propertyNames[i].equals(keyProperty)) {
+                    if (value == null) {
+                        throw new IllegalArgumentException("The " + keyProperty + " of an upserted entity is missing");
+                    }
+                    // The rows of the same key would get the same id and version, and the last one would win
+                    if (!keys.add(value)) {
+                        throw new IllegalArgumentException("The " + keyProperty + " " + value + " is upserted more than once");
+                    }
+                }
+                String name = propertyNames[i] + row;
+                sql.append(", :").append(name).append(" as ").append(persister.getPropertyColumnNames(i)[0]);
+                parameters.put(name, new TypedParameterValue(type, value));
+            }
+        }
+        sql.append(") ").append(UPSERTED).append(" left join ").append(table).append(' ').append(EXISTING);
+        sql.append(" on ").append(EXISTING).append('.').append(keyColumn).append(" = ").append(UPSERTED).append('.').append(keyColumn);
+        sql.append(" order by ").append(UPSERTED).append('.').append(POSITION);
+        Instant lastModifiedDate = Instant.now();
+        parameters.put(lastModifiedDateProperty, lastModifiedDate);
+        // The columns are qualified, as the joined tables have the same ones
+        sql.append(" on duplicate key update ").append(table).append('.').append(versionColumn).append(" = ");
+        sql.append(table).append('.').append(versionColumn).append(" + 1");
+        sql.append(", ").append(table).append('.').append(lastModifiedDateColumn);
+        sql.append(" = values(").append(lastModifiedDateColumn).append(")");
+        properties
+            .stream()
+            .filter(i -> !propertyNames[i].equals(keyProperty))
+            .map(i -> persister.getPropertyColumnNames(i)[0])
+            .forEach(column -> sql.append(", ").append(table).append('.').append(column).append(" = values(").append(column).append(")"));
+        sql.append(" returning ").append(idColumn).append(", ").append(versionColumn);
+
+        entityManager.flush();
+        Query upsert = createNativeQuery(sql.toString());
+        parameters.forEach(upsert::setParameter);
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = upsert.getResultList();
+        List<Long> ids = new ArrayList<>(entities.size());
+        for (int row = 0; row < entities.size(); row++) {
+            T entity = entities.get(row);
+            Long id = ((Number) rows.get(row)[0]).longValue();
+            persister.getEntityTuplizer().setIdentifier(entity, id, session);
+            persister.setPropertyValue(entity, persister.getVersionProperty(), ((Number) rows.get(row)[1]).longValue());
+            persister.setPropertyValue(entity, persister.getPropertyIndex(lastModifiedDateProperty), lastModifiedDate);
+            ids.add(id);
+        }
+        detachAndEvict(ids);
+        return entities;
+    }
+
+    /**
+     * The single-column properties written by the statement: the basic properties and the foreign keys, except the
+     * version and the last modified date, which the statement sets itself.
+     */
+    private List<Integer> writtenProperties(AbstractEntityPersister persister) {
+        List<Integer> properties = new ArrayList<>();
+        String[] propertyNames = persister.getPropertyNames();
+        Type[] propertyTypes = persister.getPropertyTypes();
+        for (int i = 0; i < propertyNames.length; i++) {
+            if (
+                i != persister.getVersionProperty() &&
+                !propertyNames[i].equals(lastModifiedDateProperty) &&
+                !propertyTypes[i].isCollectionType() &&
+                persister.getPropertyInsertability()[i] &&
+                persister.getPropertyColumnNames(i).length == 1
+            ) {
+                properties.add(i);
+            }
+        }
+        return properties;
+    }
+}
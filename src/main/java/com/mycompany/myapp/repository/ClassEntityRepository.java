@@ -1,6 +1,12 @@
 package com.mycompany.myapp.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import com.mycompany.myapp.domain.ClassEntity;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.stereotype.Repository;
 
@@ -9,4 +15,19 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface ClassEntityRepository extends JpaRepository<ClassEntity, Long> {}
+public interface ClassEntityRepository
+    extends
+        ClassEntityRepositoryWithKeyset,
+        ClassEntityRepositoryWithPartialUpdate,
+        ClassEntityRepositoryWithUpsert,
+        JpaRepository<ClassEntity, Long> {
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select c from ClassEntity c order by c.id")
+    Stream<ClassEntity> streamAllBy();
+}
@@ -0,0 +1,12 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ClassEntity;
+
+public class ClassEntityRepositoryWithKeysetImpl
+    extends AbstractKeysetRepository<ClassEntity>
+    implements ClassEntityRepositoryWithKeyset {
+
+    public ClassEntityRepositoryWithKeysetImpl() {
+        super(ClassEntity.class);
+    }
+}
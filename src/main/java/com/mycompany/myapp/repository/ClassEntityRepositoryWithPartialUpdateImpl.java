@@ -0,0 +1,13 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ClassEntity;
+import com.mycompany.myapp.domain.ClassEntity_;
+
+public class ClassEntityRepositoryWithPartialUpdateImpl
+    extends AbstractPartialUpdateRepository<ClassEntity>
+    implements ClassEntityRepositoryWithPartialUpdate {
+
+    public ClassEntityRepositoryWithPartialUpdateImpl() {
+        super(ClassEntity.class, ClassEntity_.LAST_MODIFIED_DATE);
+    }
+}
@@ -0,0 +1,5 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ClassEntity;
+
+public interface ClassEntityRepositoryWithUpsert extends UpsertRepository<ClassEntity> {}
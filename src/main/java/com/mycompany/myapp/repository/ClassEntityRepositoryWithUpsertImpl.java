@@ -0,0 +1,11 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.ClassEntity;
+import com.mycompany.myapp.domain.ClassEntity_;
+
+public class ClassEntityRepositoryWithUpsertImpl extends AbstractUpsertRepository<ClassEntity> implements ClassEntityRepositoryWithUpsert {
+
+    public ClassEntityRepositoryWithUpsertImpl() {
+        super(ClassEntity.class, ClassEntity_.CLASS_ID, ClassEntity_.LAST_MODIFIED_DATE);
+    }
+}
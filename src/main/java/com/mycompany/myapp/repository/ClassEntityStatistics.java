@@ -0,0 +1,27 @@
+package com.mycompany.myapp.repository;
+
+/**
+ * Projection of the number and ages of the students of a {@link com.mycompany.myapp.domain.ClassEntity}.
+ */
+public interface ClassEntityStatistics {
+    Long getClassEntityId();
+
+    String getName();
+
+    Long getStudents();
+
+    /**
+     * @return the lowest age, or {@code null} if the classEntity has no student with an age.
+     */
+    Integer getMinAge();
+
+    /**
+     * @return the highest age, or {@code null} if the classEntity has no student with an age.
+     */
+    Integer getMaxAge();
+
+    /**
+     * @return the average age, or {@code null} if the classEntity has no student with an age.
+     */
+    Double getAverageAge();
+}
@@ -0,0 +1,109 @@
+package com.mycompany.myapp.repository;
+
+import java.util.List;
+import java.util.Objects;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position of the last row returned by a keyset (seek) paginated query.
+ * <p>
+ * The next page is made of the rows strictly after this position in the {@code (property, id)} order, so it is
+ * fetched with an index range scan whatever its depth, instead of skipping {@code offset} rows.
+ */
+public class Keyset {
+
+    public static final String ID_PROPERTY = "id";
+
+    private final String property;
+
+    private final String value;
+
+    private final Long id;
+
+    /**
+     * @param property the sort property.
+     * @param value the string form of the sort property of the last row, {@code null} if it was {@code null}.
+     * @param id the id of the last row.
+     */
+    public Keyset(String property, String value, Long id) {
+        this.property = Objects.requireNonNull(property);
+        this.value = value;
+        this.id = Objects.requireNonNull(id);
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    /**
+     * Parses the value of the sort property.
+     *
+     * @param type the type of the sort property.
+     * @return the value, {@code null} if it was {@code null}.
+     * @throws IllegalArgumentException if the type is not supported, or the value is not of this type.
+     */
+    public Comparable<?> parseValue(Class<?> type) {
+        if (value == null || String.class.equals(type)) {
+            return value;
+        }
+        if (Integer.class.equals(type)) {
+            return Integer.valueOf(value);
+        }
+        if (Long.class.equals(type)) {
+            return Long.valueOf(value);
+        }
+        throw new IllegalArgumentException("Unsupported keyset property type: " + type.getName());
+    }
+
+    /**
+     * Tells whether a sort can be used for keyset pagination: it is unsorted, or sorted on a single property, or on a
+     * property then on the id in the same direction, since the id is the tie-breaker of the keyset order.
+     *
+     * @param sort the requested sort.
+     * @return {@code true} if {@link #keysetOrder(Sort)} is the requested order.
+     */
+    public static boolean isKeysetSort(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() <= 1) {
+            return true;
+        }
+        Sort.Order first = orders.get(0);
+        Sort.Order second = orders.get(1);
+        return (
+            orders.size() == 2 &&
+            !ID_PROPERTY.equals(first.getProperty()) &&
+            ID_PROPERTY.equals(second.getProperty()) &&
+            first.getDirection() == second.getDirection()
+        );
+    }
+
+    /**
+     * Resolves the order used for keyset pagination: the first sort order which is not on the id, or the id in
+     * ascending order when the sort is unsorted or only on the id. The id is always used as the tie-breaker, and the
+     * other orders are ignored: see {@link #isKeysetSort(Sort)}.
+     *
+     * @param sort the requested sort.
+     * @return the keyset order.
+     */
+    public static Sort.Order keysetOrder(Sort sort) {
+        Sort.Order idOrder = sort.getOrderFor(ID_PROPERTY);
+        return sort
+            .stream()
+            .filter(order -> !ID_PROPERTY.equals(order.getProperty()))
+            .findFirst()
+            .orElse(idOrder != null ? idOrder : Sort.Order.asc(ID_PROPERTY));
+    }
+
+    @Override
+    public String toString() {
+        return "Keyset{" + "property='" + property + "'" + ", value='" + value + "'" + ", id=" + id + "}";
+    }
+}
@@ -0,0 +1,33 @@
+package com.mycompany.myapp.repository;
+
+import java.util.function.BiFunction;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Keyset (seek) pagination for a JPA entity with a {@code Long} id.
+ *
+ * @param <T> the entity type.
+ */
+public interface KeysetRepository<T> {
+    /**
+     * Returns the page of rows following the given keyset, without any count query, each one selected as a projection
+     * of the entity, such as the DTO of the offset pagination.
+     *
+     * @param after the position of the last row of the previous page, or {@code null} for the first page.
+     * @param pageable the page size and sort; only the order given by {@link Keyset#keysetOrder} is used, and the page number is ignored.
+     * @param resultClass the class of the projections.
+     * @param selection the selection of a projection from the root of the query, which may join other entities.
+     * @param <D> the projection type.
+     * @return the page of projections, which has a next page if more rows follow it.
+     */
+    <D> Slice<D> findAllAfter(
+        Keyset after,
+        Pageable pageable,
+        Class<D> resultClass,
+        BiFunction<CriteriaBuilder, Root<T>, Selection<D>> selection
+    );
+}
@@ -0,0 +1,22 @@
+package com.mycompany.myapp.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Partial update of a versioned JPA entity in a single {@code UPDATE} statement, without loading it first.
+ *
+ * @param <T> the entity type.
+ */
+public interface PartialUpdateRepository<T> {
+    /**
+     * Updates the columns of the non-null basic properties of the patch, increments the version of the entity and
+     * sets its last modified date, then reads the updated entity.
+     *
+     * @param patch the entity holding the id and the properties to update; its version and associations are ignored.
+     * @param versions the versions the entity must have to be updated, or {@code null} to update any version.
+     * @return the updated entity, or empty if no entity has the id.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the entity has none of the versions.
+     */
+    Optional<T> partialUpdate(T patch, Collection<Long> versions);
+}
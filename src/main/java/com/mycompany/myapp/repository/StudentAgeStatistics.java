@@ -0,0 +1,13 @@
+package com.mycompany.myapp.repository;
+
+/**
+ * Projection of the number of {@link com.mycompany.myapp.domain.Student}s of an age.
+ */
+public interface StudentAgeStatistics {
+    /**
+     * @return the age, or {@code null} for the students without one.
+     */
+    Integer getAge();
+
+    Long getStudents();
+}
@@ -1,5 +1,9 @@
 package com.mycompany.myapp.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_CACHE_MODE;
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
 import com.mycompany.myapp.domain.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -7,17 +11,73 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.stream.Stream;
+import javax.persistence.QueryHint;
 
 /**
  * Spring Data JPA repository for the Student entity.
  */
 @SuppressWarnings("unused")
 @Repository
-public interface StudentRepository extends JpaRepository<Student, Long> {
+public interface StudentRepository
+    extends
+        StudentRepositoryWithKeyset,
+        StudentRepositoryWithPartialUpdate,
+        StudentRepositoryWithUpsert,
+        JpaRepository<Student, Long>,
+        JpaSpecificationExecutor<Student> {
+
+    @Query("select s.id, s.name from Student s")
+    List<Object[]> findAllIdAndName();
+
+    @QueryHints(
+        {
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_READONLY, value = "true"),
+            @QueryHint(name = HINT_CACHE_MODE, value = "IGNORE"),
+        }
+    )
+    @Query("select s from Student s left join fetch s.classEntity order by s.id")
+    Stream<Student> streamAllBy();
+
+    @Query(
+        value = "select student from Student student left join fetch student.classEntity",
+        countQuery = "select count(student) from Student student"
+    )
+    Page<Student> findAllWithEagerRelationships(Pageable pageable);
+
+    /**
+     * The number and ages of the students of every classEntity, including the ones without students.
+     */
+    @Query(
+        "select c.id as classEntityId, c.name as name, count(s.id) as students, min(s.age) as minAge, max(s.age) as maxAge," +
+        " avg(s.age) as averageAge from ClassEntity c left join c.students s group by c.id, c.name order by c.id"
+    )
+    List<ClassEntityStatistics> findClassEntityStatistics();
+
+    /**
+     * The number of students of every age.
+     */
+    @Query("select s.age as age, count(s.id) as students from Student s group by s.age order by s.age")
+    List<StudentAgeStatistics> findAgeStatistics();
+
+    /**
+     * The roster of a classEntity, with the classEntity fetched in the same query.
+     */
+    @EntityGraph(attributePaths = "classEntity")
+    Page<Student> findAllByClassEntityId(Long classEntityId, Pageable pageable);
 
-    @Query("select s from Student s where 1=1" +
-           " and :name IS NULL OR (UPPER(s.name) LIKE CONCAT('%',UPPER(:name),'%'))" +
-           " and :age IS NULL OR s.age=:age")
-    Page<Student> search(@Param("name") String name,@Param("age") Long age, Pageable pageable);
+    /**
+     * Removes the students of a classEntity from it, in a single statement, before it is deleted. They keep its name as
+     * their classNam.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        "update Student s set s.storedClassNam = (select c.name from ClassEntity c where c.id = :classEntityId)," +
+        " s.classEntity = null, s.version = s.version + 1, s.lastModifiedDate = :lastModifiedDate" +
+        " where s.classEntity.id = :classEntityId"
+    )
+    int unassignClassEntity(@Param("classEntityId") Long classEntityId, @Param("lastModifiedDate") Instant lastModifiedDate);
 }
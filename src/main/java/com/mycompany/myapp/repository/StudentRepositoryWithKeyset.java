@@ -0,0 +1,5 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Student;
+
+public interface StudentRepositoryWithKeyset extends KeysetRepository<Student> {}
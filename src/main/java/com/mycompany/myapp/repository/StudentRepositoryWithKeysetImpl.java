@@ -0,0 +1,10 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Student;
+
+public class StudentRepositoryWithKeysetImpl extends AbstractKeysetRepository<Student> implements StudentRepositoryWithKeyset {
+
+    public StudentRepositoryWithKeysetImpl() {
+        super(Student.class);
+    }
+}
@@ -0,0 +1,33 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.domain.Student_;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+
+public class StudentRepositoryWithPartialUpdateImpl
+    extends AbstractPartialUpdateRepository<Student>
+    implements StudentRepositoryWithPartialUpdate {
+
+    public StudentRepositoryWithPartialUpdateImpl() {
+        super(Student.class, Student_.LAST_MODIFIED_DATE);
+    }
+
+    /**
+     * The classNam of a student with a classEntity is the name of the classEntity, so it is only patched for a student
+     * without classEntity.
+     */
+    @Override
+    protected String assignedValue(String property, String column, String parameter) {
+        if (Student_.STORED_CLASS_NAM.equals(property)) {
+            String classEntityColumn = persister().getPropertyColumnNames(Student_.CLASS_ENTITY)[0];
+            return "case when " + classEntityColumn + " is null then " + parameter + " else " + column + " end";
+        }
+        return parameter;
+    }
+
+    @Override
+    protected void fetch(Root<Student> root) {
+        root.fetch(Student_.classEntity, JoinType.LEFT);
+    }
+}
@@ -0,0 +1,11 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.domain.Student_;
+
+public class StudentRepositoryWithUpsertImpl extends AbstractUpsertRepository<Student> implements StudentRepositoryWithUpsert {
+
+    public StudentRepositoryWithUpsertImpl() {
+        super(Student.class, Student_.STUDENT_ID, Student_.LAST_MODIFIED_DATE);
+    }
+}
@@ -0,0 +1,107 @@
+package com.mycompany.myapp.repository;
+
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.domain.Student_;
+import java.util.Collection;
+import java.util.Locale;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.metamodel.SingularAttribute;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+/**
+ * Specifications of the {@link Student} searches.
+ * <p>
+ * A search only has the predicates of the criteria which are present, so that the database can use the index of each
+ * of them, instead of the {@code :criterion IS NULL OR ...} predicates which defeat the indexes.
+ */
+public final class StudentSpecifications {
+
+    /**
+     * Not a backslash, which MariaDB also reads as an escape in the string literal rendered by Hibernate.
+     */
+    private static final char LIKE_ESCAPE = '!';
+
+    private StudentSpecifications() {}
+
+    /**
+     * Students matching all the given criteria, ignoring the missing ones.
+     *
+     * @param name the text the name of the students contains, ignoring case, or {@code null}.
+     * @param age the age of the students, or {@code null}.
+     * @return the specification.
+     */
+    public static Specification<Student> search(String name, Long age) {
+        return Specification.where(nameContains(name)).and(hasAge(age));
+    }
+
+    /**
+     * Students with the given ids, and matching the given age unless it is {@code null}.
+     *
+     * @param ids the ids of the students.
+     * @param age the age of the students, or {@code null}.
+     * @return the specification.
+     */
+    public static Specification<Student> search(Collection<Long> ids, Long age) {
+        return Specification.<Student>where((root, query, cb) -> root.get(Student_.id).in(ids)).and(hasAge(age));
+    }
+
+    /**
+     * Students whose attribute starts with the given prefix.
+     * <p>
+     * The attribute is not converted to upper case, so that the database can use its index: the collation of its column
+     * decides whether the comparison ignores case.
+     *
+     * @param attribute the attribute of the students.
+     * @param prefix the prefix.
+     * @return the specification.
+     */
+    public static Specification<Student> startsWith(SingularAttribute<Student, String> attribute, String prefix) {
+        String pattern = escapeLike(prefix) + "%";
+        return (root, query, cb) -> cb.like(root.get(attribute), pattern, LIKE_ESCAPE);
+    }
+
+    /**
+     * Fetches the classEntity of the students in the same query, except in the count queries, which select no student.
+     * It adds no predicate.
+     *
+     * @return the specification.
+     */
+    public static Specification<Student> fetchClassEntity() {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType()) && !long.class.equals(query.getResultType())) {
+                root.fetch(Student_.classEntity, JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    private static Specification<Student> nameContains(String name) {
+        if (!StringUtils.hasText(name)) {
+            return null;
+        }
+        String pattern = "%" + escapeLike(name.toUpperCase(Locale.ROOT)) + "%";
+        return (root, query, cb) -> cb.like(cb.upper(root.get(Student_.name)), pattern, LIKE_ESCAPE);
+    }
+
+    private static Specification<Student> hasAge(Long age) {
+        if (age == null) {
+            return null;
+        }
+        // Student.age is an Integer, so is its parameter
+        Integer value = age.intValue();
+        return (root, query, cb) -> cb.equal(root.get(Student_.age), value);
+    }
+
+    private static String escapeLike(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '%' || c == '_' || c == LIKE_ESCAPE) {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
@@ -0,0 +1,21 @@
+package com.mycompany.myapp.repository;
+
+import java.util.List;
+
+/**
+ * Upsert of versioned JPA entities keyed by a unique column other than their id, in a single statement.
+ *
+ * @param <T> the entity type.
+ */
+public interface UpsertRepository<T> {
+    /**
+     * Inserts the entities, or updates the existing ones which have the same unique key, incrementing their version,
+     * in a single {@code INSERT ... ON DUPLICATE KEY UPDATE} statement. The id, version and last modified date of
+     * every entity are then set from the database. Only the inserted entities take a new id.
+     *
+     * @param entities the entities to upsert, in the order of the rows; their ids and versions are ignored.
+     * @return the same entities; the ones with version {@code 0} were inserted.
+     * @throws IllegalArgumentException if an entity has no key, or if two entities have the same key.
+     */
+    List<T> upsertAll(List<T> entities);
+}
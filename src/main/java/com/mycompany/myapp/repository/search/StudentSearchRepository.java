@@ -0,0 +1,47 @@
+package com.mycompany.myapp.repository.search;
+
+import com.mycompany.myapp.domain.Student;
+import java.util.List;
+
+/**
+ * Search index for the {@link Student} entity.
+ * <p>
+ * Implementations resolve substring queries on {@link Student#getName()} to entity ids without touching the
+ * {@code student} table, and are kept up to date by the service layer on every write.
+ */
+public interface StudentSearchRepository {
+    /**
+     * Add or refresh a student in the index.
+     *
+     * @param student the persisted student.
+     */
+    void index(Student student);
+
+    /**
+     * Remove a student from the index.
+     *
+     * @param id the id of the student.
+     */
+    void deleteFromIndexById(Long id);
+
+    /**
+     * Find the ids of the students whose name contains the given text, ignoring case.
+     *
+     * @param name the text to look for.
+     * @param limit the maximum number of ids returned.
+     * @return the matching ids, or only {@code limit} of them when there are more, in ascending order.
+     */
+    List<Long> searchIdsByName(String name, int limit);
+
+    /**
+     * Whether the index has been fully loaded and can answer queries.
+     *
+     * @return {@code true} once the initial load has completed.
+     */
+    boolean isReady();
+
+    /**
+     * Rebuild the whole index from the database.
+     */
+    void reindexAll();
+}
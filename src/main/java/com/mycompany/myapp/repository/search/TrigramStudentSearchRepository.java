@@ -0,0 +1,165 @@
+package com.mycompany.myapp.repository.search;
+
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.StudentRepository;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Embedded trigram inverted index over {@link Student#getName()}.
+ * <p>
+ * Every lower-cased name is split into its 3-character substrings, and each trigram points to the ids of the
+ * students containing it. A query of at least 3 characters only visits the ids listed under its rarest trigram,
+ * and each candidate is then checked with {@link String#contains(CharSequence)}, so results are exact. Shorter
+ * queries fall back to a scan of the in-memory names, which is still far cheaper than a table scan.
+ * <p>
+ * The index lives in the JVM heap: it is loaded once the application is ready and is then maintained by the
+ * service layer, so it is only consistent for a single application instance.
+ */
+@Repository
+public class TrigramStudentSearchRepository implements StudentSearchRepository {
+
+    private static final int GRAM_SIZE = 3;
+
+    private final Logger log = LoggerFactory.getLogger(TrigramStudentSearchRepository.class);
+
+    private final StudentRepository studentRepository;
+
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<Long>> idsByTrigram = new ConcurrentHashMap<>();
+
+    private volatile boolean ready;
+
+    public TrigramStudentSearchRepository(StudentRepository studentRepository) {
+        this.studentRepository = studentRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        reindexAll();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void reindexAll() {
+        log.debug("Rebuilding the Student search index");
+        ready = false;
+        synchronized (this) {
+            namesById.clear();
+            idsByTrigram.clear();
+            for (Object[] row : studentRepository.findAllIdAndName()) {
+                put((Long) row[0], (String) row[1]);
+            }
+        }
+        ready = true;
+        log.debug("Student search index contains {} entries", namesById.size());
+    }
+
+    @Override
+    public void index(Student student) {
+        if (student.getId() == null) {
+            return;
+        }
+        synchronized (this) {
+            remove(student.getId());
+            put(student.getId(), student.getName());
+        }
+    }
+
+    @Override
+    public void deleteFromIndexById(Long id) {
+        synchronized (this) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public List<Long> searchIdsByName(String name, int limit) {
+        String query = normalize(name);
+        List<Long> result = new ArrayList<>();
+        if (query.length() < GRAM_SIZE) {
+            for (Map.Entry<Long, String> entry : namesById.entrySet()) {
+                if (result.size() == limit) {
+                    break;
+                }
+                if (entry.getValue().contains(query)) {
+                    result.add(entry.getKey());
+                }
+            }
+        } else {
+            Set<Long> candidates = null;
+            for (String trigram : trigrams(query)) {
+                Set<Long> ids = idsByTrigram.get(trigram);
+                if (ids == null) {
+                    return Collections.emptyList();
+                }
+                if (candidates == null || ids.size() < candidates.size()) {
+                    candidates = ids;
+                }
+            }
+            for (Long id : candidates) {
+                if (result.size() == limit) {
+                    break;
+                }
+                String indexed = namesById.get(id);
+                if (indexed != null && indexed.contains(query)) {
+                    result.add(id);
+                }
+            }
+        }
+        Collections.sort(result);
+        return result;
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void put(Long id, String name) {
+        if (name == null) {
+            return;
+        }
+        String normalized = normalize(name);
+        namesById.put(id, normalized);
+        for (String trigram : trigrams(normalized)) {
+            idsByTrigram.computeIfAbsent(trigram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void remove(Long id) {
+        String previous = namesById.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String trigram : trigrams(previous)) {
+            Set<Long> ids = idsByTrigram.get(trigram);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    idsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> trigrams(String text) {
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            trigrams.add(text.substring(i, i + GRAM_SIZE));
+        }
+        return trigrams;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+}
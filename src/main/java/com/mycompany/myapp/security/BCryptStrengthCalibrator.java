@@ -0,0 +1,61 @@
+package com.mycompany.myapp.security;
+
+import java.time.Duration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Chooses the BCrypt strength from the time a hash should take on this machine.
+ * <p>
+ * The time of a hash doubles with each increment of the strength, so a single strength is measured and the others
+ * are extrapolated from it.
+ */
+public final class BCryptStrengthCalibrator {
+
+    private static final int BCRYPT_MIN_STRENGTH = 4;
+
+    private static final int BCRYPT_MAX_STRENGTH = 31;
+
+    private static final int SAMPLES = 2;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private BCryptStrengthCalibrator() {}
+
+    /**
+     * Returns the highest strength whose hash takes at most the target time, within the given bounds.
+     *
+     * @param targetHashTime the time a hash should take.
+     * @param minStrength the lowest strength to return.
+     * @param maxStrength the highest strength to return.
+     * @return the strength to use.
+     */
+    public static int calibrate(Duration targetHashTime, int minStrength, int maxStrength) {
+        if (minStrength < BCRYPT_MIN_STRENGTH || maxStrength > BCRYPT_MAX_STRENGTH || minStrength > maxStrength) {
+            throw new IllegalArgumentException("Invalid BCrypt strength bounds: " + minStrength + " to " + maxStrength);
+        }
+        if (minStrength == maxStrength || targetHashTime.isZero() || targetHashTime.isNegative()) {
+            return minStrength;
+        }
+        long targetNanos = targetHashTime.toNanos();
+        long hashNanos = measureHashNanos(minStrength);
+        int strength = minStrength;
+        while (strength < maxStrength && hashNanos * 2 <= targetNanos) {
+            strength++;
+            hashNanos *= 2;
+        }
+        return strength;
+    }
+
+    private static long measureHashNanos(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        // the first hash also loads and compiles the BCrypt code
+        encoder.encode(SAMPLE_PASSWORD);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        return fastest;
+    }
+}
@@ -8,47 +8,138 @@ import java.util.stream.Collectors;
 import org.hibernate.validator.internal.constraintvalidators.hv.EmailValidator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * Authenticate a user from the database.
+ * <p>
+ * Activated users are cached by lowercase login and by lowercase email, so that repeated logins do not query the
+ * database. The {@link com.mycompany.myapp.service.UserService} evicts a user with {@link #evictUser(String, String)}
+ * whenever its credentials, authorities or activation change.
+ * <p>
+ * The users are read in a read-write transaction, so that they are read from the primary database even when the
+ * read-only transactions run on a read replica: a lagging replica could otherwise put back in the cache the
+ * credentials which were just evicted.
+ * <p>
+ * When a user logs in with a password hashed with a lower strength than the current one, Spring Security hashes it
+ * again and stores it with {@link #updatePassword(UserDetails, String)}.
  */
 @Component("userDetailsService")
-public class DomainUserDetailsService implements UserDetailsService {
+public class DomainUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
+
+    public static final String USER_DETAILS_BY_LOGIN_CACHE = "userDetailsByLogin";
+
+    public static final String USER_DETAILS_BY_EMAIL_CACHE = "userDetailsByEmail";
 
     private final Logger log = LoggerFactory.getLogger(DomainUserDetailsService.class);
 
     private final UserRepository userRepository;
 
-    public DomainUserDetailsService(UserRepository userRepository) {
+    private final Cache userDetailsByLogin;
+
+    private final Cache userDetailsByEmail;
+
+    public DomainUserDetailsService(UserRepository userRepository, CacheManager cacheManager) {
         this.userRepository = userRepository;
+        this.userDetailsByLogin = Objects.requireNonNull(cacheManager.getCache(USER_DETAILS_BY_LOGIN_CACHE));
+        this.userDetailsByEmail = Objects.requireNonNull(cacheManager.getCache(USER_DETAILS_BY_EMAIL_CACHE));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional
     public UserDetails loadUserByUsername(final String login) {
         log.debug("Authenticating {}", login);
 
         if (new EmailValidator().isValid(login, null)) {
+            String lowercaseEmail = login.toLowerCase(Locale.ENGLISH);
+            CachedUserDetails cached = userDetailsByEmail.get(lowercaseEmail, CachedUserDetails.class);
+            if (cached != null) {
+                return cached.toUserDetails();
+            }
             return userRepository
                 .findOneWithAuthoritiesByEmailIgnoreCase(login)
                 .map(user -> createSpringSecurityUser(login, user))
+                .map(userDetails -> cache(userDetailsByEmail, lowercaseEmail, userDetails))
                 .orElseThrow(() -> new UsernameNotFoundException("User with email " + login + " was not found in the database"));
         }
 
         String lowercaseLogin = login.toLowerCase(Locale.ENGLISH);
+        CachedUserDetails cached = userDetailsByLogin.get(lowercaseLogin, CachedUserDetails.class);
+        if (cached != null) {
+            return cached.toUserDetails();
+        }
         return userRepository
             .findOneWithAuthoritiesByLogin(lowercaseLogin)
             .map(user -> createSpringSecurityUser(lowercaseLogin, user))
+            .map(userDetails -> cache(userDetailsByLogin, lowercaseLogin, userDetails))
             .orElseThrow(() -> new UsernameNotFoundException("User " + lowercaseLogin + " was not found in the database"));
     }
 
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        log.debug("Upgrading the password hash of {}", userDetails.getUsername());
+        userRepository
+            .findOneByLogin(userDetails.getUsername())
+            .ifPresent(user -> {
+                user.setPassword(newPassword);
+                evictUser(user.getLogin(), user.getEmail());
+            });
+        return new org.springframework.security.core.userdetails.User(userDetails.getUsername(), newPassword, userDetails.getAuthorities());
+    }
+
+    /**
+     * Evicts a user from the caches.
+     * <p>
+     * The user is evicted at once, and again when the current transaction completes, so that a concurrent login
+     * which read the user before the transaction committed cannot leave stale credentials in the cache.
+     *
+     * @param login the login of the user.
+     * @param email the email of the user, may be {@code null}.
+     */
+    public void evictUser(String login, String email) {
+        evictNow(login, email);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        evictNow(login, email);
+                    }
+                }
+            );
+        }
+    }
+
+    private void evictNow(String login, String email) {
+        if (login != null) {
+            userDetailsByLogin.evict(login.toLowerCase(Locale.ENGLISH));
+        }
+        if (email != null) {
+            userDetailsByEmail.evict(email.toLowerCase(Locale.ENGLISH));
+        }
+    }
+
+    /**
+     * Caches an immutable copy of the user details: the returned instance is handed over to Spring Security, which
+     * erases its password once the authentication succeeds.
+     */
+    private static UserDetails cache(Cache cache, String key, org.springframework.security.core.userdetails.User userDetails) {
+        cache.put(key, new CachedUserDetails(userDetails));
+        return userDetails;
+    }
+
     private org.springframework.security.core.userdetails.User createSpringSecurityUser(String lowercaseLogin, User user) {
         if (!user.isActivated()) {
             throw new UserNotActivatedException("User " + lowercaseLogin + " was not activated");
@@ -61,4 +152,23 @@ public class DomainUserDetailsService implements UserDetailsService {
             .collect(Collectors.toList());
         return new org.springframework.security.core.userdetails.User(user.getLogin(), user.getPassword(), grantedAuthorities);
     }
+
+    private static final class CachedUserDetails {
+
+        private final String login;
+
+        private final String password;
+
+        private final Collection<GrantedAuthority> authorities;
+
+        private CachedUserDetails(UserDetails userDetails) {
+            this.login = userDetails.getUsername();
+            this.password = userDetails.getPassword();
+            this.authorities = List.copyOf(userDetails.getAuthorities());
+        }
+
+        private UserDetails toUserDetails() {
+            return new org.springframework.security.core.userdetails.User(login, password, authorities);
+        }
+    }
 }
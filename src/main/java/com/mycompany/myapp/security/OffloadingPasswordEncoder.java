@@ -0,0 +1,93 @@
+package com.mycompany.myapp.security;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Password encoder which hashes passwords on a dedicated, bounded pool of threads.
+ * <p>
+ * The request threads wait for the hash instead of computing it, so that a burst of logins uses at most the
+ * threads of the pool, and once its queue is full further passwords are rejected at once with a
+ * {@link PasswordHashingRejectedException} instead of piling up.
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder, DisposableBean {
+
+    private final PasswordEncoder delegate;
+
+    private final ExecutorService executor;
+
+    private final SecurityMetersService securityMetersService;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, SecurityMetersService securityMetersService) {
+        this.delegate = delegate;
+        this.securityMetersService = securityMetersService;
+        this.executor =
+            securityMetersService.monitorPasswordHashingExecutor(
+                new ThreadPoolExecutor(
+                    threads,
+                    threads,
+                    0L,
+                    TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    new CustomizableThreadFactory("password-hashing-"),
+                    new ThreadPoolExecutor.AbortPolicy()
+                )
+            );
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return hash(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return hash(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> T hash(Supplier<T> hashing) {
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(hashing, executor);
+        } catch (RejectedExecutionException e) {
+            securityMetersService.trackPasswordHashingRejected();
+            throw new PasswordHashingRejectedException("Too many passwords are waiting to be hashed", e);
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new PasswordHashingRejectedException("Interrupted while waiting for a password to be hashed", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.mycompany.myapp.security;
+
+/**
+ * This exception is thrown when a password cannot be hashed because too many passwords are waiting to be hashed.
+ */
+public class PasswordHashingRejectedException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public PasswordHashingRejectedException(String message, Throwable t) {
+        super(message, t);
+    }
+}
@@ -1,13 +1,20 @@
 package com.mycompany.myapp.security.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.jwt.TokenValidationResult.FailureCause;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +25,7 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 import tech.jhipster.config.JHipsterProperties;
 
 @Component
@@ -29,6 +37,8 @@ public class TokenProvider {
 
     private static final String INVALID_JWT_TOKEN = "Invalid JWT token.";
 
+    private static final long MAX_VERIFIED_TOKENS = 10_000;
+
     private final Key key;
 
     private final JwtParser jwtParser;
@@ -39,6 +49,16 @@ public class TokenProvider {
 
     private final SecurityMetersService securityMetersService;
 
+    /**
+     * Tokens whose signature has already been verified, keyed by their SHA-256 digest so that the bearer tokens
+     * themselves are not kept in memory. Every entry expires with its token.
+     */
+    private final Cache<String, VerifiedToken> verifiedTokens = Caffeine
+        .newBuilder()
+        .maximumSize(MAX_VERIFIED_TOKENS)
+        .expireAfter(new VerifiedTokenExpiry())
+        .build();
+
     public TokenProvider(JHipsterProperties jHipsterProperties, SecurityMetersService securityMetersService) {
         byte[] keyBytes;
         String secret = jHipsterProperties.getSecurity().getAuthentication().getJwt().getBase64Secret();
@@ -83,44 +103,134 @@ public class TokenProvider {
     }
 
     public Authentication getAuthentication(String token) {
-        Claims claims = jwtParser.parseClaimsJws(token).getBody();
-
-        Collection<? extends GrantedAuthority> authorities = Arrays
-            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-            .filter(auth -> !auth.trim().isEmpty())
-            .map(SimpleGrantedAuthority::new)
-            .collect(Collectors.toList());
-
-        User principal = new User(claims.getSubject(), "", authorities);
-
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        String digest = digest(token);
+        VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest);
+        if (verifiedToken == null) {
+            verifiedToken = verify(token);
+            cache(digest, verifiedToken);
+        }
+        return verifiedToken.toAuthentication(token);
     }
 
     public boolean validateToken(String authToken) {
+        return resolveAuthentication(authToken).isValid();
+    }
+
+    /**
+     * Validates a token and builds the {@link Authentication} it carries, parsing the token at most once.
+     * <p>
+     * Tokens that have already been verified are served from a cache until they expire. Rejected tokens are counted
+     * by cause in the {@link SecurityMetersService}.
+     *
+     * @param authToken the token to validate.
+     * @return the authentication, or the reason why the token is rejected.
+     */
+    public TokenValidationResult resolveAuthentication(String authToken) {
+        String digest = null;
+        if (StringUtils.hasText(authToken)) {
+            digest = digest(authToken);
+            VerifiedToken verifiedToken = verifiedTokens.getIfPresent(digest);
+            if (verifiedToken != null) {
+                this.securityMetersService.trackTokenCacheHit();
+
+                return TokenValidationResult.valid(verifiedToken.toAuthentication(authToken));
+            }
+            this.securityMetersService.trackTokenCacheMiss();
+        }
         try {
-            jwtParser.parseClaimsJws(authToken);
+            VerifiedToken verifiedToken = verify(authToken);
+            cache(digest, verifiedToken);
 
-            return true;
+            return TokenValidationResult.valid(verifiedToken.toAuthentication(authToken));
         } catch (ExpiredJwtException e) {
             this.securityMetersService.trackTokenExpired();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.EXPIRED);
         } catch (UnsupportedJwtException e) {
             this.securityMetersService.trackTokenUnsupported();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.UNSUPPORTED);
         } catch (MalformedJwtException e) {
             this.securityMetersService.trackTokenMalformed();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.MALFORMED);
         } catch (SignatureException e) {
             this.securityMetersService.trackTokenInvalidSignature();
 
             log.trace(INVALID_JWT_TOKEN, e);
+            return TokenValidationResult.invalid(FailureCause.INVALID_SIGNATURE);
         } catch (IllegalArgumentException e) { // TODO: should we let it bubble (no catch), to avoid defensive programming and follow the fail-fast principle?
             log.error("Token validation error {}", e.getMessage());
+            return TokenValidationResult.invalid(FailureCause.INVALID_ARGUMENT);
+        }
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        Collection<? extends GrantedAuthority> authorities = Arrays
+            .stream(claims.get(AUTHORITIES_KEY).toString().split(","))
+            .filter(auth -> !auth.trim().isEmpty())
+            .map(SimpleGrantedAuthority::new)
+            .collect(Collectors.toList());
+
+        User principal = new User(claims.getSubject(), "", authorities);
+
+        return new VerifiedToken(principal, claims.getExpiration());
+    }
+
+    private void cache(String digest, VerifiedToken verifiedToken) {
+        // tokens without an expiration are never cached, as they could never be evicted
+        if (digest != null && verifiedToken.expiration != null) {
+            verifiedTokens.put(digest, verifiedToken);
         }
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static final class VerifiedToken {
+
+        private final User principal;
 
-        return false;
+        private final Date expiration;
+
+        private VerifiedToken(User principal, Date expiration) {
+            this.principal = principal;
+            this.expiration = expiration;
+        }
+
+        private Authentication toAuthentication(String token) {
+            // a new Authentication is built for every request, as it is mutable
+            return new UsernamePasswordAuthenticationToken(principal, token, principal.getAuthorities());
+        }
+    }
+
+    private static final class VerifiedTokenExpiry implements Expiry<String, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(String digest, VerifiedToken verifiedToken, long currentTime) {
+            long millisToExpiration = verifiedToken.expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, millisToExpiration));
+        }
+
+        @Override
+        public long expireAfterUpdate(String digest, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return expireAfterCreate(digest, verifiedToken, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String digest, VerifiedToken verifiedToken, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
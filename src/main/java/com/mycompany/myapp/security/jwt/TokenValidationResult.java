@@ -0,0 +1,61 @@
+package com.mycompany.myapp.security.jwt;
+
+import java.util.Objects;
+import org.springframework.security.core.Authentication;
+
+/**
+ * Outcome of the validation of a JWT: either the {@link Authentication} it carries, or the reason it was rejected.
+ */
+public final class TokenValidationResult {
+
+    /**
+     * Why a JWT was rejected.
+     */
+    public enum FailureCause {
+        EXPIRED,
+        UNSUPPORTED,
+        MALFORMED,
+        INVALID_SIGNATURE,
+        INVALID_ARGUMENT
+    }
+
+    private final Authentication authentication;
+
+    private final FailureCause failureCause;
+
+    private TokenValidationResult(Authentication authentication, FailureCause failureCause) {
+        this.authentication = authentication;
+        this.failureCause = failureCause;
+    }
+
+    public static TokenValidationResult valid(Authentication authentication) {
+        return new TokenValidationResult(Objects.requireNonNull(authentication), null);
+    }
+
+    public static TokenValidationResult invalid(FailureCause failureCause) {
+        return new TokenValidationResult(null, Objects.requireNonNull(failureCause));
+    }
+
+    public boolean isValid() {
+        return authentication != null;
+    }
+
+    /**
+     * @return the authentication carried by the token, or {@code null} if the token is invalid.
+     */
+    public Authentication getAuthentication() {
+        return authentication;
+    }
+
+    /**
+     * @return why the token was rejected, or {@code null} if the token is valid.
+     */
+    public FailureCause getFailureCause() {
+        return failureCause;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "TokenValidationResult{valid}" : "TokenValidationResult{failureCause=" + failureCause + "}";
+    }
+}
@@ -0,0 +1,120 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.ClassEntity;
+import com.mycompany.myapp.domain.ClassEntity_;
+import com.mycompany.myapp.repository.ClassEntityRepository;
+import com.mycompany.myapp.repository.Keyset;
+import com.mycompany.myapp.service.dto.ClassEntityDTO;
+import com.mycompany.myapp.service.dto.VersionSummaryDTO;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for listing {@link ClassEntity} entities as {@link ClassEntityDTO} projections, which the persistence
+ * context does not manage.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ClassEntityQueryService {
+
+    private final Logger log = LoggerFactory.getLogger(ClassEntityQueryService.class);
+
+    private final ClassEntityRepository classEntityRepository;
+
+    private final EntityManager entityManager;
+
+    public ClassEntityQueryService(ClassEntityRepository classEntityRepository, EntityManager entityManager) {
+        this.classEntityRepository = classEntityRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return a {@link Page} of {@link ClassEntityDTO}, with their total count.
+     * @param page The page, which should be returned.
+     * @return the entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ClassEntityDTO> findAll(Pageable page) {
+        log.debug("find all, page: {}", page);
+        return PageableExecutionUtils.getPage(findDTOs(page), page, classEntityRepository::count);
+    }
+
+    /**
+     * Return a {@link Page} of {@link ClassEntityDTO}, whose total count is already known.
+     * @param page The page, which should be returned.
+     * @param total The number of entities.
+     * @return the entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<ClassEntityDTO> findAll(Pageable page, long total) {
+        log.debug("find all, page: {}, total: {}", page, total);
+        return new PageImpl<>(findDTOs(page), page, total);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link ClassEntityDTO} following the given keyset, without counting them.
+     * @param after The position of the last entity of the previous page, or {@code null} for the first page.
+     * @param page The page size and sort.
+     * @return the entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ClassEntityDTO> findAllAfter(Keyset after, Pageable page) {
+        log.debug("find all after : {}, page: {}", after, page);
+        return classEntityRepository.findAllAfter(after, page, ClassEntityDTO.class, ClassEntityQueryService::selectDTO);
+    }
+
+    /**
+     * Return the {@link VersionSummaryDTO} of all the entities. It also counts them.
+     * @return the summary of the entities.
+     */
+    @Transactional(readOnly = true)
+    public VersionSummaryDTO findVersionSummary() {
+        log.debug("find version summary");
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VersionSummaryDTO> query = cb.createQuery(VersionSummaryDTO.class);
+        Root<ClassEntity> root = query.from(ClassEntity.class);
+        query.select(
+            cb.construct(
+                VersionSummaryDTO.class,
+                cb.count(root),
+                cb.sum(root.get(ClassEntity_.version)),
+                cb.greatest(root.get(ClassEntity_.lastModifiedDate))
+            )
+        );
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<ClassEntityDTO> findDTOs(Pageable page) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ClassEntityDTO> query = cb.createQuery(ClassEntityDTO.class);
+        Root<ClassEntity> root = query.from(ClassEntity.class);
+        query.select(selectDTO(cb, root)).orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        return entityManager
+            .createQuery(query)
+            .setFirstResult((int) page.getOffset())
+            .setMaxResults(page.getPageSize())
+            .getResultList();
+    }
+
+    /**
+     * The {@link ClassEntityDTO} of a classEntity, the same in every pagination mode.
+     */
+    private static Selection<ClassEntityDTO> selectDTO(CriteriaBuilder cb, Root<ClassEntity> root) {
+        return cb.construct(ClassEntityDTO.class, root.get(ClassEntity_.id), root.get(ClassEntity_.classId), root.get(ClassEntity_.name));
+    }
+}
@@ -0,0 +1,68 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import javax.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Service for exporting whole tables as newline-delimited JSON (NDJSON).
+ * <p>
+ * Rows are read from a database cursor and written to the output one by one, and every entity is detached from the
+ * persistence context once written, so the memory used by an export does not depend on the size of the table.
+ */
+@Service
+public class ExportService {
+
+    private final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    private final EntityManager entityManager;
+
+    private final ObjectWriter ndjsonWriter;
+
+    public ExportService(EntityManager entityManager, ObjectMapper objectMapper) {
+        this.entityManager = entityManager;
+        this.ndjsonWriter = objectMapper.writer().withRootValueSeparator("\n").without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Writes every entity of the stream as one JSON document per line.
+     *
+     * @param entities opens the stream of entities to export; it is called in a read-only transaction, which stays open until the export is complete.
+     * @param out the output stream, which is not closed.
+     * @param <T> the type of the entities.
+     * @return the number of exported entities.
+     * @throws IOException if the output stream cannot be written.
+     */
+    @Transactional(readOnly = true)
+    public <T> long exportAsNdjson(Supplier<Stream<T>> entities, OutputStream out) throws IOException {
+        long count = 0;
+        try (
+            Stream<T> stream = entities.get();
+            JsonGenerator generator = ndjsonWriter.getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+        ) {
+            Iterator<T> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                T entity = iterator.next();
+                ndjsonWriter.writeValue(generator, entity);
+                entityManager.detach(entity);
+                count++;
+            }
+            if (count > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        log.debug("Exported {} entities", count);
+        return count;
+    }
+}
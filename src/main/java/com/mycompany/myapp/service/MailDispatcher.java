@@ -0,0 +1,233 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.MailMetersService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import javax.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Service sending the emails prepared by the {@link MailService}.
+ * <p>
+ * Emails are queued, and a single worker thread sends them in batches of up to {@code application.mail.batch-size},
+ * each batch over a single SMTP connection. The emails which could not be sent are sent again after a delay, which
+ * doubles with each attempt, until {@code application.mail.max-attempts} is reached. The worker keeps sending the
+ * queued emails while a retry is delayed.
+ */
+@Service
+public class MailDispatcher implements SmartLifecycle {
+
+    /**
+     * Stopped after the web server, so that the emails queued by the last requests are still sent.
+     */
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private static final long POLL_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(500);
+
+    private static final long STOP_TIMEOUT_MILLIS = 10000;
+
+    private final Logger log = LoggerFactory.getLogger(MailDispatcher.class);
+
+    private final JavaMailSender javaMailSender;
+
+    private final MailMetersService mailMetersService;
+
+    private final BlockingQueue<MimeMessage> queue;
+
+    private final DelayQueue<Retry> retries = new DelayQueue<>();
+
+    private final int batchSize;
+
+    private final int maxAttempts;
+
+    private final long initialBackoffMillis;
+
+    private volatile boolean running;
+
+    private Thread worker;
+
+    public MailDispatcher(JavaMailSender javaMailSender, ApplicationProperties applicationProperties, MailMetersService mailMetersService) {
+        ApplicationProperties.Mail mailProperties = applicationProperties.getMail();
+        this.javaMailSender = javaMailSender;
+        this.mailMetersService = mailMetersService;
+        this.queue = new ArrayBlockingQueue<>(mailProperties.getQueueCapacity());
+        this.batchSize = mailProperties.getBatchSize();
+        this.maxAttempts = mailProperties.getMaxAttempts();
+        this.initialBackoffMillis = mailProperties.getInitialBackoffMillis();
+        mailMetersService.monitorQueue(queue);
+    }
+
+    /**
+     * Queues an email to be sent.
+     *
+     * @param message the email.
+     * @return {@code false} if the queue is full, and the email is dropped.
+     */
+    public boolean dispatch(MimeMessage message) {
+        if (!queue.offer(message)) {
+            log.warn("Email queue is full, an email is dropped");
+            mailMetersService.trackQueueFull();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::sendQueuedEmails, "mail-dispatcher");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Stops the worker thread once the queued emails are sent, or after a timeout.
+     */
+    @Override
+    public void stop() {
+        Thread stoppedWorker;
+        synchronized (this) {
+            running = false;
+            stoppedWorker = worker;
+            worker = null;
+        }
+        if (stoppedWorker != null) {
+            try {
+                stoppedWorker.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            int notSent = queue.size() + retries.stream().mapToInt(retry -> retry.messages.size()).sum();
+            if (notSent > 0) {
+                log.warn("Stopped with {} emails not sent", notSent);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void sendQueuedEmails() {
+        while (running || !queue.isEmpty() || !retries.isEmpty()) {
+            try {
+                Retry retry = retries.poll();
+                if (retry != null) {
+                    sendBatch(retry.messages, retry.attempt);
+                    continue;
+                }
+                MimeMessage first = queue.poll(pollTimeoutNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    List<MimeMessage> batch = new ArrayList<>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    sendBatch(batch, 1);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                // The worker must keep sending the other emails
+                log.error("Emails could not be sent", e);
+            }
+        }
+    }
+
+    /**
+     * Waits for a queued email until the next retry is due.
+     */
+    private long pollTimeoutNanos() {
+        Retry next = retries.peek();
+        return next == null ? POLL_TIMEOUT_NANOS : Math.min(Math.max(next.getDelay(TimeUnit.NANOSECONDS), 0), POLL_TIMEOUT_NANOS);
+    }
+
+    private void sendBatch(List<MimeMessage> batch, int attempt) {
+        List<MimeMessage> pending = send(batch);
+        if (pending.isEmpty()) {
+            return;
+        }
+        if (attempt >= maxAttempts) {
+            log.warn("{} emails could not be sent after {} attempts", pending.size(), attempt);
+            mailMetersService.trackSendFailed(pending.size());
+            return;
+        }
+        retries.add(new Retry(pending, attempt + 1, initialBackoffMillis << (attempt - 1)));
+    }
+
+    /**
+     * Sends the emails over a single SMTP connection.
+     *
+     * @return the emails which could not be sent.
+     */
+    private List<MimeMessage> send(List<MimeMessage> messages) {
+        long start = System.nanoTime();
+        try {
+            javaMailSender.send(messages.toArray(new MimeMessage[0]));
+            mailMetersService.trackBatchSent(System.nanoTime() - start, messages.size());
+            log.debug("Sent {} emails", messages.size());
+            return List.of();
+        } catch (MailException e) {
+            // A MailSendException may tell which emails were refused, the others were sent
+            List<MimeMessage> failed = messages;
+            if (e instanceof MailSendException && !CollectionUtils.isEmpty(((MailSendException) e).getFailedMessages())) {
+                Map<Object, Exception> failedMessages = ((MailSendException) e).getFailedMessages();
+                failed = messages.stream().filter(failedMessages::containsKey).collect(Collectors.toList());
+            }
+            mailMetersService.trackBatchFailed(System.nanoTime() - start, messages.size() - failed.size());
+            log.warn("{} of {} emails could not be sent", failed.size(), messages.size(), e);
+            return failed;
+        }
+    }
+
+    /**
+     * Emails to send again once a delay has elapsed.
+     */
+    private static final class Retry implements Delayed {
+
+        private final List<MimeMessage> messages;
+
+        private final int attempt;
+
+        private final long dueNanos;
+
+        private Retry(List<MimeMessage> messages, int attempt, long delayMillis) {
+            this.messages = messages;
+            this.attempt = attempt;
+            this.dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -20,7 +20,8 @@ import tech.jhipster.config.JHipsterProperties;
 /**
  * Service for sending emails.
  * <p>
- * We use the {@link Async} annotation to send emails asynchronously.
+ * We use the {@link Async} annotation to render the emails from templates asynchronously. Every email is then handed
+ * over to the {@link MailDispatcher}, which sends them from its own queue.
  */
 @Service
 public class MailService {
@@ -35,6 +36,8 @@ public class MailService {
 
     private final JavaMailSender javaMailSender;
 
+    private final MailDispatcher mailDispatcher;
+
     private final MessageSource messageSource;
 
     private final SpringTemplateEngine templateEngine;
@@ -42,16 +45,17 @@ public class MailService {
     public MailService(
         JHipsterProperties jHipsterProperties,
         JavaMailSender javaMailSender,
+        MailDispatcher mailDispatcher,
         MessageSource messageSource,
         SpringTemplateEngine templateEngine
     ) {
         this.jHipsterProperties = jHipsterProperties;
         this.javaMailSender = javaMailSender;
+        this.mailDispatcher = mailDispatcher;
         this.messageSource = messageSource;
         this.templateEngine = templateEngine;
     }
 
-    @Async
     public void sendEmail(String to, String subject, String content, boolean isMultipart, boolean isHtml) {
         log.debug(
             "Send email[multipart '{}' and html '{}'] to '{}' with subject '{}' and content={}",
@@ -70,10 +74,11 @@ public class MailService {
             message.setFrom(jHipsterProperties.getMail().getFrom());
             message.setSubject(subject);
             message.setText(content, isHtml);
-            javaMailSender.send(mimeMessage);
-            log.debug("Sent email to User '{}'", to);
+            if (mailDispatcher.dispatch(mimeMessage)) {
+                log.debug("Queued email to User '{}'", to);
+            }
         } catch (MailException | MessagingException e) {
-            log.warn("Email could not be sent to user '{}'", to, e);
+            log.warn("Email could not be prepared for user '{}'", to, e);
         }
     }
 
@@ -0,0 +1,258 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.*; // for static metamodels
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.Keyset;
+import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.repository.StudentSpecifications;
+import com.mycompany.myapp.service.criteria.StudentCriteria;
+import com.mycompany.myapp.service.dto.StudentDTO;
+import com.mycompany.myapp.service.dto.VersionSummaryDTO;
+import com.mycompany.myapp.service.filter.PrefixStringFilter;
+import java.util.List;
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Join;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import javax.persistence.metamodel.SingularAttribute;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tech.jhipster.service.QueryService;
+
+/**
+ * Service for executing complex queries for {@link Student} entities in the database.
+ * The main input is a {@link StudentCriteria} which gets converted to {@link Specification},
+ * in a way that all the filters must apply.
+ * It returns a {@link List} of {@link StudentDTO}, a {@link Page} with the total count, or a {@link Slice} without it.
+ */
+@Service
+@Transactional(readOnly = true)
+public class StudentQueryService extends QueryService<Student> {
+
+    private final Logger log = LoggerFactory.getLogger(StudentQueryService.class);
+
+    private final StudentRepository studentRepository;
+
+    private final EntityManager entityManager;
+
+    public StudentQueryService(StudentRepository studentRepository, EntityManager entityManager) {
+        this.studentRepository = studentRepository;
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Return a {@link List} of {@link StudentDTO} which matches the criteria from the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public List<StudentDTO> findByCriteria(StudentCriteria criteria) {
+        log.debug("find by criteria : {}", criteria);
+        final Specification<Student> specification = createSpecification(criteria);
+        return findDTOs(specification, Pageable.unpaged(), 0);
+    }
+
+    /**
+     * Return a {@link Page} of {@link StudentDTO} which matches the criteria from the database, with their total count.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<StudentDTO> findByCriteria(StudentCriteria criteria, Pageable page) {
+        log.debug("find by criteria : {}, page: {}", criteria, page);
+        final Specification<Student> specification = createSpecification(criteria);
+        List<StudentDTO> content = findDTOs(specification, page, page.getPageSize());
+        return PageableExecutionUtils.getPage(content, page, () -> studentRepository.count(specification));
+    }
+
+    /**
+     * Return a {@link Page} of {@link StudentDTO} which matches the criteria from the database, whose total count is
+     * already known.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @param total The number of matching entities.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Page<StudentDTO> findByCriteria(StudentCriteria criteria, Pageable page, long total) {
+        log.debug("find by criteria : {}, page: {}, total: {}", criteria, page, total);
+        final Specification<Student> specification = createSpecification(criteria);
+        return new PageImpl<>(findDTOs(specification, page, page.getPageSize()), page, total);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link StudentDTO} which matches the criteria from the database, without counting them:
+     * one more entity is fetched to know whether a next page exists.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @param page The page, which should be returned.
+     * @return the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<StudentDTO> findSliceByCriteria(StudentCriteria criteria, Pageable page) {
+        log.debug("find slice by criteria : {}, page: {}", criteria, page);
+        final Specification<Student> specification = createSpecification(criteria);
+        List<StudentDTO> content = findDTOs(specification, page, page.getPageSize() + 1);
+        boolean hasNext = content.size() > page.getPageSize();
+        if (hasNext) {
+            content = content.subList(0, page.getPageSize());
+        }
+        return new SliceImpl<>(content, page, hasNext);
+    }
+
+    /**
+     * Return a {@link Slice} of {@link StudentDTO} following the given keyset, without counting them.
+     * @param after The position of the last entity of the previous page, or {@code null} for the first page.
+     * @param page The page size and sort.
+     * @return the entities.
+     */
+    @Transactional(readOnly = true)
+    public Slice<StudentDTO> findAllAfter(Keyset after, Pageable page) {
+        log.debug("find all after : {}, page: {}", after, page);
+        return studentRepository.findAllAfter(after, page, StudentDTO.class, StudentQueryService::selectDTO);
+    }
+
+    /**
+     * Return the number of matching entities in the database.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the number of matching entities.
+     */
+    @Transactional(readOnly = true)
+    public long countByCriteria(StudentCriteria criteria) {
+        log.debug("count by criteria : {}", criteria);
+        final Specification<Student> specification = createSpecification(criteria);
+        return studentRepository.count(specification);
+    }
+
+    /**
+     * Return the {@link VersionSummaryDTO} of the matching entities, and of their classEntity, which a
+     * {@link StudentDTO} includes. It also counts them.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the summary of the matching entities.
+     */
+    @Transactional(readOnly = true)
+    public VersionSummaryDTO findVersionSummaryByCriteria(StudentCriteria criteria) {
+        log.debug("find version summary by criteria : {}", criteria);
+        final Specification<Student> specification = createSpecification(criteria);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<VersionSummaryDTO> query = cb.createQuery(VersionSummaryDTO.class);
+        Root<Student> root = query.from(Student.class);
+        Join<Student, ClassEntity> classEntity = root.join(Student_.classEntity, JoinType.LEFT);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(
+            cb.construct(
+                VersionSummaryDTO.class,
+                cb.count(root),
+                cb.sum(cb.sum(root.get(Student_.version), cb.coalesce(classEntity.get(ClassEntity_.version), 0L))),
+                cb.greatest(root.get(Student_.lastModifiedDate)),
+                cb.greatest(classEntity.get(ClassEntity_.lastModifiedDate))
+            )
+        );
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * Function to convert {@link StudentCriteria} to a {@link Specification}, with only the predicates of the filters
+     * which are present.
+     * @param criteria The object which holds all the filters, which the entities should match.
+     * @return the matching {@link Specification} of the entity.
+     */
+    protected Specification<Student> createSpecification(StudentCriteria criteria) {
+        Specification<Student> specification = Specification.where(null);
+        if (criteria != null) {
+            if (criteria.getId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getId(), Student_.id));
+            }
+            if (criteria.getStudentId() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getStudentId(), Student_.studentId));
+            }
+            if (criteria.getName() != null) {
+                specification = specification.and(buildStringSpecification(criteria.getName(), Student_.name));
+            }
+            if (criteria.getAge() != null) {
+                specification = specification.and(buildRangeSpecification(criteria.getAge(), Student_.age));
+            }
+            if (criteria.getClassNam() != null) {
+                specification = specification.and(buildPrefixStringSpecification(criteria.getClassNam(), Student_.classNam));
+            }
+            if (criteria.getAddress() != null) {
+                specification = specification.and(buildPrefixStringSpecification(criteria.getAddress(), Student_.address));
+            }
+            if (criteria.getClassEntityId() != null) {
+                // The id of the classEntity is the foreign key of the student, no join is needed
+                specification =
+                    specification.and(
+                        buildSpecification(criteria.getClassEntityId(), root -> root.get(Student_.classEntity).get(ClassEntity_.id))
+                    );
+            }
+        }
+        return specification;
+    }
+
+    /**
+     * Selects the columns of the matching students, and of their classEntity, straight into {@link StudentDTO}s: no
+     * entity is managed by the persistence context, which has nothing to snapshot or to flush.
+     */
+    private List<StudentDTO> findDTOs(Specification<Student> specification, Pageable page, int maxResults) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<StudentDTO> query = cb.createQuery(StudentDTO.class);
+        Root<Student> root = query.from(Student.class);
+        Selection<StudentDTO> selection = selectDTO(cb, root);
+        Predicate predicate = specification.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(selection).orderBy(QueryUtils.toOrders(page.getSort(), root, cb));
+
+        TypedQuery<StudentDTO> typedQuery = entityManager.createQuery(query);
+        if (page.isPaged()) {
+            typedQuery.setFirstResult((int) page.getOffset()).setMaxResults(maxResults);
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * The {@link StudentDTO} of a student, with its classEntity from a left join, the same in every pagination mode.
+     */
+    private static Selection<StudentDTO> selectDTO(CriteriaBuilder cb, Root<Student> root) {
+        Join<Student, ClassEntity> classEntity = root.join(Student_.classEntity, JoinType.LEFT);
+        return cb.construct(
+            StudentDTO.class,
+            root.get(Student_.id),
+            root.get(Student_.studentId),
+            root.get(Student_.name),
+            root.get(Student_.age),
+            root.get(Student_.classNam),
+            root.get(Student_.address),
+            classEntity.get(ClassEntity_.id),
+            classEntity.get(ClassEntity_.classId),
+            classEntity.get(ClassEntity_.name)
+        );
+    }
+
+    private Specification<Student> buildPrefixStringSpecification(PrefixStringFilter filter, SingularAttribute<Student, String> field) {
+        Specification<Student> specification = Specification.where(buildStringSpecification(filter, field));
+        if (filter.getStartsWith() != null) {
+            specification = specification.and(StudentSpecifications.startsWith(field, filter.getStartsWith()));
+        }
+        return specification;
+    }
+}
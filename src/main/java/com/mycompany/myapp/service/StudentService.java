@@ -2,11 +2,133 @@ package com.mycompany.myapp.service;
 
 import com.mycompany.myapp.domain.Request.StudentRequest;
 import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.ClassEntityStatistics;
+import com.mycompany.myapp.repository.StudentAgeStatistics;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
-import java.util.List;
-
+/**
+ * Service Interface for managing {@link Student}.
+ */
 public interface StudentService {
-//    Page<Student> search(StudentRequest student, Pageable page);
+    /**
+     * Cache of the statistics, which are as old as its time to live at most.
+     */
+    String STATISTICS_CACHE = "studentStatistics";
+
+    /**
+     * Save a student.
+     *
+     * @param student the entity to save.
+     * @return the persisted entity.
+     */
+    Student save(Student student);
+
+    /**
+     * Updates a student, unless its version is not the current one.
+     *
+     * @param student the entity to update.
+     * @return the persisted entity, with its new version.
+     */
+    Student update(Student student);
+
+    /**
+     * Save a chunk of new students in a single transaction, using JDBC batch inserts.
+     *
+     * @param students the entities to save.
+     * @return the persisted entities.
+     */
+    List<Student> saveAll(List<Student> students);
+
+    /**
+     * Creates a student, or updates the one with the same studentId, in a single statement.
+     *
+     * @param student the entity to upsert, whose id and version are ignored.
+     * @return the persisted entity, with version {@code 0} if it was created.
+     */
+    Student upsert(Student student);
+
+    /**
+     * Creates the students, or updates the ones with the same studentId, in a single statement.
+     *
+     * @param students the entities to upsert, whose ids and versions are ignored.
+     * @return the persisted entities, in the same order, with version {@code 0} for the created ones.
+     */
+    List<Student> upsertAll(List<Student> students);
+
+    /**
+     * Partially updates a student, in a single statement which only sets its non-null properties.
+     *
+     * @param student the entity to update partially.
+     * @param versions the versions the student must have to be updated, or {@code null} to update any version.
+     * @return the persisted entity, with its new version, or empty if no student has the id.
+     * @throws org.springframework.orm.ObjectOptimisticLockingFailureException if the student has none of the versions.
+     */
+    Optional<Student> partialUpdate(Student student, Collection<Long> versions);
+
+    /**
+     * Get all the students.
+     *
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    Page<Student> findAll(Pageable pageable);
+
+    /**
+     * Get the students of the "classEntityId" classEntity.
+     *
+     * @param classEntityId the id of the classEntity.
+     * @param pageable the pagination information.
+     * @return the list of entities.
+     */
+    Page<Student> findAllByClassEntity(Long classEntityId, Pageable pageable);
+
+    /**
+     * Get the number and ages of the students of every classEntity.
+     *
+     * @return the statistics of every classEntity.
+     */
+    List<ClassEntityStatistics> findClassEntityStatistics();
+
+    /**
+     * Get the number of students of every age.
+     *
+     * @return the statistics of every age.
+     */
+    List<StudentAgeStatistics> findAgeStatistics();
+
+    /**
+     * Get the "id" student.
+     *
+     * @param id the id of the entity.
+     * @return the entity.
+     */
+    Optional<Student> findOne(Long id);
+
+    /**
+     * Delete the "id" student.
+     *
+     * @param id the id of the entity.
+     */
+    void delete(Long id);
+
+    /**
+     * Removes the students of the "classEntityId" classEntity from it, before it is deleted.
+     *
+     * @param classEntityId the id of the classEntity.
+     * @return the number of students removed from it.
+     */
+    int unassignClassEntity(Long classEntityId);
+
+    /**
+     * Search for the students matching the request.
+     *
+     * @param student the search criteria.
+     * @param page the pagination information.
+     * @return the list of entities.
+     */
+    Page<Student> search(StudentRequest student, Pageable page);
 }
@@ -0,0 +1,200 @@
+package com.mycompany.myapp.service.criteria;
+
+import com.mycompany.myapp.service.filter.PrefixStringFilter;
+import java.io.Serializable;
+import java.util.Objects;
+import org.springdoc.api.annotations.ParameterObject;
+import tech.jhipster.service.Criteria;
+import tech.jhipster.service.filter.IntegerFilter;
+import tech.jhipster.service.filter.LongFilter;
+import tech.jhipster.service.filter.StringFilter;
+
+/**
+ * Criteria class for the {@link com.mycompany.myapp.domain.Student} entity. This class is used
+ * in {@link com.mycompany.myapp.web.rest.StudentResource} to receive all the possible filtering options from
+ * the Http GET request parameters.
+ * For example the following could be a valid request:
+ * {@code /students?id.greaterThan=5&attr1.contains=something&attr2.specified=false}
+ * As Spring is unable to properly convert the types, unless specific {@link tech.jhipster.service.filter.Filter} class are used, we need to use
+ * fix type specific filters.
+ */
+@ParameterObject
+public class StudentCriteria implements Serializable, Criteria {
+
+    private static final long serialVersionUID = 1L;
+
+    private LongFilter id;
+
+    private IntegerFilter studentId;
+
+    private StringFilter name;
+
+    private IntegerFilter age;
+
+    private PrefixStringFilter classNam;
+
+    private PrefixStringFilter address;
+
+    private LongFilter classEntityId;
+
+    public StudentCriteria() {}
+
+    public StudentCriteria(StudentCriteria other) {
+        this.id = other.id == null ? null : other.id.copy();
+        this.studentId = other.studentId == null ? null : other.studentId.copy();
+        this.name = other.name == null ? null : other.name.copy();
+        this.age = other.age == null ? null : other.age.copy();
+        this.classNam = other.classNam == null ? null : other.classNam.copy();
+        this.address = other.address == null ? null : other.address.copy();
+        this.classEntityId = other.classEntityId == null ? null : other.classEntityId.copy();
+    }
+
+    @Override
+    public StudentCriteria copy() {
+        return new StudentCriteria(this);
+    }
+
+    public LongFilter getId() {
+        return id;
+    }
+
+    public LongFilter id() {
+        if (id == null) {
+            id = new LongFilter();
+        }
+        return id;
+    }
+
+    public void setId(LongFilter id) {
+        this.id = id;
+    }
+
+    public IntegerFilter getStudentId() {
+        return studentId;
+    }
+
+    public IntegerFilter studentId() {
+        if (studentId == null) {
+            studentId = new IntegerFilter();
+        }
+        return studentId;
+    }
+
+    public void setStudentId(IntegerFilter studentId) {
+        this.studentId = studentId;
+    }
+
+    public StringFilter getName() {
+        return name;
+    }
+
+    public StringFilter name() {
+        if (name == null) {
+            name = new StringFilter();
+        }
+        return name;
+    }
+
+    public void setName(StringFilter name) {
+        this.name = name;
+    }
+
+    public IntegerFilter getAge() {
+        return age;
+    }
+
+    public IntegerFilter age() {
+        if (age == null) {
+            age = new IntegerFilter();
+        }
+        return age;
+    }
+
+    public void setAge(IntegerFilter age) {
+        this.age = age;
+    }
+
+    public PrefixStringFilter getClassNam() {
+        return classNam;
+    }
+
+    public PrefixStringFilter classNam() {
+        if (classNam == null) {
+            classNam = new PrefixStringFilter();
+        }
+        return classNam;
+    }
+
+    public void setClassNam(PrefixStringFilter classNam) {
+        this.classNam = classNam;
+    }
+
+    public PrefixStringFilter getAddress() {
+        return address;
+    }
+
+    public PrefixStringFilter address() {
+        if (address == null) {
+            address = new PrefixStringFilter();
+        }
+        return address;
+    }
+
+    public void setAddress(PrefixStringFilter address) {
+        this.address = address;
+    }
+
+    public LongFilter getClassEntityId() {
+        return classEntityId;
+    }
+
+    public LongFilter classEntityId() {
+        if (classEntityId == null) {
+            classEntityId = new LongFilter();
+        }
+        return classEntityId;
+    }
+
+    public void setClassEntityId(LongFilter classEntityId) {
+        this.classEntityId = classEntityId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        final StudentCriteria that = (StudentCriteria) o;
+        return (
+            Objects.equals(id, that.id) &&
+            Objects.equals(studentId, that.studentId) &&
+            Objects.equals(name, that.name) &&
+            Objects.equals(age, that.age) &&
+            Objects.equals(classNam, that.classNam) &&
+            Objects.equals(address, that.address) &&
+            Objects.equals(classEntityId, that.classEntityId)
+        );
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, studentId, name, age, classNam, address, classEntityId);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "StudentCriteria{" +
+            (id != null ? "id=" + id + ", " : "") +
+            (studentId != null ? "studentId=" + studentId + ", " : "") +
+            (name != null ? "name=" + name + ", " : "") +
+            (age != null ? "age=" + age + ", " : "") +
+            (classNam != null ? "classNam=" + classNam + ", " : "") +
+            (address != null ? "address=" + address + ", " : "") +
+            (classEntityId != null ? "classEntityId=" + classEntityId + ", " : "") +
+            "}";
+    }
+}
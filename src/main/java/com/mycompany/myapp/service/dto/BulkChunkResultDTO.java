@@ -0,0 +1,75 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A DTO representing the outcome of one chunk of a bulk import.
+ * <p>
+ * Every chunk is committed in its own transaction: either all its rows are created, and their ids are listed in
+ * the same order as in the request, or none is and the error is reported.
+ */
+public class BulkChunkResultDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private int index;
+
+    private int size;
+
+    private List<Long> ids = new ArrayList<>();
+
+    private String error;
+
+    public BulkChunkResultDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public BulkChunkResultDTO(int index, int size) {
+        this.index = index;
+        this.size = size;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = size;
+    }
+
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "BulkChunkResultDTO{" +
+            "index=" + index +
+            ", size=" + size +
+            ", error='" + error + "'" +
+            "}";
+    }
+}
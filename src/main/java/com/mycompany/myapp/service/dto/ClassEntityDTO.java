@@ -0,0 +1,84 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.ClassEntity} entity, read as a projection by the list endpoints.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class ClassEntityDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Integer classId;
+
+    private String name;
+
+    public ClassEntityDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    public ClassEntityDTO(Long id, Integer classId, String name) {
+        this.id = id;
+        this.classId = classId;
+        this.name = name;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getClassId() {
+        return classId;
+    }
+
+    public void setClassId(Integer classId) {
+        this.classId = classId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ClassEntityDTO)) {
+            return false;
+        }
+
+        ClassEntityDTO classEntityDTO = (ClassEntityDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, classEntityDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "ClassEntityDTO{" +
+            "id=" + getId() +
+            ", classId=" + getClassId() +
+            ", name='" + getName() + "'" +
+            "}";
+    }
+}
@@ -0,0 +1,147 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A DTO for the {@link com.mycompany.myapp.domain.Student} entity, read as a projection by the list endpoints.
+ */
+@SuppressWarnings("common-java:DuplicatedBlocks")
+public class StudentDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private Long id;
+
+    private Integer studentId;
+
+    private String name;
+
+    private Integer age;
+
+    private String classNam;
+
+    private String address;
+
+    private ClassEntityDTO classEntity;
+
+    public StudentDTO() {
+        // Empty constructor needed for Jackson.
+    }
+
+    /**
+     * Constructor of the projections, which select the columns of the classEntity from a left join.
+     */
+    public StudentDTO(
+        Long id,
+        Integer studentId,
+        String name,
+        Integer age,
+        String classNam,
+        String address,
+        Long classEntityId,
+        Integer classEntityClassId,
+        String classEntityName
+    ) {
+        this.id = id;
+        this.studentId = studentId;
+        this.name = name;
+        this.age = age;
+        this.classNam = classNam;
+        this.address = address;
+        if (classEntityId != null) {
+            this.classEntity = new ClassEntityDTO(classEntityId, classEntityClassId, classEntityName);
+        }
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Integer getStudentId() {
+        return studentId;
+    }
+
+    public void setStudentId(Integer studentId) {
+        this.studentId = studentId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public String getClassNam() {
+        return classNam;
+    }
+
+    public void setClassNam(String classNam) {
+        this.classNam = classNam;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public void setAddress(String address) {
+        this.address = address;
+    }
+
+    public ClassEntityDTO getClassEntity() {
+        return classEntity;
+    }
+
+    public void setClassEntity(ClassEntityDTO classEntity) {
+        this.classEntity = classEntity;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof StudentDTO)) {
+            return false;
+        }
+
+        StudentDTO studentDTO = (StudentDTO) o;
+        if (this.id == null) {
+            return false;
+        }
+        return Objects.equals(this.id, studentDTO.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "StudentDTO{" +
+            "id=" + getId() +
+            ", studentId=" + getStudentId() +
+            ", name='" + getName() + "'" +
+            ", age=" + getAge() +
+            ", classNam='" + getClassNam() + "'" +
+            ", address='" + getAddress() + "'" +
+            ", classEntity=" + getClassEntity() +
+            "}";
+    }
+}
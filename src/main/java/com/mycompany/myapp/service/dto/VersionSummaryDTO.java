@@ -0,0 +1,68 @@
+package com.mycompany.myapp.service.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A DTO summarizing the versions of a list of entities, computed by the database in a single aggregate query.
+ * <p>
+ * Creating, updating or deleting one of the entities changes the summary: it validates the list, as a cheap
+ * replacement of its body.
+ */
+public class VersionSummaryDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private long count;
+
+    private long versionSum;
+
+    private Instant lastModifiedDate;
+
+    public VersionSummaryDTO(Long count, Long versionSum, Instant lastModifiedDate) {
+        this.count = count;
+        this.versionSum = versionSum != null ? versionSum : 0;
+        this.lastModifiedDate = lastModifiedDate;
+    }
+
+    /**
+     * Summary of entities listed with a related entity, which is updated independently of them.
+     */
+    public VersionSummaryDTO(Long count, Long versionSum, Instant lastModifiedDate, Instant relatedLastModifiedDate) {
+        this(count, versionSum, lastModifiedDate);
+        if (relatedLastModifiedDate != null && (lastModifiedDate == null || relatedLastModifiedDate.isAfter(lastModifiedDate))) {
+            this.lastModifiedDate = relatedLastModifiedDate;
+        }
+    }
+
+    /**
+     * @return the number of entities.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return the sum of the versions of the entities.
+     */
+    public long getVersionSum() {
+        return versionSum;
+    }
+
+    /**
+     * @return the last time one of the entities was modified, or {@code null} if none was.
+     */
+    public Instant getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    // prettier-ignore
+    @Override
+    public String toString() {
+        return "VersionSummaryDTO{" +
+            "count=" + getCount() +
+            ", versionSum=" + getVersionSum() +
+            ", lastModifiedDate='" + getLastModifiedDate() + "'" +
+            "}";
+    }
+}
@@ -1,16 +1,233 @@
 package com.mycompany.myapp.service.impl;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.Request.StudentRequest;
 import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.ClassEntityRepository;
+import com.mycompany.myapp.repository.ClassEntityStatistics;
+import com.mycompany.myapp.repository.StudentAgeStatistics;
+import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.repository.StudentSpecifications;
+import com.mycompany.myapp.repository.search.StudentSearchRepository;
 import com.mycompany.myapp.service.StudentService;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import javax.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
 
-import java.util.List;
-
+/**
+ * Service Implementation for managing {@link Student}.
+ */
+@Service
+@Transactional
 public class StudentServiceImpl implements StudentService {
-//    @Override
-//    public Page<Student> search(StudentRequest student, Pageable page) {
-//        return null;
-//    }
+
+    private final Logger log = LoggerFactory.getLogger(StudentServiceImpl.class);
+
+    private final StudentRepository studentRepository;
+
+    private final StudentSearchRepository studentSearchRepository;
+
+    private final ClassEntityRepository classEntityRepository;
+
+    private final EntityManager entityManager;
+
+    private final ApplicationProperties applicationProperties;
+
+    public StudentServiceImpl(
+        StudentRepository studentRepository,
+        StudentSearchRepository studentSearchRepository,
+        ClassEntityRepository classEntityRepository,
+        EntityManager entityManager,
+        ApplicationProperties applicationProperties
+    ) {
+        this.studentRepository = studentRepository;
+        this.studentSearchRepository = studentSearchRepository;
+        this.classEntityRepository = classEntityRepository;
+        this.entityManager = entityManager;
+        this.applicationProperties = applicationProperties;
+    }
+
+    @Override
+    public Student save(Student student) {
+        log.debug("Request to save Student : {}", student);
+        resolveClassEntity(student);
+        Student result = studentRepository.save(student);
+        indexAfterCommit(List.of(result));
+        return result;
+    }
+
+    @Override
+    public Student update(Student student) {
+        log.debug("Request to update Student : {}", student);
+        resolveClassEntity(student);
+        // Flushed, so that the version and the last modified date of the result are up to date
+        Student result = studentRepository.saveAndFlush(student);
+        indexAfterCommit(List.of(result));
+        return result;
+    }
+
+    @Override
+    public List<Student> saveAll(List<Student> students) {
+        log.debug("Request to save {} Students", students.size());
+        students.forEach(this::resolveClassEntity);
+        entityManager.unwrap(Session.class).setJdbcBatchSize(applicationProperties.getBulk().getJdbcBatchSize());
+        List<Student> result = studentRepository.saveAll(students);
+        studentRepository.flush();
+        indexAfterCommit(result);
+        return result;
+    }
+
+    @Override
+    public Student upsert(Student student) {
+        log.debug("Request to upsert Student : {}", student);
+        return upsertAll(List.of(student)).get(0);
+    }
+
+    @Override
+    public List<Student> upsertAll(List<Student> students) {
+        log.debug("Request to upsert {} Students", students.size());
+        students.forEach(this::resolveClassEntity);
+        List<Student> result = studentRepository.upsertAll(students);
+        indexAfterCommit(result);
+        return result;
+    }
+
+    @Override
+    public Optional<Student> partialUpdate(Student student, Collection<Long> versions) {
+        log.debug("Request to partially update Student : {}", student);
+
+        Optional<Student> result = studentRepository.partialUpdate(student, versions);
+        result.ifPresent(savedStudent -> indexAfterCommit(List.of(savedStudent)));
+        return result;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Student> findAll(Pageable pageable) {
+        log.debug("Request to get all Students");
+        return studentRepository.findAllWithEagerRelationships(pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<Student> findOne(Long id) {
+        log.debug("Request to get Student : {}", id);
+        // Unlike a fetch join, both are usually read from the second-level cache
+        return studentRepository
+            .findById(id)
+            .map(student -> {
+                Hibernate.initialize(student.getClassEntity());
+                return student;
+            });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Student> findAllByClassEntity(Long classEntityId, Pageable pageable) {
+        log.debug("Request to get the Students of ClassEntity : {}", classEntityId);
+        return studentRepository.findAllByClassEntityId(classEntityId, pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = STATISTICS_CACHE, key = "'classEntities'", sync = true)
+    public List<ClassEntityStatistics> findClassEntityStatistics() {
+        log.debug("Request to get the statistics of the ClassEntities");
+        return studentRepository.findClassEntityStatistics();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = STATISTICS_CACHE, key = "'ages'", sync = true)
+    public List<StudentAgeStatistics> findAgeStatistics() {
+        log.debug("Request to get the statistics of the Student ages");
+        return studentRepository.findAgeStatistics();
+    }
+
+    @Override
+    public void delete(Long id) {
+        log.debug("Request to delete Student : {}", id);
+        studentRepository.deleteById(id);
+        afterCommit(() -> studentSearchRepository.deleteFromIndexById(id));
+    }
+
+    @Override
+    public int unassignClassEntity(Long classEntityId) {
+        log.debug("Request to unassign the Students of ClassEntity : {}", classEntityId);
+        // A bulk update, after which Hibernate evicts the cached students
+        return studentRepository.unassignClassEntity(classEntityId, Instant.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<Student> search(StudentRequest student, Pageable page) {
+        log.debug("Request to search for a page of Students for query {}", student);
+        if (!StringUtils.hasText(student.getName()) || !studentSearchRepository.isReady()) {
+            return studentRepository.findAll(
+                StudentSpecifications.search(student.getName(), student.getAge()).and(StudentSpecifications.fetchClassEntity()),
+                page
+            );
+        }
+        // Too many ids would make a statement with as many parameters, the name is then matched in the database
+        int maxIds = applicationProperties.getSearch().getMaxIds();
+        List<Long> ids = studentSearchRepository.searchIdsByName(student.getName(), maxIds + 1);
+        if (ids.isEmpty()) {
+            return Page.empty(page);
+        }
+        if (ids.size() > maxIds) {
+            return studentRepository.findAll(
+                StudentSpecifications.search(student.getName(), student.getAge()).and(StudentSpecifications.fetchClassEntity()),
+                page
+            );
+        }
+        return studentRepository.findAll(
+            StudentSpecifications.search(ids, student.getAge()).and(StudentSpecifications.fetchClassEntity()),
+            page
+        );
+    }
+
+    /**
+     * The classNam of a student with a classEntity is the name of the classEntity, so the student is given the managed
+     * classEntity, usually read from the second-level cache, and stores no classNam of its own. A student without
+     * classEntity keeps the classNam it was given.
+     */
+    private void resolveClassEntity(Student student) {
+        if (student.getClassEntity() != null && student.getClassEntity().getId() != null) {
+            classEntityRepository.findById(student.getClassEntity().getId()).ifPresent(student::setClassEntity);
+            student.setClassNam(null);
+        }
+    }
+
+    /**
+     * Indexes the students once the transaction commits, so that the search index never holds the students of a
+     * transaction which is rolled back.
+     */
+    private void indexAfterCommit(List<Student> students) {
+        afterCommit(() -> students.forEach(studentSearchRepository::index));
+    }
+
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
+    }
 }
@@ -1,23 +1,43 @@
 package com.mycompany.myapp.web.rest;
 
+import com.mycompany.myapp.config.ApplicationProperties;
 import com.mycompany.myapp.domain.ClassEntity;
+import com.mycompany.myapp.domain.Student;
 import com.mycompany.myapp.repository.ClassEntityRepository;
+import com.mycompany.myapp.repository.ClassEntityStatistics;
+import com.mycompany.myapp.repository.Keyset;
+import com.mycompany.myapp.service.ClassEntityQueryService;
+import com.mycompany.myapp.service.ExportService;
+import com.mycompany.myapp.service.StudentService;
+import com.mycompany.myapp.service.dto.ClassEntityDTO;
+import com.mycompany.myapp.service.dto.VersionSummaryDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import javax.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -35,13 +55,33 @@ public class ClassEntityResource {
 
     private static final String ENTITY_NAME = "classEntity";
 
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "classId", "name");
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
     private final ClassEntityRepository classEntityRepository;
 
-    public ClassEntityResource(ClassEntityRepository classEntityRepository) {
+    private final ExportService exportService;
+
+    private final StudentService studentService;
+
+    private final ClassEntityQueryService classEntityQueryService;
+
+    private final ApplicationProperties applicationProperties;
+
+    public ClassEntityResource(
+        ClassEntityRepository classEntityRepository,
+        ExportService exportService,
+        StudentService studentService,
+        ClassEntityQueryService classEntityQueryService,
+        ApplicationProperties applicationProperties
+    ) {
         this.classEntityRepository = classEntityRepository;
+        this.exportService = exportService;
+        this.studentService = studentService;
+        this.classEntityQueryService = classEntityQueryService;
+        this.applicationProperties = applicationProperties;
     }
 
     /**
@@ -64,19 +104,94 @@ public class ClassEntityResource {
             .body(result);
     }
 
+    /**
+     * {@code PUT  /class-entities/by-class-id/:classId} : Create the classEntity with the given classId, or update it.
+     * <p>
+     * The classEntity is written by a single {@code INSERT ... ON DUPLICATE KEY UPDATE} statement, so the request can
+     * be safely repeated. The id and version of the body are ignored.
+     *
+     * @param classId the classId of the classEntity to save.
+     * @param classEntity the classEntity to save.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new classEntity,
+     * or with status {@code 200 (OK)} and with body the updated classEntity,
+     * or with status {@code 400 (Bad Request)} if the classId of the body is not the one of the path.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PutMapping("/class-entities/by-class-id/{classId}")
+    public ResponseEntity<ClassEntity> upsertClassEntity(
+        @PathVariable(value = "classId") final Integer classId,
+        @RequestBody ClassEntity classEntity
+    ) throws URISyntaxException {
+        log.debug("REST request to upsert ClassEntity : {}, {}", classId, classEntity);
+        if (classEntity.getClassId() != null && !Objects.equals(classId, classEntity.getClassId())) {
+            throw new BadRequestAlertException("Invalid classId", ENTITY_NAME, "classidinvalid");
+        }
+        classEntity.setClassId(classId);
+
+        ClassEntity result = classEntityRepository.upsertAll(List.of(classEntity)).get(0);
+        if (result.getVersion() == 0) {
+            return ResponseEntity
+                .created(new URI("/api/class-entities/" + result.getId()))
+                .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+                .headers(generateValidatorHttpHeaders(result))
+                .body(result);
+        }
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+            .headers(generateValidatorHttpHeaders(result))
+            .body(result);
+    }
+
+    /**
+     * {@code PUT  /class-entities/bulk} : Create many classEntities, or update the ones with the same classId.
+     * <p>
+     * Every classEntity must have its own classId. They are written by one {@code INSERT ... ON DUPLICATE KEY UPDATE}
+     * statement per chunk, all in the same transaction, so the request can be safely repeated. The ids and versions of
+     * the body are ignored.
+     *
+     * @param classEntities the classEntities to create or update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the saved classEntities,
+     * or with status {@code 400 (Bad Request)} if a classEntity has no classId, or the same classId as another one.
+     */
+    @PutMapping("/class-entities/bulk")
+    public ResponseEntity<List<ClassEntity>> upsertClassEntitiesInBulk(@RequestBody List<ClassEntity> classEntities) {
+        log.debug("REST request to upsert {} ClassEntities", classEntities.size());
+        if (classEntities.stream().anyMatch(classEntity -> classEntity.getClassId() == null)) {
+            throw new BadRequestAlertException("An upserted classEntity must have a classId", ENTITY_NAME, "classidnull");
+        }
+        if (classEntities.stream().map(ClassEntity::getClassId).distinct().count() < classEntities.size()) {
+            throw new BadRequestAlertException("A classId is upserted more than once", ENTITY_NAME, "classidduplicate");
+        }
+        int chunkSize = applicationProperties.getBulk().getChunkSize();
+        List<ClassEntity> result = new ArrayList<>(classEntities.size());
+        for (int from = 0; from < classEntities.size(); from += chunkSize) {
+            result.addAll(classEntityRepository.upsertAll(classEntities.subList(from, Math.min(from + chunkSize, classEntities.size()))));
+        }
+        return ResponseEntity.ok(result);
+    }
+
     /**
      * {@code PUT  /class-entities/:id} : Updates an existing classEntity.
      *
+     * <p>
+     * The classEntity is only updated if the {@code If-Match} header, when present, matches its current {@code ETag}.
+     * Otherwise, its version is the one of the body, when present.
+     *
      * @param id the id of the classEntity to save.
+     * @param ifMatch the {@code ETag} of the classEntity which was modified by the client.
      * @param classEntity the classEntity to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated classEntity,
      * or with status {@code 400 (Bad Request)} if the classEntity is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the classEntity is not the current one,
+     * or with status {@code 412 (Precondition Failed)} if the {@code If-Match} header does not match,
      * or with status {@code 500 (Internal Server Error)} if the classEntity couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/class-entities/{id}")
     public ResponseEntity<ClassEntity> updateClassEntity(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody ClassEntity classEntity
     ) throws URISyntaxException {
         log.debug("REST request to update ClassEntity : {}, {}", id, classEntity);
@@ -87,31 +202,47 @@ public class ClassEntityResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!classEntityRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        // The classEntity is then merged into this one, without selecting it again
+        ClassEntity current = classEntityRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (ifMatch != null) {
+            ETagUtil.checkIfMatch(ifMatch, ETagUtil.generateETag(current.getVersion()));
+            classEntity.setVersion(current.getVersion());
+        } else if (classEntity.getVersion() == null) {
+            classEntity.setVersion(current.getVersion());
         }
 
-        ClassEntity result = classEntityRepository.save(classEntity);
+        // Flushed, so that the version and the last modified date of the result are up to date
+        ClassEntity result = classEntityRepository.saveAndFlush(classEntity);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, classEntity.getId().toString()))
+            .headers(generateValidatorHttpHeaders(result))
             .body(result);
     }
 
     /**
      * {@code PATCH  /class-entities/:id} : Partial updates given fields of an existing classEntity, field will ignore if it is null
      *
+     * <p>
+     * The classEntity is only updated if the {@code If-Match} header, when present, matches its current {@code ETag}.
+     * Only the supplied columns are updated, without selecting the classEntity first.
+     *
      * @param id the id of the classEntity to save.
+     * @param ifMatch the {@code ETag} of the classEntity which was modified by the client.
      * @param classEntity the classEntity to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated classEntity,
      * or with status {@code 400 (Bad Request)} if the classEntity is not valid,
      * or with status {@code 404 (Not Found)} if the classEntity is not found,
+     * or with status {@code 412 (Precondition Failed)} if the {@code If-Match} header does not match,
      * or with status {@code 500 (Internal Server Error)} if the classEntity couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/class-entities/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<ClassEntity> partialUpdateClassEntity(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody ClassEntity classEntity
     ) throws URISyntaxException {
         log.debug("REST request to partial update ClassEntity partially : {}, {}", id, classEntity);
@@ -122,70 +253,182 @@ public class ClassEntityResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!classEntityRepository.existsById(id)) {
+        // A single statement updates the classEntity, checking its version, and a second one reads it
+        Optional<ClassEntity> result;
+        try {
+            result = classEntityRepository.partialUpdate(classEntity, ETagUtil.parseIfMatchVersions(ifMatch));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "The classEntity was modified");
+        }
+        if (result.isEmpty()) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<ClassEntity> result = classEntityRepository
-            .findById(classEntity.getId())
-            .map(existingClassEntity -> {
-                if (classEntity.getClassId() != null) {
-                    existingClassEntity.setClassId(classEntity.getClassId());
-                }
-                if (classEntity.getName() != null) {
-                    existingClassEntity.setName(classEntity.getName());
-                }
-
-                return existingClassEntity;
-            })
-            .map(classEntityRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, classEntity.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, classEntity.getId().toString()))
+            .headers(generateValidatorHttpHeaders(result.get()))
+            .body(result.get());
     }
 
     /**
      * {@code GET  /class-entities} : get all the classEntities.
+     * <p>
+     * The classEntities are read as DTOs, in a read-only transaction.
+     * <p>
+     * The response has a weak {@code ETag}, computed with the count of the classEntities, so that it also changes when
+     * one of them is deleted. The page is not read when it matches the {@code If-None-Match} header of the request,
+     * which gets a {@code 304 (Not Modified)} response. There is no {@code Last-Modified} header, as the last modified
+     * date of the remaining classEntities does not change when one is deleted.
      *
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of classEntities in body.
+     * @param request the request, for its conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of classEntities in body, or
+     * {@code null} when the response is {@code 304 (Not Modified)}.
      */
     @GetMapping("/class-entities")
-    public ResponseEntity<List<ClassEntity>> getAllClassEntities(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ClassEntityDTO>> getAllClassEntities(
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        WebRequest request
+    ) {
         log.debug("REST request to get a page of ClassEntities");
-        Page<ClassEntity> page = classEntityRepository.findAll(pageable);
+        VersionSummaryDTO summary = classEntityQueryService.findVersionSummary();
+        HttpHeaders validators = ETagUtil.generateValidatorHttpHeaders(ETagUtil.generateETag(summary));
+        if (request.checkNotModified(validators.getETag())) {
+            return null;
+        }
+        Page<ClassEntityDTO> page = classEntityQueryService.findAll(pageable, summary.getCount());
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).headers(validators).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /class-entities?after=:cursor} : get a page of the classEntities using keyset pagination.
+     * <p>
+     * Send an empty {@code after} parameter to get the first page; the next pages are linked from the {@code Link}
+     * header. No total count is computed, so every page costs the same whatever its depth. The classEntities are read
+     * as the same DTOs as with the offset pagination.
+     *
+     * @param after the cursor of the previous page.
+     * @param pageable the page size and sort, on a single property optionally followed by the id in the same direction.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of classEntities in body.
+     */
+    @GetMapping(value = "/class-entities", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ClassEntityDTO>> getAllClassEntitiesAfter(
+        @RequestParam(KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a keyset page of ClassEntities");
+        Keyset keyset = KeysetPaginationUtil.decodeCursor(after, pageable, ClassEntity.class, KEYSET_SORT_PROPERTIES, ENTITY_NAME);
+        Slice<ClassEntityDTO> slice = classEntityQueryService.findAllAfter(keyset, pageable);
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /class-entities/stats} : get the number and ages of the students of every classEntity.
+     * <p>
+     * The students are grouped by the database, in one query, and the result may be cached for a few seconds.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the statistics of every classEntity in body.
+     */
+    @GetMapping("/class-entities/stats")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<ClassEntityStatistics>> getClassEntityStatistics() {
+        log.debug("REST request to get the statistics of ClassEntities");
+        return ResponseEntity.ok().body(studentService.findClassEntityStatistics());
+    }
+
+    /**
+     * {@code GET  /class-entities/export} : export all the classEntities as newline-delimited JSON.
+     * <p>
+     * The classEntities are streamed from the database to the response, one JSON document per line, so the whole table
+     * is never held in memory.
+     *
+     * @param response the HTTP response the classEntities are written to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping(value = "/class-entities/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public void exportClassEntities(HttpServletResponse response) throws IOException {
+        log.debug("REST request to export all ClassEntities");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"class-entities.ndjson\"");
+        exportService.exportAsNdjson(classEntityRepository::streamAllBy, response.getOutputStream());
     }
 
     /**
      * {@code GET  /class-entities/:id} : get the "id" classEntity.
      *
+     * The response has an {@code ETag} and a {@code Last-Modified} header: a request matching them with its
+     * {@code If-None-Match} or {@code If-Modified-Since} header gets a {@code 304 (Not Modified)} response, without
+     * body.
+     *
      * @param id the id of the classEntity to retrieve.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the classEntity, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/class-entities/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<ClassEntity> getClassEntity(@PathVariable Long id) {
         log.debug("REST request to get ClassEntity : {}", id);
         Optional<ClassEntity> classEntity = classEntityRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(classEntity);
+        return ResponseUtil.wrapOrNotFound(classEntity, classEntity.map(ClassEntityResource::generateValidatorHttpHeaders).orElse(null));
+    }
+
+    /**
+     * {@code GET  /class-entities/:id/students} : get the students of the "id" classEntity.
+     * <p>
+     * The students are read with their classEntity in one query, followed by their count, whatever the size of the
+     * page.
+     *
+     * @param id the id of the classEntity.
+     * @param pageable the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of students in body, or with status {@code 404 (Not Found)}.
+     */
+    @GetMapping("/class-entities/{id}/students")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<Student>> getClassEntityStudents(
+        @PathVariable Long id,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a page of the Students of ClassEntity : {}", id);
+        if (!classEntityRepository.existsById(id)) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        Page<Student> page = studentService.findAllByClassEntity(id, pageable);
+        HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
+        return ResponseEntity.ok().headers(headers).body(page.getContent());
     }
 
     /**
      * {@code DELETE  /class-entities/:id} : delete the "id" classEntity.
      *
+     * <p>
+     * Its students are kept, without a classEntity.
+     *
      * @param id the id of the classEntity to delete.
      * @return the {@link ResponseEntity} with status {@code 204 (NO_CONTENT)}.
      */
     @DeleteMapping("/class-entities/{id}")
     public ResponseEntity<Void> deleteClassEntity(@PathVariable Long id) {
         log.debug("REST request to delete ClassEntity : {}", id);
+        studentService.unassignClassEntity(id);
         classEntityRepository.deleteById(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
+
+    /**
+     * The validators of a classEntity, whose body does not include its students.
+     */
+    private static HttpHeaders generateValidatorHttpHeaders(ClassEntity classEntity) {
+        return ETagUtil.generateValidatorHttpHeaders(ETagUtil.generateETag(classEntity.getVersion()), classEntity.getLastModifiedDate());
+    }
 }
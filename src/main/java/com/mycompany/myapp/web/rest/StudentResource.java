@@ -1,27 +1,61 @@
 package com.mycompany.myapp.web.rest;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ClassEntity;
 import com.mycompany.myapp.domain.Request.StudentRequest;
 import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.Keyset;
+import com.mycompany.myapp.repository.StudentAgeStatistics;
 import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.service.ExportService;
+import com.mycompany.myapp.service.StudentQueryService;
 import com.mycompany.myapp.service.StudentService;
+import com.mycompany.myapp.service.criteria.StudentCriteria;
+import com.mycompany.myapp.service.dto.BulkChunkResultDTO;
+import com.mycompany.myapp.service.dto.StudentDTO;
+import com.mycompany.myapp.service.dto.VersionSummaryDTO;
 import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import com.mycompany.myapp.web.rest.errors.ErrorConstants;
+import com.mycompany.myapp.web.rest.errors.ExceptionTranslator;
+import com.mycompany.myapp.web.rest.util.ETagUtil;
+import com.mycompany.myapp.web.rest.util.KeysetPaginationUtil;
+import com.mycompany.myapp.web.rest.util.SlicePaginationUtil;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import javax.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springdoc.api.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.repository.query.Param;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.server.ResponseStatusException;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import tech.jhipster.web.util.HeaderUtil;
 import tech.jhipster.web.util.PaginationUtil;
@@ -39,13 +73,37 @@ public class StudentResource {
 
     private static final String ENTITY_NAME = "student";
 
+    private static final Set<String> KEYSET_SORT_PROPERTIES = Set.of("id", "studentId", "name", "age", "classNam", "address");
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
+    private final StudentService studentService;
+
+    private final StudentQueryService studentQueryService;
+
     private final StudentRepository studentRepository;
 
-    public StudentResource(StudentRepository studentRepository) {
+    private final ExportService exportService;
+
+    private final ApplicationProperties applicationProperties;
+
+    private final ObjectReader studentReader;
+
+    public StudentResource(
+        StudentService studentService,
+        StudentQueryService studentQueryService,
+        StudentRepository studentRepository,
+        ExportService exportService,
+        ApplicationProperties applicationProperties,
+        ObjectMapper objectMapper
+    ) {
+        this.studentService = studentService;
+        this.studentQueryService = studentQueryService;
         this.studentRepository = studentRepository;
+        this.exportService = exportService;
+        this.applicationProperties = applicationProperties;
+        this.studentReader = objectMapper.readerFor(Student.class);
     }
 
     /**
@@ -61,26 +119,143 @@ public class StudentResource {
         if (student.getId() != null) {
             throw new BadRequestAlertException("A new student cannot already have an ID", ENTITY_NAME, "idexists");
         }
-        Student result = studentRepository.save(student);
+        Student result = studentService.save(student);
         return ResponseEntity
             .created(new URI("/api/students/" + result.getId()))
             .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
             .body(result);
     }
 
+    /**
+     * {@code POST  /students/bulk} : Create many new students.
+     * <p>
+     * The body is either a JSON array or newline-delimited JSON, and is read as a stream. Students are saved in chunks
+     * of {@code application.bulk.chunk-size} rows, each chunk in its own transaction with JDBC batch inserts, so a
+     * failing chunk does not roll back the chunks before it, and the next chunks are still written. Reading stops at
+     * the first malformed document: the chunk it is in is reported as failed, after the results of the previous ones.
+     *
+     * @param body the students to create.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of every chunk.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PostMapping(value = "/students/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<BulkChunkResultDTO>> createStudentsInBulk(InputStream body) throws IOException {
+        log.debug("REST request to save Students in bulk");
+        return ResponseEntity.ok(writeInChunks(body, this::saveChunk));
+    }
+
+    /**
+     * {@code PUT  /students/bulk} : Create many students, or update the ones with the same studentId.
+     * <p>
+     * The body is read as in {@code POST /students/bulk}, and every student must have a studentId, which no other
+     * student of its chunk has. Each chunk is written by a single {@code INSERT ... ON DUPLICATE KEY UPDATE} statement,
+     * in its own transaction, so the request can be safely repeated. The ids and versions of the body are ignored.
+     *
+     * @param body the students to create or update.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the result of every chunk.
+     * @throws IOException if the request body cannot be read.
+     */
+    @PutMapping(value = "/students/bulk", consumes = { MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE })
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResponseEntity<List<BulkChunkResultDTO>> upsertStudentsInBulk(InputStream body) throws IOException {
+        log.debug("REST request to upsert Students in bulk");
+        return ResponseEntity.ok(writeInChunks(body, this::upsertChunk));
+    }
+
+    private List<BulkChunkResultDTO> writeInChunks(InputStream body, BiFunction<Integer, List<Student>, BulkChunkResultDTO> writeChunk)
+        throws IOException {
+        int chunkSize = applicationProperties.getBulk().getChunkSize();
+        List<BulkChunkResultDTO> results = new ArrayList<>();
+        List<Student> chunk = new ArrayList<>(chunkSize);
+        try (MappingIterator<Student> students = studentReader.readValues(body)) {
+            while (students.hasNextValue()) {
+                chunk.add(students.nextValue());
+                if (chunk.size() == chunkSize) {
+                    results.add(writeChunk.apply(results.size(), chunk));
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                results.add(writeChunk.apply(results.size(), chunk));
+            }
+        } catch (JsonProcessingException e) {
+            log.warn("Bulk write of Students stopped at chunk {}, on an invalid document: {}", results.size(), e.getOriginalMessage());
+            BulkChunkResultDTO result = new BulkChunkResultDTO(results.size(), chunk.size());
+            result.setError(ErrorConstants.ERR_INVALID_JSON);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private BulkChunkResultDTO saveChunk(int index, List<Student> chunk) {
+        BulkChunkResultDTO result = new BulkChunkResultDTO(index, chunk.size());
+        if (chunk.stream().anyMatch(student -> student.getId() != null)) {
+            result.setError("A new student cannot already have an ID");
+            return result;
+        }
+        try {
+            studentService.saveAll(chunk).forEach(student -> result.getIds().add(student.getId()));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Chunk {} of a bulk import of Students failed: {}", index, e.getMostSpecificCause().getMessage());
+            result.setError(chunkError(e));
+        }
+        return result;
+    }
+
+    private BulkChunkResultDTO upsertChunk(int index, List<Student> chunk) {
+        BulkChunkResultDTO result = new BulkChunkResultDTO(index, chunk.size());
+        if (chunk.stream().anyMatch(student -> student.getStudentId() == null)) {
+            result.setError("An upserted student must have a studentId");
+            return result;
+        }
+        if (chunk.stream().map(Student::getStudentId).distinct().count() < chunk.size()) {
+            result.setError("A studentId is upserted more than once in the chunk");
+            return result;
+        }
+        try {
+            studentService.upsertAll(chunk).forEach(student -> result.getIds().add(student.getId()));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Chunk {} of a bulk upsert of Students failed: {}", index, e.getMostSpecificCause().getMessage());
+            result.setError(chunkError(e));
+        }
+        return result;
+    }
+
+    /**
+     * The message key of a failed chunk: the message of the database error is only logged. A chunk which cannot be
+     * committed, or whose transaction cannot be started, is a failure of the database too.
+     */
+    private static String chunkError(NestedRuntimeException e) {
+        if (e instanceof DataAccessException && ExceptionTranslator.isDuplicateKey((DataAccessException) e)) {
+            return ErrorConstants.ERR_DUPLICATE_KEY;
+        }
+        return ErrorConstants.ERR_DATA_ACCESS;
+    }
+
     /**
      * {@code PUT  /students/:id} : Updates an existing student.
      *
+     * <p>
+     * The student is only updated if the {@code If-Match} header, when present, matches its current {@code ETag}.
+     * Otherwise, its version is the one of the body, when present.
+     *
      * @param id the id of the student to save.
+     * @param ifMatch the {@code ETag} of the student which was modified by the client.
      * @param student the student to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated student,
      * or with status {@code 400 (Bad Request)} if the student is not valid,
+     * or with status {@code 409 (Conflict)} if the version of the student is not the current one,
+     * or with status {@code 412 (Precondition Failed)} if the {@code If-Match} header does not match,
      * or with status {@code 500 (Internal Server Error)} if the student couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PutMapping("/students/{id}")
-    public ResponseEntity<Student> updateStudent(@PathVariable(value = "id", required = false) final Long id, @RequestBody Student student)
-        throws URISyntaxException {
+    public ResponseEntity<Student> updateStudent(
+        @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+        @RequestBody Student student
+    ) throws URISyntaxException {
         log.debug("REST request to update Student : {}, {}", id, student);
         if (student.getId() == null) {
             throw new BadRequestAlertException("Invalid id", ENTITY_NAME, "idnull");
@@ -89,31 +264,83 @@ public class StudentResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!studentRepository.existsById(id)) {
-            throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
+        // The student is then merged into this one, without selecting it again
+        Student current = studentRepository
+            .findById(id)
+            .orElseThrow(() -> new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound"));
+        if (ifMatch != null) {
+            ETagUtil.checkIfMatch(ifMatch, generateETag(current));
+            student.setVersion(current.getVersion());
+        } else if (student.getVersion() == null) {
+            student.setVersion(current.getVersion());
         }
 
-        Student result = studentRepository.save(student);
+        Student result = studentService.update(student);
         return ResponseEntity
             .ok()
             .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, student.getId().toString()))
+            .headers(generateValidatorHttpHeaders(result))
+            .body(result);
+    }
+
+    /**
+     * {@code PUT  /students/by-student-id/:studentId} : Create the student with the given studentId, or update it.
+     * <p>
+     * The student is written by a single {@code INSERT ... ON DUPLICATE KEY UPDATE} statement, so the request can be
+     * safely repeated. The id and version of the body are ignored. The response has no validators, as the classEntity
+     * of the student is not read.
+     *
+     * @param studentId the studentId of the student to save.
+     * @param student the student to save.
+     * @return the {@link ResponseEntity} with status {@code 201 (Created)} and with body the new student,
+     * or with status {@code 200 (OK)} and with body the updated student,
+     * or with status {@code 400 (Bad Request)} if the studentId of the body is not the one of the path.
+     * @throws URISyntaxException if the Location URI syntax is incorrect.
+     */
+    @PutMapping("/students/by-student-id/{studentId}")
+    public ResponseEntity<Student> upsertStudent(@PathVariable(value = "studentId") final Integer studentId, @RequestBody Student student)
+        throws URISyntaxException {
+        log.debug("REST request to upsert Student : {}, {}", studentId, student);
+        if (student.getStudentId() != null && !Objects.equals(studentId, student.getStudentId())) {
+            throw new BadRequestAlertException("Invalid studentId", ENTITY_NAME, "studentidinvalid");
+        }
+        student.setStudentId(studentId);
+
+        Student result = studentService.upsert(student);
+        if (result.getVersion() == 0) {
+            return ResponseEntity
+                .created(new URI("/api/students/" + result.getId()))
+                .headers(HeaderUtil.createEntityCreationAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
+                .body(result);
+        }
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, result.getId().toString()))
             .body(result);
     }
 
     /**
      * {@code PATCH  /students/:id} : Partial updates given fields of an existing student, field will ignore if it is null
      *
+     * <p>
+     * The student is only updated if the {@code If-Match} header, when present, matches its current version: a change
+     * of its classEntity, which this request cannot modify, does not fail it. Only the supplied columns are updated,
+     * without selecting the student first.
+     *
      * @param id the id of the student to save.
+     * @param ifMatch the {@code ETag} of the student which was modified by the client.
      * @param student the student to update.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the updated student,
      * or with status {@code 400 (Bad Request)} if the student is not valid,
      * or with status {@code 404 (Not Found)} if the student is not found,
+     * or with status {@code 412 (Precondition Failed)} if the {@code If-Match} header does not match,
      * or with status {@code 500 (Internal Server Error)} if the student couldn't be updated.
      * @throws URISyntaxException if the Location URI syntax is incorrect.
      */
     @PatchMapping(value = "/students/{id}", consumes = { "application/json", "application/merge-patch+json" })
     public ResponseEntity<Student> partialUpdateStudent(
         @PathVariable(value = "id", required = false) final Long id,
+        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
         @RequestBody Student student
     ) throws URISyntaxException {
         log.debug("REST request to partial update Student partially : {}, {}", id, student);
@@ -124,64 +351,159 @@ public class StudentResource {
             throw new BadRequestAlertException("Invalid ID", ENTITY_NAME, "idinvalid");
         }
 
-        if (!studentRepository.existsById(id)) {
+        // A single statement updates the student, checking its version, and a second one reads it with its classEntity
+        Optional<Student> result;
+        try {
+            result = studentService.partialUpdate(student, ETagUtil.parseIfMatchVersions(ifMatch));
+        } catch (ObjectOptimisticLockingFailureException e) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "The student was modified");
+        }
+        if (result.isEmpty()) {
             throw new BadRequestAlertException("Entity not found", ENTITY_NAME, "idnotfound");
         }
 
-        Optional<Student> result = studentRepository
-            .findById(student.getId())
-            .map(existingStudent -> {
-                if (student.getStudentId() != null) {
-                    existingStudent.setStudentId(student.getStudentId());
-                }
-                if (student.getName() != null) {
-                    existingStudent.setName(student.getName());
-                }
-                if (student.getAge() != null) {
-                    existingStudent.setAge(student.getAge());
-                }
-                if (student.getClassNam() != null) {
-                    existingStudent.setClassNam(student.getClassNam());
-                }
-                if (student.getAddress() != null) {
-                    existingStudent.setAddress(student.getAddress());
-                }
-
-                return existingStudent;
-            })
-            .map(studentRepository::save);
-
-        return ResponseUtil.wrapOrNotFound(
-            result,
-            HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, student.getId().toString())
-        );
+        return ResponseEntity
+            .ok()
+            .headers(HeaderUtil.createEntityUpdateAlert(applicationName, false, ENTITY_NAME, student.getId().toString()))
+            .headers(generateValidatorHttpHeaders(result.get()))
+            .body(result.get());
     }
 
     /**
      * {@code GET  /students} : get all the students.
+     * <p>
+     * Send {@code count=false} to skip the count query, when the client does not show the total: the {@code Link}
+     * header then only points to the next, previous and first pages.
+     * <p>
+     * The students are read as DTOs, in a read-only transaction.
+     * <p>
+     * With the count, the response has a weak {@code ETag}, computed with the count of the matching students, so that it
+     * also changes when one of them is deleted. The page is not read when it matches the {@code If-None-Match} header
+     * of the request, which gets a {@code 304 (Not Modified)} response. There is no {@code Last-Modified} header, as
+     * the last modified date of the remaining students does not change when one is deleted.
      *
+     * @param criteria the criteria which the requested entities should match.
+     * @param count whether the total count of the matching students is computed.
      * @param pageable the pagination information.
-     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of students in body.
+     * @param request the request, for its conditional headers.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of students in body, or
+     * {@code null} when the response is {@code 304 (Not Modified)}.
      */
     @GetMapping("/students")
-    public ResponseEntity<List<Student>> getAllStudents(@org.springdoc.api.annotations.ParameterObject Pageable pageable) {
-        log.debug("REST request to get a page of Students");
-        Page<Student> page = studentRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<StudentDTO>> getAllStudents(
+        StudentCriteria criteria,
+        @RequestParam(value = "count", defaultValue = "true") boolean count,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable,
+        WebRequest request
+    ) {
+        log.debug("REST request to get a page of Students by criteria: {}", criteria);
+        if (!count) {
+            Slice<StudentDTO> slice = studentQueryService.findSliceByCriteria(criteria, pageable);
+            HttpHeaders headers = SlicePaginationUtil.generateSlicePaginationHttpHeaders(
+                ServletUriComponentsBuilder.fromCurrentRequest(),
+                slice
+            );
+            return ResponseEntity.ok().headers(headers).body(slice.getContent());
+        }
+        VersionSummaryDTO summary = studentQueryService.findVersionSummaryByCriteria(criteria);
+        HttpHeaders validators = ETagUtil.generateValidatorHttpHeaders(ETagUtil.generateETag(summary));
+        if (request.checkNotModified(validators.getETag())) {
+            return null;
+        }
+        Page<StudentDTO> page = studentQueryService.findByCriteria(criteria, pageable, summary.getCount());
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), page);
-        return ResponseEntity.ok().headers(headers).body(page.getContent());
+        return ResponseEntity.ok().headers(headers).headers(validators).body(page.getContent());
+    }
+
+    /**
+     * {@code GET  /students/count} : count all the students.
+     *
+     * @param criteria the criteria which the requested entities should match.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the count in body.
+     */
+    @GetMapping("/students/count")
+    @Transactional(readOnly = true)
+    public ResponseEntity<Long> countStudents(StudentCriteria criteria) {
+        log.debug("REST request to count Students by criteria: {}", criteria);
+        return ResponseEntity.ok().body(studentQueryService.countByCriteria(criteria));
+    }
+
+    /**
+     * {@code GET  /students/stats} : get the number of students of every age.
+     * <p>
+     * The students are grouped by the database, in one query, and the result may be cached for a few seconds.
+     *
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the statistics of every age in body.
+     */
+    @GetMapping("/students/stats")
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<StudentAgeStatistics>> getStudentStatistics() {
+        log.debug("REST request to get the statistics of Students");
+        return ResponseEntity.ok().body(studentService.findAgeStatistics());
+    }
+
+    /**
+     * {@code GET  /students?after=:cursor} : get a page of the students using keyset pagination.
+     * <p>
+     * Send an empty {@code after} parameter to get the first page; the next pages are linked from the {@code Link}
+     * header. No total count is computed, so every page costs the same whatever its depth. The students are read as
+     * the same DTOs as with the offset pagination.
+     *
+     * @param after the cursor of the previous page.
+     * @param pageable the page size and sort, on a single property optionally followed by the id in the same direction.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of students in body.
+     */
+    @GetMapping(value = "/students", params = KeysetPaginationUtil.AFTER_PARAMETER)
+    @Transactional(readOnly = true)
+    public ResponseEntity<List<StudentDTO>> getAllStudentsAfter(
+        @RequestParam(KeysetPaginationUtil.AFTER_PARAMETER) String after,
+        @org.springdoc.api.annotations.ParameterObject Pageable pageable
+    ) {
+        log.debug("REST request to get a keyset page of Students");
+        Keyset keyset = KeysetPaginationUtil.decodeCursor(after, pageable, Student.class, KEYSET_SORT_PROPERTIES, ENTITY_NAME);
+        Slice<StudentDTO> slice = studentQueryService.findAllAfter(keyset, pageable);
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            ServletUriComponentsBuilder.fromCurrentRequest(),
+            slice
+        );
+        return ResponseEntity.ok().headers(headers).body(slice.getContent());
+    }
+
+    /**
+     * {@code GET  /students/export} : export all the students as newline-delimited JSON.
+     * <p>
+     * The students are streamed from the database to the response, one JSON document per line, so the whole table
+     * is never held in memory.
+     *
+     * @param response the HTTP response the students are written to.
+     * @throws IOException if the response cannot be written.
+     */
+    @GetMapping(value = "/students/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Transactional(readOnly = true)
+    public void exportStudents(HttpServletResponse response) throws IOException {
+        log.debug("REST request to export all Students");
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"students.ndjson\"");
+        exportService.exportAsNdjson(studentRepository::streamAllBy, response.getOutputStream());
     }
 
     /**
      * {@code GET  /students/:id} : get the "id" student.
      *
+     * The response has an {@code ETag} and a {@code Last-Modified} header: a request matching them with its
+     * {@code If-None-Match} or {@code If-Modified-Since} header gets a {@code 304 (Not Modified)} response, without
+     * body.
+     *
      * @param id the id of the student to retrieve.
      * @return the {@link ResponseEntity} with status {@code 200 (OK)} and with body the student, or with status {@code 404 (Not Found)}.
      */
     @GetMapping("/students/{id}")
+    @Transactional(readOnly = true)
     public ResponseEntity<Student> getStudent(@PathVariable Long id) {
         log.debug("REST request to get Student : {}", id);
-        Optional<Student> student = studentRepository.findById(id);
-        return ResponseUtil.wrapOrNotFound(student);
+        Optional<Student> student = studentService.findOne(id);
+        return ResponseUtil.wrapOrNotFound(student, student.map(StudentResource::generateValidatorHttpHeaders).orElse(null));
     }
 
     /**
@@ -193,17 +515,43 @@ public class StudentResource {
     @DeleteMapping("/students/{id}")
     public ResponseEntity<Void> deleteStudent(@PathVariable Long id) {
         log.debug("REST request to delete Student : {}", id);
-        studentRepository.deleteById(id);
+        studentService.delete(id);
         return ResponseEntity
             .noContent()
             .headers(HeaderUtil.createEntityDeletionAlert(applicationName, false, ENTITY_NAME, id.toString()))
             .build();
     }
 
+    /**
+     * {@code POST  /search} : search for the students matching the request.
+     *
+     * @param student the search criteria.
+     * @param page the pagination information.
+     * @return the {@link ResponseEntity} with status {@code 200 (OK)} and the list of students in body.
+     */
     @PostMapping("/search")
+    @Transactional(readOnly = true)
     public ResponseEntity<List<Student>> searchStudent(@RequestBody StudentRequest student, @ParameterObject Pageable page){
-        Page<Student> pageStudent= studentRepository.search(student.getName(),student.getAge(),page);
+        log.debug("REST request to search for a page of Students");
+        Page<Student> pageStudent = studentService.search(student, page);
         HttpHeaders headers = PaginationUtil.generatePaginationHttpHeaders(ServletUriComponentsBuilder.fromCurrentRequest(), pageStudent);
         return ResponseEntity.ok().headers(headers).body(pageStudent.getContent());
     }
+
+    /**
+     * The {@code ETag} of a student, whose body includes its classEntity.
+     */
+    private static String generateETag(Student student) {
+        ClassEntity classEntity = student.getClassEntity();
+        return ETagUtil.generateETag(student.getVersion(), classEntity != null ? classEntity.getVersion() : null);
+    }
+
+    private static HttpHeaders generateValidatorHttpHeaders(Student student) {
+        ClassEntity classEntity = student.getClassEntity();
+        return ETagUtil.generateValidatorHttpHeaders(
+            generateETag(student),
+            student.getLastModifiedDate(),
+            classEntity != null ? classEntity.getLastModifiedDate() : null
+        );
+    }
 }
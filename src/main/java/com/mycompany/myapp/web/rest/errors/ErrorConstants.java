@@ -5,7 +5,11 @@ import java.net.URI;
 public final class ErrorConstants {
 
     public static final String ERR_CONCURRENCY_FAILURE = "error.concurrencyFailure";
+    public static final String ERR_DUPLICATE_KEY = "error.duplicateKey";
+    public static final String ERR_DATA_ACCESS = "error.dataAccess";
     public static final String ERR_VALIDATION = "error.validation";
+    public static final String ERR_INVALID_JSON = "error.invalidJson";
+    public static final String ERR_PASSWORD_HASHING_REJECTED = "error.passwordHashingRejected";
     public static final String PROBLEM_BASE_URL = "https://www.jhipster.tech/problem";
     public static final URI DEFAULT_TYPE = URI.create(PROBLEM_BASE_URL + "/problem-with-message");
     public static final URI CONSTRAINT_VIOLATION_TYPE = URI.create(PROBLEM_BASE_URL + "/constraint-violation");
@@ -1,6 +1,8 @@
 package com.mycompany.myapp.web.rest.errors;
 
+import com.mycompany.myapp.security.PasswordHashingRejectedException;
 import java.net.URI;
+import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -14,6 +16,8 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageConversionException;
 import org.springframework.validation.BindingResult;
@@ -44,6 +48,11 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
     private static final String PATH_KEY = "path";
     private static final String VIOLATIONS_KEY = "violations";
 
+    /**
+     * MariaDB error code of a row with the same value of a unique key as another one.
+     */
+    private static final int DUPLICATE_ENTRY_ERROR_CODE = 1062;
+
     @Value("${jhipster.clientApp.name}")
     private String applicationName;
 
@@ -164,6 +173,42 @@ public class ExceptionTranslator implements ProblemHandling, SecurityAdviceTrait
         return create(ex, problem, request);
     }
 
+    /**
+     * A row with the same unique key as another one, such as a student with the studentId of another student, is a
+     * conflict with the current state of the resource. The other integrity violations are left to the generic handler.
+     */
+    @ExceptionHandler
+    public ResponseEntity<Problem> handleDataIntegrityViolation(DataIntegrityViolationException ex, NativeWebRequest request) {
+        if (!isDuplicateKey(ex)) {
+            return handleThrowable(ex, request);
+        }
+        Problem problem = Problem.builder().withStatus(Status.CONFLICT).with(MESSAGE_KEY, ErrorConstants.ERR_DUPLICATE_KEY).build();
+        return create(ex, problem, request);
+    }
+
+    /**
+     * Tells whether a database error is caused by a row with the same value of a unique key as another one.
+     *
+     * @param ex the database error.
+     * @return {@code true} for a duplicate key.
+     */
+    public static boolean isDuplicateKey(DataAccessException ex) {
+        Throwable cause = ex.getMostSpecificCause();
+        return cause instanceof SQLException && ((SQLException) cause).getErrorCode() == DUPLICATE_ENTRY_ERROR_CODE;
+    }
+
+    @ExceptionHandler
+    public ResponseEntity<Problem> handlePasswordHashingRejected(PasswordHashingRejectedException ex, NativeWebRequest request) {
+        Problem problem = Problem
+            .builder()
+            .withStatus(Status.SERVICE_UNAVAILABLE)
+            .with(MESSAGE_KEY, ErrorConstants.ERR_PASSWORD_HASHING_REJECTED)
+            .build();
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "1");
+        return create(ex, problem, request, headers);
+    }
+
     @Override
     public ProblemBuilder prepare(final Throwable throwable, final StatusType status, final URI type) {
         Collection<String> activeProfiles = Arrays.asList(env.getActiveProfiles());
@@ -0,0 +1,121 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.service.dto.VersionSummaryDTO;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Utility class for handling the {@code ETag} and {@code Last-Modified} validators of the entities.
+ * <p>
+ * A {@code GET} request whose {@code If-None-Match} or {@code If-Modified-Since} header matches the validators of
+ * a {@link org.springframework.http.ResponseEntity} gets a {@code 304 (Not Modified)} response from Spring MVC,
+ * before its body is serialized. A {@code PUT} or {@code PATCH} request whose {@code If-Match} header does not match
+ * the current {@code ETag} gets a {@code 412 (Precondition Failed)} response.
+ */
+public final class ETagUtil {
+
+    private static final String ANY_ETAG = "*";
+
+    private ETagUtil() {}
+
+    /**
+     * Generate the strong {@code ETag} of an entity from its version, and from the version of the related entities
+     * included in its body.
+     *
+     * @param versions the versions, {@code null} for a missing related entity.
+     * @return the {@code ETag}.
+     */
+    public static String generateETag(Long... versions) {
+        return Arrays.stream(versions).filter(Objects::nonNull).map(String::valueOf).collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    /**
+     * Generate the weak {@code ETag} of a list of entities from their {@link VersionSummaryDTO}.
+     *
+     * @param summary the summary of the versions of the entities.
+     * @return the {@code ETag}.
+     */
+    public static String generateETag(VersionSummaryDTO summary) {
+        Instant lastModifiedDate = summary.getLastModifiedDate();
+        return (
+            "W/\"" +
+            summary.getCount() +
+            "-" +
+            summary.getVersionSum() +
+            "-" +
+            (lastModifiedDate != null ? lastModifiedDate.toEpochMilli() : 0) +
+            "\""
+        );
+    }
+
+    /**
+     * Generate the {@code ETag} and {@code Last-Modified} headers.
+     *
+     * @param etag the {@code ETag}.
+     * @param lastModifiedDates the dates the entity, and the related entities included in its body, were last
+     * modified, {@code null} when unknown.
+     * @return the http headers.
+     */
+    public static HttpHeaders generateValidatorHttpHeaders(String etag, Instant... lastModifiedDates) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etag);
+        Arrays.stream(lastModifiedDates).filter(Objects::nonNull).max(Instant::compareTo).ifPresent(headers::setLastModified);
+        return headers;
+    }
+
+    /**
+     * Check the {@code If-Match} header of an update request.
+     *
+     * @param ifMatch the {@code If-Match} header, or {@code null} if it is missing.
+     * @param etag the current strong {@code ETag} of the entity.
+     * @throws ResponseStatusException with status {@code 412 (Precondition Failed)} if the header does not match.
+     */
+    public static void checkIfMatch(String ifMatch, String etag) {
+        if (ifMatch == null) {
+            return;
+        }
+        // The weak ETags never match, as the comparison of If-Match is strong
+        boolean matches = Arrays.stream(ifMatch.split(",")).map(String::trim).anyMatch(tag -> tag.equals(ANY_ETAG) || tag.equals(etag));
+        if (!matches) {
+            throw new ResponseStatusException(HttpStatus.PRECONDITION_FAILED, "The entity was modified, its ETag is " + etag);
+        }
+    }
+
+    /**
+     * Parse the versions of the entity from the {@code If-Match} header of an update request, so that the update
+     * statement checks them itself.
+     * <p>
+     * Only the first version of each strong {@code ETag} is read, which is the version of the entity: the versions of
+     * the related entities included in its body are not checked.
+     *
+     * @param ifMatch the {@code If-Match} header, or {@code null} if it is missing.
+     * @return the versions the entity may have, empty if none matches, or {@code null} if any version matches.
+     */
+    public static List<Long> parseIfMatchVersions(String ifMatch) {
+        if (ifMatch == null) {
+            return null;
+        }
+        List<Long> versions = new ArrayList<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.equals(ANY_ETAG)) {
+                return null;
+            }
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                try {
+                    versions.add(Long.valueOf(tag.substring(1, tag.length() - 1).split("-")[0]));
+                } catch (NumberFormatException e) {
+                    // Not an ETag of this application, which matches no version
+                }
+            }
+        }
+        return versions;
+    }
+}
@@ -0,0 +1,112 @@
+package com.mycompany.myapp.web.rest.util;
+
+import com.mycompany.myapp.repository.Keyset;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling keyset (seek) pagination.
+ * <p>
+ * The position of the last row of a page is sent to the client as an opaque {@code after} cursor, in a {@code Link}
+ * header with the {@code next} relation. The cursor encodes the sort property, its value and the id of that row.
+ */
+public final class KeysetPaginationUtil {
+
+    public static final String AFTER_PARAMETER = "after";
+
+    private static final String SEPARATOR = "\n";
+
+    private static final String VALUE_PREFIX = "v";
+
+    private KeysetPaginationUtil() {}
+
+    /**
+     * Decodes the {@code after} cursor sent by the client and checks it against the requested sort.
+     *
+     * @param after the cursor, empty for the first page.
+     * @param pageable the requested page size and sort.
+     * @param entityClass the class of the paginated entity, whose property types the cursor value must match.
+     * @param sortableProperties the properties which can be used as keyset sort key.
+     * @param entityName the entity name, used in the error alert.
+     * @return the keyset, or {@code null} for the first page.
+     * @throws BadRequestAlertException if the sort is not a keyset sort on an allowed property, or the cursor is invalid.
+     */
+    public static Keyset decodeCursor(
+        String after,
+        Pageable pageable,
+        Class<?> entityClass,
+        Collection<String> sortableProperties,
+        String entityName
+    ) {
+        if (!Keyset.isKeysetSort(pageable.getSort())) {
+            throw new BadRequestAlertException("Unsupported sort for keyset pagination", entityName, "sortinvalid");
+        }
+        String property = Keyset.keysetOrder(pageable.getSort()).getProperty();
+        if (!sortableProperties.contains(property)) {
+            throw new BadRequestAlertException("Invalid sort property for keyset pagination", entityName, "sortinvalid");
+        }
+        if (after == null || after.isEmpty()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+            if (parts.length != 3 || !parts[0].equals(property)) {
+                throw new BadRequestAlertException("Invalid keyset cursor", entityName, "cursorinvalid");
+            }
+            String value = parts[2].startsWith(VALUE_PREFIX) ? parts[2].substring(VALUE_PREFIX.length()) : null;
+            Keyset keyset = new Keyset(property, value, Long.valueOf(parts[1]));
+            // A tampered value is rejected here, rather than when the repository parses it
+            keyset.parseValue(BeanUtils.findPropertyType(property, entityClass));
+            return keyset;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestAlertException("Invalid keyset cursor", entityName, "cursorinvalid");
+        }
+    }
+
+    /**
+     * Encodes the cursor pointing after the given entity.
+     *
+     * @param entity the last entity of a page.
+     * @param property the keyset sort property.
+     * @return the opaque cursor.
+     */
+    public static String encodeCursor(Object entity, String property) {
+        BeanWrapperImpl wrapper = new BeanWrapperImpl(entity);
+        Object value = wrapper.getPropertyValue(property);
+        String raw =
+            property + SEPARATOR + wrapper.getPropertyValue(Keyset.ID_PROPERTY) + SEPARATOR + (value == null ? "" : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Generate the {@code Link} header pointing to the next page, if there is one. No total count is computed.
+     *
+     * @param uriBuilder the current request URI.
+     * @param slice the page of entities.
+     * @param <T> the type of the entities.
+     * @return the http headers.
+     */
+    public static <T> HttpHeaders generateKeysetPaginationHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice) {
+        HttpHeaders headers = new HttpHeaders();
+        if (slice.hasNext()) {
+            List<T> content = slice.getContent();
+            String property = Keyset.keysetOrder(slice.getSort()).getProperty();
+            String uri = uriBuilder
+                .replaceQueryParam(AFTER_PARAMETER, encodeCursor(content.get(content.size() - 1), property))
+                .replaceQueryParam("page")
+                .replaceQueryParam("size", slice.getSize())
+                .toUriString();
+            headers.add(HttpHeaders.LINK, "<" + uri + ">; rel=\"next\"");
+        }
+        return headers;
+    }
+}
@@ -0,0 +1,53 @@
+package com.mycompany.myapp.web.rest.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Utility class for handling the pagination of a {@link Slice}, whose total count is not computed.
+ * <p>
+ * Unlike {@link tech.jhipster.web.util.PaginationUtil}, the {@code Link} header has no {@code last} relation, and there
+ * is no {@code X-Total-Count} header.
+ */
+public final class SlicePaginationUtil {
+
+    private static final String HEADER_LINK_FORMAT = "<%s>; rel=\"%s\"";
+
+    private SlicePaginationUtil() {}
+
+    /**
+     * Generate the {@code Link} header pointing to the next, previous and first pages.
+     *
+     * @param uriBuilder the current request URI.
+     * @param slice the page of entities.
+     * @param <T> the type of the entities.
+     * @return the http headers.
+     */
+    public static <T> HttpHeaders generateSlicePaginationHttpHeaders(UriComponentsBuilder uriBuilder, Slice<T> slice) {
+        int pageNumber = slice.getNumber();
+        int pageSize = slice.getSize();
+        List<String> links = new ArrayList<>();
+        if (slice.hasNext()) {
+            links.add(String.format(HEADER_LINK_FORMAT, preparePageUri(uriBuilder, pageNumber + 1, pageSize), "next"));
+        }
+        if (slice.hasPrevious()) {
+            links.add(String.format(HEADER_LINK_FORMAT, preparePageUri(uriBuilder, pageNumber - 1, pageSize), "prev"));
+        }
+        links.add(String.format(HEADER_LINK_FORMAT, preparePageUri(uriBuilder, 0, pageSize), "first"));
+        HttpHeaders headers = new HttpHeaders();
+        headers.add(HttpHeaders.LINK, String.join(",", links));
+        return headers;
+    }
+
+    private static String preparePageUri(UriComponentsBuilder uriBuilder, int pageNumber, int pageSize) {
+        return uriBuilder
+            .replaceQueryParam("page", Integer.toString(pageNumber))
+            .replaceQueryParam("size", Integer.toString(pageSize))
+            .toUriString()
+            .replace(",", "%2C")
+            .replace(";", "%3B");
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycompany.myapp.aop.logging;
+
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.management.MethodMetersService;
+import com.mycompany.myapp.service.mapper.UserMapper;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * JMH benchmark of the overhead of the {@link LoggingAspect} on a trivial service method, with the INFO level of
+ * production.
+ * <p>
+ * {@code disabled} calls the service without proxy, as when {@code application.method-logging.enabled} is not set.
+ * {@code previous} replays the advice of the previous aspect, which looked the logger up on every call, and
+ * {@code sampled} runs the {@link LoggingAspect}, which also times every call in a Prometheus registry. Run with
+ * {@code -prof gc} to compare the allocations.
+ * <p>
+ * Run it from the test classpath, for instance in the IDE, with the {@link #main(String[])} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class LoggingAspectBenchmark {
+
+    @Param({ "disabled", "previous", "sampled" })
+    private String aspect;
+
+    private UserMapper userMapper;
+
+    private long id;
+
+    @Setup
+    public void setup() {
+        ((ch.qos.logback.classic.Logger) LoggerFactory.getLogger("com.mycompany.myapp")).setLevel(ch.qos.logback.classic.Level.INFO);
+        if ("disabled".equals(aspect)) {
+            userMapper = new UserMapper();
+            return;
+        }
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new UserMapper());
+        proxyFactory.setProxyTargetClass(true);
+        if ("previous".equals(aspect)) {
+            proxyFactory.addAspect(new PreviousLoggingAspect());
+        } else {
+            MethodMetersService methodMetersService = new MethodMetersService(new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+            proxyFactory.addAspect(new LoggingAspect(new MockEnvironment(), 0.01, methodMetersService));
+        }
+        userMapper = proxyFactory.getProxy();
+    }
+
+    @Benchmark
+    public User call() {
+        return userMapper.userFromId(++id);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(LoggingAspectBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    @Aspect
+    public static class PreviousLoggingAspect {
+
+        @Around("within(com.mycompany.myapp.service..*) && within(@org.springframework.stereotype.Service *)")
+        public Object logAround(ProceedingJoinPoint joinPoint) throws Throwable {
+            Logger log = LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringTypeName());
+            if (log.isDebugEnabled()) {
+                log.debug("Enter: {}() with argument[s] = {}", joinPoint.getSignature().getName(), Arrays.toString(joinPoint.getArgs()));
+            }
+            try {
+                Object result = joinPoint.proceed();
+                if (log.isDebugEnabled()) {
+                    log.debug("Exit: {}() with result = {}", joinPoint.getSignature().getName(), result);
+                }
+                return result;
+            } catch (IllegalArgumentException e) {
+                log.error("Illegal argument: {} in {}()", Arrays.toString(joinPoint.getArgs()), joinPoint.getSignature().getName());
+                throw e;
+            }
+        }
+    }
+}
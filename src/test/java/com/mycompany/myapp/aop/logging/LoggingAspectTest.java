@@ -0,0 +1,111 @@
+package com.mycompany.myapp.aop.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.management.MethodMetersService;
+import com.mycompany.myapp.service.mapper.UserMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Test class for the {@link LoggingAspect}, advising the {@link UserMapper} service.
+ */
+class LoggingAspectTest {
+
+    private MeterRegistry meterRegistry;
+
+    private Logger userMapperLogger;
+
+    private Level userMapperLevel;
+
+    private ListAppender<ILoggingEvent> appender;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        userMapperLogger = (Logger) LoggerFactory.getLogger(UserMapper.class);
+        userMapperLevel = userMapperLogger.getLevel();
+        userMapperLogger.setLevel(Level.DEBUG);
+        appender = new ListAppender<>();
+        appender.start();
+        userMapperLogger.addAppender(appender);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        userMapperLogger.detachAppender(appender);
+        userMapperLogger.setLevel(userMapperLevel);
+    }
+
+    @Test
+    void testCallsAreTimed() {
+        UserMapper userMapper = advisedUserMapper(0);
+
+        userMapper.userFromId(1L);
+        userMapper.userFromId(2L);
+
+        assertThat(methodTimerCount("userFromId", "none")).isEqualTo(2);
+        assertThat(appender.list).isEmpty();
+    }
+
+    @Test
+    void testExceptionsAreTimedAndLogged() {
+        UserMapper userMapper = advisedUserMapper(0);
+
+        assertThatThrownBy(() -> userMapper.usersToUserDTOs(null)).isInstanceOf(NullPointerException.class);
+
+        assertThat(methodTimerCount("usersToUserDTOs", "NullPointerException")).isEqualTo(1);
+        assertThat(appender.list).extracting(ILoggingEvent::getLevel).containsExactly(Level.ERROR);
+    }
+
+    @Test
+    void testSampledCallsAreLogged() {
+        UserMapper userMapper = advisedUserMapper(1);
+
+        User user = userMapper.userFromId(1L);
+
+        assertThat(appender.list)
+            .extracting(ILoggingEvent::getFormattedMessage)
+            .containsExactly("Enter: userFromId() with argument[s] = [1]", "Exit: userFromId() with result = " + user);
+    }
+
+    @Test
+    void testCallsAreNotLoggedWithoutDebugLevel() {
+        userMapperLogger.setLevel(Level.INFO);
+        UserMapper userMapper = advisedUserMapper(1);
+
+        userMapper.userFromId(1L);
+
+        assertThat(appender.list).isEmpty();
+        assertThat(methodTimerCount("userFromId", "none")).isEqualTo(1);
+    }
+
+    private UserMapper advisedUserMapper(double sampleRate) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new UserMapper());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new LoggingAspect(new MockEnvironment(), sampleRate, new MethodMetersService(meterRegistry)));
+        return proxyFactory.getProxy();
+    }
+
+    private long methodTimerCount(String method, String exception) {
+        return meterRegistry
+            .get("method.timed")
+            .tag("class", UserMapper.class.getName())
+            .tag("method", method)
+            .tag("exception", exception)
+            .timer()
+            .count();
+    }
+}
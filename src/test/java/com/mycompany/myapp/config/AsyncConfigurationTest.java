@@ -0,0 +1,164 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.management.AsyncMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.AnnotationAsyncExecutionInterceptor;
+import org.springframework.scheduling.annotation.Async;
+import tech.jhipster.async.ExceptionHandlingAsyncTaskExecutor;
+
+/**
+ * Test class for the async task executor of the {@link AsyncConfiguration}.
+ * <p>
+ * The executor has a single thread and a single queued task, so that a third task is rejected while the first blocks.
+ */
+class AsyncConfigurationTest {
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties applicationProperties;
+
+    private ExceptionHandlingAsyncTaskExecutor executor;
+
+    private CountDownLatch blocking;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties = new ApplicationProperties();
+        blocking = new CountDownLatch(1);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        blocking.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void testRejectedTaskRunsOnCallingThread() throws Exception {
+        createExecutor(ApplicationProperties.Execution.RejectionPolicy.CALLER_RUNS);
+        fillExecutor();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        executor.submit(() -> thread.set(Thread.currentThread()));
+
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+        assertThat(meterRegistry.get("async.task.queued").gauge().value()).isEqualTo(1);
+        assertThat(rejectedCount("none", "caller-runs")).isEqualTo(1);
+    }
+
+    @Test
+    void testRejectedTaskIsAborted() throws Exception {
+        createExecutor(ApplicationProperties.Execution.RejectionPolicy.ABORT);
+        fillExecutor();
+
+        assertThatThrownBy(() -> executor.submit(() -> {})).isInstanceOf(TaskRejectedException.class);
+        assertThat(rejectedCount("none", "abort")).isEqualTo(1);
+    }
+
+    @Test
+    void testRejectionsOfTheSameMethodAreCountedTogether() throws Exception {
+        createExecutor(ApplicationProperties.Execution.RejectionPolicy.CALLER_RUNS);
+        fillExecutor();
+
+        executor.submit(() -> {});
+        executor.submit(() -> {});
+
+        assertThat(rejectedCount("none", "caller-runs")).isEqualTo(2);
+        assertThat(meterRegistry.find("async.task.rejected").counters()).hasSize(1);
+    }
+
+    @Test
+    void testRejectionIsTaggedByAsyncMethod() throws Exception {
+        createExecutor(ApplicationProperties.Execution.RejectionPolicy.CALLER_RUNS);
+        fillExecutor();
+        ProxyFactory proxyFactory = new ProxyFactory(new AsyncTask());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new AnnotationAsyncExecutionInterceptor(executor));
+        AsyncTask asyncTask = (AsyncTask) proxyFactory.getProxy();
+        AtomicReference<Thread> thread = new AtomicReference<>();
+
+        asyncTask.run(thread);
+
+        assertThat(thread.get()).isSameAs(Thread.currentThread());
+        assertThat(rejectedCount("AsyncConfigurationTest$AsyncTask.run", "caller-runs")).isEqualTo(1);
+    }
+
+    @Test
+    void testTasksAreTimed() throws Exception {
+        createExecutor(ApplicationProperties.Execution.RejectionPolicy.CALLER_RUNS);
+        blocking.countDown();
+
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+        executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+
+        assertThat(meterRegistry.get("async.task.wait").timer().count()).isEqualTo(2);
+        // Recorded once the task completed its future
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("async.task.run").timer().count() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(meterRegistry.get("async.task.run").timer().count()).isEqualTo(2);
+    }
+
+    private void createExecutor(ApplicationProperties.Execution.RejectionPolicy policy) throws Exception {
+        applicationProperties.getExecution().setAsyncRejectionPolicy(policy);
+        TaskExecutionProperties taskExecutionProperties = new TaskExecutionProperties();
+        taskExecutionProperties.getPool().setCoreSize(1);
+        taskExecutionProperties.getPool().setMaxSize(1);
+        taskExecutionProperties.getPool().setQueueCapacity(1);
+        AsyncConfiguration asyncConfiguration = new AsyncConfiguration(
+            taskExecutionProperties,
+            applicationProperties,
+            new AsyncMetersService(meterRegistry)
+        );
+        executor = (ExceptionHandlingAsyncTaskExecutor) asyncConfiguration.getAsyncExecutor();
+        executor.afterPropertiesSet();
+    }
+
+    /**
+     * Blocks the thread of the executor, and fills its queue.
+     */
+    private void fillExecutor() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitUninterruptibly(blocking);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        executor.execute(() -> {});
+    }
+
+    private double rejectedCount(String method, String policy) {
+        return meterRegistry.get("async.task.rejected").tag("method", method).tag("policy", policy).counter().count();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static class AsyncTask {
+
+        @Async
+        public void run(AtomicReference<Thread> thread) {
+            thread.set(Thread.currentThread());
+        }
+    }
+}
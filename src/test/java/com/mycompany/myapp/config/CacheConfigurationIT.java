@@ -0,0 +1,136 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Authority;
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.domain.User;
+import com.mycompany.myapp.repository.AuthorityRepository;
+import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Set;
+import javax.persistence.EntityManagerFactory;
+import org.apache.commons.lang3.RandomStringUtils;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the Hibernate second-level and query caches configured by {@link CacheConfiguration}.
+ * <p>
+ * The cache is only filled when a transaction commits, so these tests do not run in a rolled back transaction.
+ */
+@IntegrationTest
+class CacheConfigurationIT {
+
+    private static final String CACHED_USER_LOGIN = "cached-user";
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private AuthorityRepository authorityRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    void testUserWithAuthoritiesIsReadFromCache() {
+        User user = createUser();
+        try {
+            userService.getUserWithAuthoritiesByLogin(CACHED_USER_LOGIN);
+            statistics.clear();
+
+            User cached = userService.getUserWithAuthoritiesByLogin(CACHED_USER_LOGIN).orElseThrow();
+
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+            assertThat(statistics.getQueryCacheHitCount()).isEqualTo(1);
+            assertThat(cached.getAuthorities()).extracting(Authority::getName).containsExactly(AuthoritiesConstants.USER);
+        } finally {
+            userRepository.deleteById(user.getId());
+        }
+    }
+
+    @Test
+    void testAuthoritiesAreReadFromCache() {
+        userService.getAuthorities();
+        statistics.clear();
+
+        assertThat(userService.getAuthorities()).contains(AuthoritiesConstants.ADMIN, AuthoritiesConstants.USER);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void testStudentIsEvictedOnUpdate() {
+        Student student = studentRepository.save(new Student().name("AAAAAAAAAA"));
+        try {
+            statistics.clear();
+            transactionTemplate.execute(status -> studentRepository.findById(student.getId()));
+            assertThat(statistics.getPrepareStatementCount()).isZero();
+
+            studentRepository.save(student.name("BBBBBBBBBB"));
+
+            Student cached = transactionTemplate.execute(status -> studentRepository.findById(student.getId()).orElseThrow());
+            assertThat(cached.getName()).isEqualTo("BBBBBBBBBB");
+        } finally {
+            studentRepository.deleteById(student.getId());
+        }
+        assertThat(studentRepository.findById(student.getId())).isEmpty();
+    }
+
+    @Test
+    void testCacheMetricsAreExported() {
+        userService.getUserWithAuthoritiesByLogin(CACHED_USER_LOGIN);
+
+        assertThat(meterRegistry.find("cache.gets").tag("cache", User.class.getName()).tag("result", "hit").functionCounter())
+            .isNotNull();
+        assertThat(meterRegistry.find("cache.gets").tag("cache", "default-query-results-region").tag("result", "miss").functionCounter())
+            .isNotNull();
+    }
+
+    private User createUser() {
+        return transactionTemplate.execute(status -> {
+            User user = new User();
+            user.setLogin(CACHED_USER_LOGIN);
+            user.setPassword(RandomStringUtils.randomAlphanumeric(60));
+            user.setActivated(true);
+            user.setEmail(CACHED_USER_LOGIN + "@localhost");
+            user.setLangKey("en");
+            user.setAuthorities(Set.of(authorityRepository.findById(AuthoritiesConstants.USER).orElseThrow()));
+            return userRepository.save(user);
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link ConcurrencyLimitingDataSource}.
+ */
+class ConcurrencyLimitingDataSourceTest {
+
+    private DataSource targetDataSource;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        targetDataSource = mock(DataSource.class);
+        when(targetDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, 2, 10);
+    }
+
+    @Test
+    void testConnectionsAreLimited() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThat(dataSource.getActiveConnections()).isEqualTo(2);
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void testClosedConnectionIsReleased() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertThat(dataSource.getActiveConnections()).isEqualTo(1);
+        assertThat(dataSource.getConnection()).isNotNull();
+        assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+    }
+
+    @Test
+    void testConnectionIsClosed() throws SQLException {
+        Connection target = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(target);
+
+        dataSource.getConnection().close();
+
+        verify(target).close();
+    }
+
+    @Test
+    void testFailedConnectionIsReleased() throws SQLException {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("Connection refused");
+        assertThat(dataSource.getActiveConnections()).isZero();
+    }
+}
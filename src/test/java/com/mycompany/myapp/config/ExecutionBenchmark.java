@@ -0,0 +1,105 @@
+package com.mycompany.myapp.config;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import javax.sql.DataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of the throughput and latency of requests blocking on JDBC, depending on {@code application.execution}.
+ * <p>
+ * 200 clients send requests which hold a connection, out of 10, for 2ms, and then block for 2ms more. {@code PLATFORM}
+ * runs them on a pool of 64 threads, like the Undertow workers of an 8 cores server, and {@code VIRTUAL} on a new
+ * virtual thread per request. Both limit the connections with a {@link ConcurrencyLimitingDataSource}. The throughput
+ * is in requests per second, and the sample time gives the latency percentiles.
+ * <p>
+ * {@code VIRTUAL} needs a Java 21+ runtime, and fails otherwise. Run it from the test classpath, for instance in the
+ * IDE, with the {@link #main(String[])} method.
+ */
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Threads(200)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExecutionBenchmark {
+
+    private static final int POOL_SIZE = 10;
+
+    private static final int PLATFORM_THREADS = 64;
+
+    private static final long QUERY_MILLIS = 2;
+
+    private static final long REMOTE_CALL_MILLIS = 2;
+
+    @Param({ "PLATFORM", "VIRTUAL" })
+    private ApplicationProperties.Execution.Mode mode;
+
+    private ConcurrencyLimitingDataSource dataSource;
+
+    private Executor executor;
+
+    @Setup
+    public void setup() {
+        Connection connection = stub(Connection.class, null);
+        DataSource targetDataSource = stub(DataSource.class, connection);
+        dataSource = new ConcurrencyLimitingDataSource(targetDataSource, POOL_SIZE, 30000);
+
+        if (mode == ApplicationProperties.Execution.Mode.VIRTUAL) {
+            ThreadFactory threadFactory = VirtualThreads
+                .threadFactory("request-")
+                .orElseThrow(() -> new IllegalStateException("Virtual threads need a Java 21+ runtime"));
+            // As Undertow does, a new thread per request
+            executor = command -> threadFactory.newThread(command).start();
+        } else {
+            executor = Executors.newFixedThreadPool(PLATFORM_THREADS);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public Void request() {
+        return CompletableFuture.runAsync(this::handle, executor).join();
+    }
+
+    private void handle() {
+        try {
+            try (Connection connection = dataSource.getConnection()) {
+                Thread.sleep(QUERY_MILLIS);
+            }
+            Thread.sleep(REMOTE_CALL_MILLIS);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Not a Mockito mock, which would record the millions of invocations.
+     */
+    private static <T> T stub(Class<T> type, Object result) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) -> result));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ExecutionBenchmark.class.getSimpleName()).build()).run();
+    }
+}
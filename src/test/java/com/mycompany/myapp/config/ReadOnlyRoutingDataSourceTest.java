@@ -0,0 +1,90 @@
+package com.mycompany.myapp.config;
+
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Test class for the {@link ReadOnlyRoutingDataSource}.
+ */
+class ReadOnlyRoutingDataSourceTest {
+
+    private DataSource primaryDataSource;
+
+    private DataSource replicaDataSource;
+
+    private DataSource dataSource;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setup() throws SQLException {
+        primaryDataSource = mock(DataSource.class);
+        when(primaryDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        replicaDataSource = mock(DataSource.class);
+        when(replicaDataSource.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = ReadOnlyRoutingDataSource.lazy(primaryDataSource, replicaDataSource);
+        // The connection which the proxy reads its defaults from
+        verify(primaryDataSource).getConnection();
+        clearInvocations(primaryDataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @Test
+    void testReadOnlyTransactionRunsOnReplica() throws SQLException {
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> executeStatement());
+
+        verify(replicaDataSource).getConnection();
+        verify(primaryDataSource, never()).getConnection();
+    }
+
+    @Test
+    void testReadWriteTransactionRunsOnPrimary() throws SQLException {
+        transactionTemplate.executeWithoutResult(status -> executeStatement());
+
+        verify(primaryDataSource).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void testReadOnlyMethodJoiningReadWriteTransactionRunsOnPrimary() throws SQLException {
+        TransactionTemplate readOnlyTemplate = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        readOnlyTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> readOnlyTemplate.executeWithoutResult(readOnlyStatus -> executeStatement()));
+
+        verify(primaryDataSource).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    @Test
+    void testNoTransactionRunsOnPrimary() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primaryDataSource).getConnection();
+        verify(replicaDataSource, never()).getConnection();
+    }
+
+    private void executeStatement() {
+        try {
+            DataSourceUtils.getConnection(dataSource).createStatement();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.mycompany.myapp.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.repository.UserRepository;
+import com.mycompany.myapp.security.DomainUserDetailsService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Integration tests for the {@link ReadReplicaConfiguration}.
+ * <p>
+ * The test database stands in for the read replica, each transaction is told apart by the pool of its connection.
+ */
+@IntegrationTest
+@TestPropertySource(properties = { "application.read-replica.enabled=true", "application.read-replica.url=${spring.datasource.url}" })
+class ReadReplicaConfigurationIT {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    @Qualifier("userDetailsService")
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    public void setup() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        cacheManager.getCache(DomainUserDetailsService.USER_DETAILS_BY_LOGIN_CACHE).clear();
+    }
+
+    @Test
+    void testReadOnlyTransactionRunsOnReplica() {
+        transactionTemplate.setReadOnly(true);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.count();
+
+            assertThat(activeConnections(replicaDataSource)).isEqualTo(1);
+            assertThat(activeConnections(primaryDataSource)).isZero();
+        });
+    }
+
+    @Test
+    void testReadWriteTransactionRunsOnPrimary() {
+        transactionTemplate.executeWithoutResult(status -> {
+            userRepository.count();
+
+            assertThat(activeConnections(primaryDataSource)).isEqualTo(1);
+            assertThat(activeConnections(replicaDataSource)).isZero();
+        });
+    }
+
+    @Test
+    void testLoginLookupRunsOnPrimary() {
+        long primaryAcquisitions = connectionAcquisitions("Hikari");
+        long replicaAcquisitions = connectionAcquisitions("HikariReplica");
+
+        userDetailsService.loadUserByUsername("user");
+
+        assertThat(connectionAcquisitions("Hikari")).isGreaterThan(primaryAcquisitions);
+        assertThat(connectionAcquisitions("HikariReplica")).isEqualTo(replicaAcquisitions);
+    }
+
+    @Test
+    void testPoolsHaveTheirOwnMeters() {
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.executeWithoutResult(status -> userRepository.count());
+
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "HikariReplica").gauge()).isNotNull();
+        assertThat(meterRegistry.find("hikaricp.connections.active").tag("pool", "Hikari").gauge()).isNotNull();
+    }
+
+    private long connectionAcquisitions(String pool) {
+        Timer timer = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static int activeConnections(DataSource dataSource) {
+        HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+        return hikari.getHikariPoolMXBean() == null ? 0 : hikari.getHikariPoolMXBean().getActiveConnections();
+    }
+}
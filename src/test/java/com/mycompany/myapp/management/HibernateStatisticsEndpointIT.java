@@ -0,0 +1,81 @@
+package com.mycompany.myapp.management;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+/**
+ * Integration tests for the {@link HibernateStatisticsEndpoint}.
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+@WithMockUser(authorities = AuthoritiesConstants.ADMIN)
+class HibernateStatisticsEndpointIT {
+
+    private static final String ENDPOINT_URL = "/management/hibernatestats";
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MockMvc restMockMvc;
+
+    @Test
+    void testQueriesAreReportedOnceEnabled() throws Exception {
+        restMockMvc.perform(delete(ENDPOINT_URL)).andExpect(status().isNoContent());
+        restMockMvc
+            .perform(post(ENDPOINT_URL).contentType(MediaType.APPLICATION_JSON).content("{\"enabled\":true}"))
+            .andExpect(status().isNoContent());
+
+        try {
+            studentRepository.findAll(PageRequest.of(0, 20));
+            studentRepository.findAll(PageRequest.of(1, 20));
+
+            restMockMvc
+                .perform(get(ENDPOINT_URL))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.counts.queries").value(greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.caches.queryPlanCacheHits").exists())
+                .andExpect(jsonPath("$.mostFrequentQueries[0].query").value(containsString("Student")))
+                .andExpect(jsonPath("$.mostFrequentQueries[0].executions").value(greaterThanOrEqualTo(2)))
+                .andExpect(jsonPath("$.mostFrequentQueries[0].p99Millis").exists())
+                .andExpect(jsonPath("$.slowestQueries[*].query").value(hasItem(containsString("Student"))));
+        } finally {
+            restMockMvc
+                .perform(post(ENDPOINT_URL).contentType(MediaType.APPLICATION_JSON).content("{\"enabled\":false}"))
+                .andExpect(status().isNoContent());
+            restMockMvc.perform(delete(ENDPOINT_URL)).andExpect(status().isNoContent());
+        }
+    }
+
+    @Test
+    void testQueriesAreNotReportedWhenDisabled() throws Exception {
+        studentRepository.findAll(PageRequest.of(0, 20));
+
+        restMockMvc
+            .perform(get(ENDPOINT_URL))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.enabled").value(false))
+            .andExpect(jsonPath("$.mostFrequentQueries").isEmpty());
+    }
+
+    @Test
+    @WithMockUser
+    void testEndpointIsRestrictedToAdmins() throws Exception {
+        restMockMvc.perform(get(ENDPOINT_URL)).andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,98 @@
+package com.mycompany.myapp.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.QueryStatisticsCollector.QuerySummary;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class QueryStatisticsCollectorTests {
+
+    private QueryStatisticsCollector collector;
+
+    @BeforeEach
+    public void setup() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getHibernateStatistics().setMaxQueries(3);
+        applicationProperties.getHibernateStatistics().setSamples(100);
+        collector = new QueryStatisticsCollector(applicationProperties);
+    }
+
+    @Test
+    void testNormalizeReplacesLiteralsAndParameterLists() {
+        assertThat(
+            QueryStatisticsCollector.normalize(
+                "select s from Student s\n  where s.name = 'O''Brien' and s.age > 18 and s.id in (:param0, :param1, :param2)"
+            )
+        )
+            .isEqualTo("select s from Student s where s.name = ? and s.age > ? and s.id in (?)");
+        assertThat(QueryStatisticsCollector.normalize("select generatedAlias0 from Student as generatedAlias0 where generatedAlias0.id=?1"))
+            .isEqualTo("select generatedAlias0 from Student as generatedAlias0 where generatedAlias0.id=?1");
+    }
+
+    @Test
+    void testQueriesAreGroupedByNormalizedText() {
+        collector.record("select s from Student s where s.age > 18", 5, 2);
+        collector.record("select s from Student s where s.age > 20", 3, 4);
+
+        List<QuerySummary> queries = collector.mostFrequent(10);
+
+        assertThat(queries).hasSize(1);
+        QuerySummary query = queries.get(0);
+        assertThat(query.getQuery()).isEqualTo("select s from Student s where s.age > ?");
+        assertThat(query.getExecutions()).isEqualTo(2);
+        assertThat(query.getRows()).isEqualTo(8);
+        assertThat(query.getMeanRows()).isEqualTo(4.0);
+        assertThat(query.getMeanMillis()).isEqualTo(3.0);
+        assertThat(query.getMaxMillis()).isEqualTo(4);
+    }
+
+    @Test
+    void testPercentileIsComputedFromTheLatestExecutions() {
+        for (int i = 1; i <= 100; i++) {
+            collector.record("select s from Student s", 1, 1000 + i);
+        }
+        for (int i = 1; i <= 100; i++) {
+            collector.record("select s from Student s", 1, i);
+        }
+
+        QuerySummary query = collector.slowest(1).get(0);
+
+        assertThat(query.getP99Millis()).isEqualTo(99);
+        assertThat(query.getMaxMillis()).isEqualTo(1100);
+        assertThat(query.getExecutions()).isEqualTo(200);
+    }
+
+    @Test
+    void testTopQueriesAreSorted() {
+        collector.record("select a from A a", 0, 30);
+        collector.record("select b from B b", 0, 10);
+        collector.record("select b from B b", 0, 10);
+        collector.record("select c from C c", 0, 20);
+
+        assertThat(collector.slowest(2))
+            .extracting(QuerySummary::getQuery)
+            .containsExactly("select a from A a", "select c from C c");
+        assertThat(collector.mostFrequent(1)).extracting(QuerySummary::getQuery).containsExactly("select b from B b");
+    }
+
+    @Test
+    void testQueriesOverTheMaximumAreOnlyCounted() {
+        collector.record("select a from A a", 0, 1);
+        collector.record("select b from B b", 0, 1);
+        collector.record("select c from C c", 0, 1);
+        collector.record("select d from D d", 0, 1);
+        collector.record("select d from D d", 0, 1);
+        collector.record("select a from A a", 0, 1);
+
+        assertThat(collector.mostFrequent(10)).hasSize(3);
+        assertThat(collector.getUntracked()).isEqualTo(2);
+
+        collector.clear();
+
+        assertThat(collector.mostFrequent(10)).isEmpty();
+        assertThat(collector.getUntracked()).isZero();
+    }
+}
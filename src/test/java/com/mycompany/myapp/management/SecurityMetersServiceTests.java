@@ -6,6 +6,9 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -13,6 +16,10 @@ class SecurityMetersServiceTests {
 
     private static final String INVALID_TOKENS_METER_EXPECTED_NAME = "security.authentication.invalid-tokens";
 
+    private static final String TOKEN_CACHE_METER_EXPECTED_NAME = "security.authentication.token-cache";
+
+    private static final String PASSWORD_HASHING_REJECTED_METER_EXPECTED_NAME = "security.password-hashing.rejected";
+
     private MeterRegistry meterRegistry;
 
     private SecurityMetersService securityMetersService;
@@ -67,4 +74,47 @@ class SecurityMetersServiceTests {
 
         assertThat(meterRegistry.get(INVALID_TOKENS_METER_EXPECTED_NAME).tag("cause", "malformed").counter().count()).isEqualTo(1);
     }
+
+    @Test
+    void testTokenCacheCountersByResultAreCreated() {
+        meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter();
+
+        meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter();
+
+        Collection<Counter> counters = meterRegistry.find(TOKEN_CACHE_METER_EXPECTED_NAME).counters();
+
+        assertThat(counters).hasSize(2);
+    }
+
+    @Test
+    void testTokenCacheCountMethodsShouldBeBoundToCorrectCounters() {
+        securityMetersService.trackTokenCacheHit();
+        securityMetersService.trackTokenCacheHit();
+        securityMetersService.trackTokenCacheMiss();
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "hit").counter().count()).isEqualTo(2);
+
+        assertThat(meterRegistry.get(TOKEN_CACHE_METER_EXPECTED_NAME).tag("result", "miss").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testPasswordHashingRejectedCounter() {
+        assertThat(meterRegistry.get(PASSWORD_HASHING_REJECTED_METER_EXPECTED_NAME).counter().count()).isZero();
+
+        securityMetersService.trackPasswordHashingRejected();
+
+        assertThat(meterRegistry.get(PASSWORD_HASHING_REJECTED_METER_EXPECTED_NAME).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testPasswordHashingExecutorIsMonitored() throws Exception {
+        ExecutorService executor = securityMetersService.monitorPasswordHashingExecutor(Executors.newFixedThreadPool(1));
+        executor.submit(() -> {});
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value()).isZero();
+        assertThat(meterRegistry.get("executor").tag("name", "password-hashing").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("executor.idle").tag("name", "password-hashing").timer().count()).isEqualTo(1);
+    }
 }
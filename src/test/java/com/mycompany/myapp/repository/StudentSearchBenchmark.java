@@ -0,0 +1,219 @@
+package com.mycompany.myapp.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * JMH benchmark of a page of the student search, with its count query, over a million students in MariaDB.
+ * <p>
+ * The {@code legacy} benchmarks run the SQL of the former JPQL search, whose {@code :criterion IS NULL OR ...}
+ * predicates, with their broken precedence, scan the whole table, and the other ones the SQL of the
+ * {@link StudentSpecifications#search(String, Long)} specification. Both are run with and without the indexes of
+ * {@code 20261018120000_added_indexes_Student.xml}.
+ * <p>
+ * The students are loaded once in the {@code student_search_benchmark} database of the MariaDB server of
+ * {@code -Dbenchmark.jdbc.url}, by default the local one, with the {@code -Dbenchmark.jdbc.username} and
+ * {@code -Dbenchmark.jdbc.password} credentials. Run it from the test classpath, for instance in the IDE, with the
+ * {@link #main(String[])} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentSearchBenchmark {
+
+    private static final int STUDENTS = 1_000_000;
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int AGE = 30;
+
+    private static final String[] NAMES = { "Anna", "Bao", "Chloe", "Dmitri", "Emma", "Farid", "Giulia", "Hiro", "Ines", "Jonas" };
+
+    private static final String COLUMNS = "s.id, s.student_id, s.name, s.age, s.class_nam, s.address";
+
+    private static final String LEGACY_WHERE =
+        " where 1=1 and (? is null) or upper(s.name) like concat('%', upper(?), '%') and (? is null) or s.age=?";
+
+    private static final String LEGACY_SEARCH = "select " + COLUMNS + " from student s" + LEGACY_WHERE + " order by s.id desc limit ?";
+
+    private static final String LEGACY_COUNT = "select count(s.id) from student s" + LEGACY_WHERE;
+
+    private static final String AGE_SEARCH = "select " + COLUMNS + " from student s where s.age=? order by s.id desc limit ?";
+
+    private static final String AGE_COUNT = "select count(s.id) from student s where s.age=?";
+
+    private static final String NAME_AND_AGE_WHERE = " where upper(s.name) like ? escape '!' and s.age=?";
+
+    private static final String NAME_AND_AGE_SEARCH =
+        "select " + COLUMNS + " from student s" + NAME_AND_AGE_WHERE + " order by s.id desc limit ?";
+
+    private static final String NAME_AND_AGE_COUNT = "select count(s.id) from student s" + NAME_AND_AGE_WHERE;
+
+    private static final String[] INDEXES = {
+        "idx_student_student_id (student_id)",
+        "idx_student_name (name)",
+        "idx_student_age (age)",
+        "idx_student_class_nam (class_nam)",
+    };
+
+    @Param({ "false", "true" })
+    private boolean indexes;
+
+    private Connection connection;
+
+    @Setup
+    public void setup() throws SQLException {
+        String url = System.getProperty(
+            "benchmark.jdbc.url",
+            "jdbc:mariadb://127.0.0.1:3306/student_search_benchmark?createDatabaseIfNotExist=true"
+        );
+        connection =
+            DriverManager.getConnection(
+                url,
+                System.getProperty("benchmark.jdbc.username", "root"),
+                System.getProperty("benchmark.jdbc.password", "")
+            );
+        loadStudents();
+        try (Statement statement = connection.createStatement()) {
+            for (String index : INDEXES) {
+                String name = index.substring(0, index.indexOf(' '));
+                statement.execute(
+                    indexes ? "alter table student add index if not exists " + index : "alter table student drop index if exists " + name
+                );
+            }
+            statement.execute("analyze table student");
+        }
+    }
+
+    private void loadStudents() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "create table if not exists student (id bigint primary key, student_id integer, name varchar(255), age integer," +
+                " class_nam varchar(255), address varchar(255))"
+            );
+            try (ResultSet resultSet = statement.executeQuery("select count(*) from student")) {
+                resultSet.next();
+                if (resultSet.getLong(1) == STUDENTS) {
+                    return;
+                }
+            }
+            statement.execute("truncate table student");
+        }
+        Random random = new Random(42);
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement("insert into student values (?, ?, ?, ?, ?, ?)")) {
+            for (int id = 1; id <= STUDENTS; id++) {
+                insert.setLong(1, id);
+                insert.setInt(2, id);
+                insert.setString(3, NAMES[random.nextInt(NAMES.length)] + " " + Integer.toString(random.nextInt(1 << 20), 36));
+                insert.setInt(4, 18 + random.nextInt(50));
+                insert.setString(5, "Class " + random.nextInt(40));
+                insert.setString(6, random.nextInt(1000) + " Main Street");
+                insert.addBatch();
+                if (id % 10_000 == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+        }
+        connection.setAutoCommit(true);
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void legacySearchByAge(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement search = connection.prepareStatement(LEGACY_SEARCH)) {
+            bindLegacy(search, null, AGE);
+            search.setInt(5, PAGE_SIZE);
+            consume(search, blackhole);
+        }
+        try (PreparedStatement count = connection.prepareStatement(LEGACY_COUNT)) {
+            bindLegacy(count, null, AGE);
+            consume(count, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void searchByAge(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement search = connection.prepareStatement(AGE_SEARCH)) {
+            search.setInt(1, AGE);
+            search.setInt(2, PAGE_SIZE);
+            consume(search, blackhole);
+        }
+        try (PreparedStatement count = connection.prepareStatement(AGE_COUNT)) {
+            count.setInt(1, AGE);
+            consume(count, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void legacySearchByNameAndAge(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement search = connection.prepareStatement(LEGACY_SEARCH)) {
+            bindLegacy(search, "anna", AGE);
+            search.setInt(5, PAGE_SIZE);
+            consume(search, blackhole);
+        }
+        try (PreparedStatement count = connection.prepareStatement(LEGACY_COUNT)) {
+            bindLegacy(count, "anna", AGE);
+            consume(count, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void searchByNameAndAge(Blackhole blackhole) throws SQLException {
+        try (PreparedStatement search = connection.prepareStatement(NAME_AND_AGE_SEARCH)) {
+            search.setString(1, "%ANNA%");
+            search.setInt(2, AGE);
+            search.setInt(3, PAGE_SIZE);
+            consume(search, blackhole);
+        }
+        try (PreparedStatement count = connection.prepareStatement(NAME_AND_AGE_COUNT)) {
+            count.setString(1, "%ANNA%");
+            count.setInt(2, AGE);
+            consume(count, blackhole);
+        }
+    }
+
+    private static void bindLegacy(PreparedStatement statement, String name, int age) throws SQLException {
+        if (name == null) {
+            statement.setNull(1, Types.VARCHAR);
+            statement.setNull(2, Types.VARCHAR);
+        } else {
+            statement.setString(1, name);
+            statement.setString(2, name);
+        }
+        statement.setInt(3, AGE);
+        statement.setInt(4, AGE);
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StudentSearchBenchmark.class.getSimpleName()).build()).run();
+    }
+}
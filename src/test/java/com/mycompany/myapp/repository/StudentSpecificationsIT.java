@@ -0,0 +1,52 @@
+package com.mycompany.myapp.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.domain.Student;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Integration tests for the {@link StudentSpecifications}.
+ */
+@IntegrationTest
+@Transactional
+class StudentSpecificationsIT {
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    private Student percent;
+
+    private Student other;
+
+    @BeforeEach
+    public void initTest() {
+        percent = studentRepository.saveAndFlush(new Student().name("Specification 100%").age(20));
+        other = studentRepository.saveAndFlush(new Student().name("specification 1000").age(21));
+    }
+
+    @Test
+    void testSearchByNameIgnoresCaseAndEscapesWildcards() {
+        assertThat(search(StudentSpecifications.search("SPECIFICATION", null))).containsExactly(percent, other);
+        assertThat(search(StudentSpecifications.search("100%", null))).containsExactly(percent);
+        assertThat(search(StudentSpecifications.search("specification_1", null))).isEmpty();
+    }
+
+    @Test
+    void testSearchCombinesThePresentCriteria() {
+        assertThat(search(StudentSpecifications.search("specification", 21L))).containsExactly(other);
+        assertThat(search(StudentSpecifications.search(" ", 21L))).contains(other).doesNotContain(percent);
+        assertThat(search(StudentSpecifications.search(List.of(percent.getId(), other.getId()), 20L))).containsExactly(percent);
+        assertThat(search(StudentSpecifications.search(List.of(percent.getId(), other.getId()), null))).containsExactly(percent, other);
+    }
+
+    private List<Student> search(org.springframework.data.jpa.domain.Specification<Student> specification) {
+        return studentRepository.findAll(specification, Sort.by("id"));
+    }
+}
@@ -0,0 +1,92 @@
+package com.mycompany.myapp.repository.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.StudentRepository;
+import java.util.Arrays;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TrigramStudentSearchRepositoryTest {
+
+    private static final int LIMIT = 10;
+
+    private StudentRepository studentRepository;
+
+    private TrigramStudentSearchRepository studentSearchRepository;
+
+    @BeforeEach
+    public void setup() {
+        studentRepository = mock(StudentRepository.class);
+        when(studentRepository.findAllIdAndName())
+            .thenReturn(Arrays.asList(new Object[] { 1L, "Alice Martin" }, new Object[] { 2L, "Bob Martinez" }, new Object[] { 3L, null }));
+        studentSearchRepository = new TrigramStudentSearchRepository(studentRepository);
+    }
+
+    @Test
+    void testNotReadyBeforeInitialLoad() {
+        assertThat(studentSearchRepository.isReady()).isFalse();
+
+        studentSearchRepository.reindexAll();
+
+        assertThat(studentSearchRepository.isReady()).isTrue();
+    }
+
+    @Test
+    void testSearchIgnoresCase() {
+        studentSearchRepository.reindexAll();
+
+        assertThat(studentSearchRepository.searchIdsByName("MARTIN", LIMIT)).containsExactly(1L, 2L);
+        assertThat(studentSearchRepository.searchIdsByName("tinez", LIMIT)).containsExactly(2L);
+        assertThat(studentSearchRepository.searchIdsByName("carol", LIMIT)).isEmpty();
+    }
+
+    @Test
+    void testSearchWithShortQuery() {
+        studentSearchRepository.reindexAll();
+
+        assertThat(studentSearchRepository.searchIdsByName("bo", LIMIT)).containsExactly(2L);
+        assertThat(studentSearchRepository.searchIdsByName("z", LIMIT)).containsExactly(2L);
+    }
+
+    @Test
+    void testSearchRequiresContiguousMatch() {
+        studentSearchRepository.reindexAll();
+        studentSearchRepository.index(new Student().id(4L).name("Martin Tine"));
+
+        // every trigram of "martine" is in "Martin Tine", but not as a single substring
+        assertThat(studentSearchRepository.searchIdsByName("martine", LIMIT)).containsExactly(2L);
+        assertThat(studentSearchRepository.searchIdsByName("martin t", LIMIT)).containsExactly(4L);
+    }
+
+    @Test
+    void testIndexReplacesPreviousName() {
+        studentSearchRepository.reindexAll();
+
+        studentSearchRepository.index(new Student().id(1L).name("Carol King"));
+
+        assertThat(studentSearchRepository.searchIdsByName("martin", LIMIT)).containsExactly(2L);
+        assertThat(studentSearchRepository.searchIdsByName("king", LIMIT)).containsExactly(1L);
+    }
+
+    @Test
+    void testDeleteFromIndex() {
+        studentSearchRepository.reindexAll();
+
+        studentSearchRepository.deleteFromIndexById(2L);
+
+        assertThat(studentSearchRepository.searchIdsByName("martin", LIMIT)).containsExactly(1L);
+        assertThat(studentSearchRepository.searchIdsByName("bob", LIMIT)).isEmpty();
+    }
+
+    @Test
+    void testSearchIsLimited() {
+        studentSearchRepository.reindexAll();
+
+        assertThat(studentSearchRepository.searchIdsByName("martin", 1)).hasSize(1);
+        assertThat(studentSearchRepository.searchIdsByName("a", 1)).hasSize(1);
+    }
+}
@@ -0,0 +1,43 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test class for the {@link BCryptStrengthCalibrator} utility class.
+ */
+class BCryptStrengthCalibratorTest {
+
+    @Test
+    void testMinStrengthIsUsedWithoutTarget() {
+        assertThat(BCryptStrengthCalibrator.calibrate(Duration.ZERO, 4, 31)).isEqualTo(4);
+    }
+
+    @Test
+    void testStrengthIsFixedByEqualBounds() {
+        assertThat(BCryptStrengthCalibrator.calibrate(Duration.ofSeconds(1), 12, 12)).isEqualTo(12);
+    }
+
+    @Test
+    void testStrengthIsBoundedByMaxStrength() {
+        assertThat(BCryptStrengthCalibrator.calibrate(Duration.ofHours(1), 4, 6)).isEqualTo(6);
+    }
+
+    @Test
+    void testStrengthIncreasesWithTarget() {
+        int shortTarget = BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 4, 12);
+        int longTarget = BCryptStrengthCalibrator.calibrate(Duration.ofMillis(100), 4, 12);
+
+        assertThat(longTarget).isGreaterThan(shortTarget);
+    }
+
+    @Test
+    void testInvalidBoundsAreRejected() {
+        assertThatIllegalArgumentException().isThrownBy(() -> BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 3, 10));
+        assertThatIllegalArgumentException().isThrownBy(() -> BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 10, 32));
+        assertThatIllegalArgumentException().isThrownBy(() -> BCryptStrengthCalibrator.calibrate(Duration.ofMillis(1), 11, 10));
+    }
+}
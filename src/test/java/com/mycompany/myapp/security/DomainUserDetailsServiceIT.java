@@ -12,6 +12,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,8 +39,14 @@ class DomainUserDetailsServiceIT {
     @Qualifier("userDetailsService")
     private UserDetailsService domainUserDetailsService;
 
+    @Autowired
+    private CacheManager cacheManager;
+
     @BeforeEach
     public void init() {
+        cacheManager.getCache(DomainUserDetailsService.USER_DETAILS_BY_LOGIN_CACHE).clear();
+        cacheManager.getCache(DomainUserDetailsService.USER_DETAILS_BY_EMAIL_CACHE).clear();
+
         User userOne = new User();
         userOne.setLogin(USER_ONE_LOGIN);
         userOne.setPassword(RandomStringUtils.randomAlphanumeric(60));
@@ -110,4 +118,40 @@ class DomainUserDetailsServiceIT {
         assertThatExceptionOfType(UserNotActivatedException.class)
             .isThrownBy(() -> domainUserDetailsService.loadUserByUsername(USER_THREE_LOGIN));
     }
+
+    @Test
+    void assertThatUserIsReadFromCache() {
+        UserDetails userDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN);
+        User userOne = userRepository.findOneByLogin(USER_ONE_LOGIN).orElseThrow();
+        userOne.setPassword(RandomStringUtils.randomAlphanumeric(60));
+        userRepository.saveAndFlush(userOne);
+
+        UserDetails cachedUserDetails = domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN.toUpperCase(Locale.ENGLISH));
+
+        assertThat(cachedUserDetails).isNotSameAs(userDetails);
+        assertThat(cachedUserDetails.getPassword()).isEqualTo(userDetails.getPassword()).isNotEqualTo(userOne.getPassword());
+    }
+
+    @Test
+    void assertThatErasedCredentialsAreNotCached() {
+        UserDetails userDetails = domainUserDetailsService.loadUserByUsername(USER_TWO_EMAIL);
+        String password = userDetails.getPassword();
+        ((CredentialsContainer) userDetails).eraseCredentials();
+
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_TWO_EMAIL).getPassword()).isNotNull().isEqualTo(password);
+    }
+
+    @Test
+    void assertThatEvictedUserIsReadFromDatabase() {
+        domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN);
+        domainUserDetailsService.loadUserByUsername(USER_ONE_EMAIL);
+        User userOne = userRepository.findOneByLogin(USER_ONE_LOGIN).orElseThrow();
+        userOne.setPassword(RandomStringUtils.randomAlphanumeric(60));
+        userRepository.saveAndFlush(userOne);
+
+        ((DomainUserDetailsService) domainUserDetailsService).evictUser(USER_ONE_LOGIN, USER_ONE_EMAIL.toUpperCase(Locale.ENGLISH));
+
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_ONE_LOGIN).getPassword()).isEqualTo(userOne.getPassword());
+        assertThat(domainUserDetailsService.loadUserByUsername(USER_ONE_EMAIL).getPassword()).isEqualTo(userOne.getPassword());
+    }
 }
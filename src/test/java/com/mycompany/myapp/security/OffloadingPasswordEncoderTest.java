@@ -0,0 +1,136 @@
+package com.mycompany.myapp.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Test class for the {@link OffloadingPasswordEncoder}.
+ */
+class OffloadingPasswordEncoderTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SecurityMetersService securityMetersService;
+
+    private OffloadingPasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    public void setup() {
+        meterRegistry = new SimpleMeterRegistry();
+        securityMetersService = new SecurityMetersService(meterRegistry);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        passwordEncoder.destroy();
+    }
+
+    @Test
+    void testPasswordsAreHashedByTheDelegate() {
+        passwordEncoder = new OffloadingPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, securityMetersService);
+
+        String encodedPassword = passwordEncoder.encode("password");
+
+        assertThat(encodedPassword).startsWith("$2a$05$");
+        assertThat(passwordEncoder.matches("password", encodedPassword)).isTrue();
+        assertThat(passwordEncoder.matches("other-password", encodedPassword)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(encodedPassword)).isFalse();
+        assertThat(passwordEncoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password"))).isTrue();
+    }
+
+    @Test
+    void testPasswordsAreHashedOnTheHashingThreads() {
+        passwordEncoder = new OffloadingPasswordEncoder(new ThreadNameEncoder(), 1, 1, securityMetersService);
+
+        assertThat(passwordEncoder.encode("password")).startsWith("password-hashing-");
+    }
+
+    @Test
+    void testPasswordsAreRejectedWhenTheQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        passwordEncoder = new OffloadingPasswordEncoder(new BlockingEncoder(release), 1, 1, securityMetersService);
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("running"));
+        awaitActiveThreads(1);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("queued"));
+        awaitQueuedPasswords(1);
+
+        assertThatExceptionOfType(PasswordHashingRejectedException.class).isThrownBy(() -> passwordEncoder.encode("rejected"));
+        assertThat(meterRegistry.get("security.password-hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(10, TimeUnit.SECONDS)).isEqualTo("running");
+        assertThat(queued.get(10, TimeUnit.SECONDS)).isEqualTo("queued");
+    }
+
+    @Test
+    void testDelegateExceptionsArePropagated() {
+        passwordEncoder = new OffloadingPasswordEncoder(new BCryptPasswordEncoder(4), 1, 1, securityMetersService);
+
+        assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> passwordEncoder.encode(null));
+    }
+
+    private void awaitActiveThreads(int threads) throws InterruptedException {
+        awaitGauge("executor.active", threads);
+    }
+
+    private void awaitQueuedPasswords(int passwords) throws InterruptedException {
+        awaitGauge("executor.queued", passwords);
+    }
+
+    private void awaitGauge(String name, int value) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (meterRegistry.get(name).tag("name", "password-hashing").gauge().value() != value) {
+            assertThat(System.nanoTime()).as("%s reaches %d", name, value).isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private static class ThreadNameEncoder implements PasswordEncoder {
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            return Thread.currentThread().getName();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return false;
+        }
+    }
+
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch release;
+
+        BlockingEncoder(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return rawPassword.toString();
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return rawPassword.toString().equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.mycompany.myapp.security.jwt;
+
+import com.mycompany.myapp.management.SecurityMetersService;
+import com.mycompany.myapp.security.AuthoritiesConstants;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * JMH benchmark of the per-request cost of the {@link JWTFilter}.
+ * <p>
+ * {@code singleParse} runs the filter, which calls {@link TokenProvider#resolveAuthentication(String)}, and
+ * {@code doubleParse} replays the previous filter, which called {@link TokenProvider#validateToken(String)} and then
+ * {@link TokenProvider#getAuthentication(String)}. With {@code distinctTokens} set to 1 every valid token is served
+ * from the verified tokens cache, while 100000 distinct tokens exceed its size and measure the cost of a cache miss.
+ * <p>
+ * Run it from the test classpath, for instance in the IDE, with the {@link #main(String[])} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JWTFilterBenchmark {
+
+    private static final String BASE64_SECRET =
+        "fd54a45s65fds737b9aafcb3412e07ed99b267f33413274720ddbb7f6c5e64e9f14075f2d7ed041592f0b7657baf8";
+
+    private static final FilterChain NOOP_CHAIN = (request, response) -> {};
+
+    @Param({ "valid", "expired", "malformed" })
+    private String tokenType;
+
+    @Param({ "1", "100000" })
+    private int distinctTokens;
+
+    private TokenProvider tokenProvider;
+
+    private JWTFilter jwtFilter;
+
+    private MockHttpServletRequest[] requests;
+
+    private MockHttpServletResponse response;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        JHipsterProperties jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getSecurity().getAuthentication().getJwt().setBase64Secret(BASE64_SECRET);
+        tokenProvider = new TokenProvider(jHipsterProperties, new SecurityMetersService(new SimpleMeterRegistry()));
+        if ("expired".equals(tokenType)) {
+            ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", -60000L);
+        }
+        jwtFilter = new JWTFilter(tokenProvider);
+
+        requests = new MockHttpServletRequest[distinctTokens];
+        for (int i = 0; i < distinctTokens; i++) {
+            Authentication authentication = new UsernamePasswordAuthenticationToken(
+                "user-" + i,
+                "password",
+                Collections.singletonList(new SimpleGrantedAuthority(AuthoritiesConstants.USER))
+            );
+            String jwt = tokenProvider.createToken(authentication, false);
+            if ("malformed".equals(tokenType)) {
+                jwt = "X" + jwt;
+            }
+            requests[i] = new MockHttpServletRequest();
+            requests[i].addHeader(JWTFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+        }
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Authentication singleParse() throws IOException, ServletException {
+        jwtFilter.doFilter(nextRequest(), response, NOOP_CHAIN);
+        return takeAuthentication();
+    }
+
+    @Benchmark
+    public Authentication doubleParse() throws IOException, ServletException {
+        HttpServletRequest request = nextRequest();
+        String jwt = request.getHeader(JWTFilter.AUTHORIZATION_HEADER).substring(7);
+        if (tokenProvider.validateToken(jwt)) {
+            SecurityContextHolder.getContext().setAuthentication(tokenProvider.getAuthentication(jwt));
+        }
+        NOOP_CHAIN.doFilter(request, response);
+        return takeAuthentication();
+    }
+
+    private HttpServletRequest nextRequest() {
+        MockHttpServletRequest request = requests[next];
+        next = (next + 1) % requests.length;
+        return request;
+    }
+
+    private static Authentication takeAuthentication() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JWTFilterBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import com.mycompany.myapp.management.SecurityMetersService;
 import com.mycompany.myapp.security.AuthoritiesConstants;
+import com.mycompany.myapp.security.jwt.TokenValidationResult.FailureCause;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -88,6 +89,62 @@ class TokenProviderTest {
         assertThat(isTokenValid).isFalse();
     }
 
+    @Test
+    void testGetAuthenticationFromVerifiedToken() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+        Authentication first = tokenProvider.getAuthentication(token);
+        Authentication second = tokenProvider.getAuthentication(token);
+
+        assertThat(first.getName()).isEqualTo("anonymous");
+        assertThat(first.getCredentials()).isEqualTo(token);
+        assertThat(first.getAuthorities()).extracting(GrantedAuthority::getAuthority).containsExactly(AuthoritiesConstants.ANONYMOUS);
+        assertThat(second).isNotSameAs(first).isEqualTo(first);
+    }
+
+    @Test
+    void testReturnFalseWhenVerifiedJWTHasExpired() throws InterruptedException {
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", 1000L);
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.validateToken(token)).isTrue();
+
+        // the expiration of a JWT has a precision of one second
+        Thread.sleep(2000);
+
+        assertThat(tokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    void testResolveAuthenticationFromValidJWT() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+
+        TokenValidationResult result = tokenProvider.resolveAuthentication(token);
+
+        assertThat(result.isValid()).isTrue();
+        assertThat(result.getFailureCause()).isNull();
+        assertThat(result.getAuthentication().getName()).isEqualTo("anonymous");
+        assertThat(result.getAuthentication().getAuthorities())
+            .extracting(GrantedAuthority::getAuthority)
+            .containsExactly(AuthoritiesConstants.ANONYMOUS);
+    }
+
+    @Test
+    void testResolveAuthenticationReturnsFailureCause() {
+        String token = tokenProvider.createToken(createAuthentication(), false);
+        ReflectionTestUtils.setField(tokenProvider, "tokenValidityInMilliseconds", -ONE_MINUTE);
+        String expiredToken = tokenProvider.createToken(createAuthentication(), false);
+
+        assertThat(tokenProvider.resolveAuthentication(expiredToken).getFailureCause()).isEqualTo(FailureCause.EXPIRED);
+        assertThat(tokenProvider.resolveAuthentication(createUnsupportedToken()).getFailureCause()).isEqualTo(FailureCause.UNSUPPORTED);
+        assertThat(tokenProvider.resolveAuthentication(token.substring(1)).getFailureCause()).isEqualTo(FailureCause.MALFORMED);
+        assertThat(tokenProvider.resolveAuthentication(createTokenWithDifferentSignature()).getFailureCause())
+            .isEqualTo(FailureCause.INVALID_SIGNATURE);
+        assertThat(tokenProvider.resolveAuthentication("").getFailureCause()).isEqualTo(FailureCause.INVALID_ARGUMENT);
+        assertThat(tokenProvider.resolveAuthentication("").getAuthentication()).isNull();
+    }
+
     @Test
     void testKeyIsSetFromSecretWhenSecretIsNotEmpty() {
         final String secret = "NwskoUmKHZtzGRKJKVjsJF7BtQMMxNWi";
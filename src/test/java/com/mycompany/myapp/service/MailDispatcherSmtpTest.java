@@ -0,0 +1,168 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.icegreen.greenmail.util.GreenMail;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.MailMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.mail.MessagingException;
+import javax.mail.Transport;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+/**
+ * Test class for the {@link MailDispatcher}, sending the emails to a local SMTP server.
+ * <p>
+ * The server listens on a free port, and is started by each test.
+ */
+class MailDispatcherSmtpTest {
+
+    private static final long RECEIVE_TIMEOUT_MILLIS = 5000;
+
+    private GreenMail greenMail;
+
+    private ConnectionCountingMailSender javaMailSender;
+
+    private MeterRegistry meterRegistry;
+
+    private ApplicationProperties applicationProperties;
+
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        int port = freePort();
+        greenMail = new GreenMail(new ServerSetup(port, "localhost", ServerSetup.PROTOCOL_SMTP));
+        javaMailSender = new ConnectionCountingMailSender();
+        javaMailSender.setHost("localhost");
+        javaMailSender.setPort(port);
+        meterRegistry = new SimpleMeterRegistry();
+        applicationProperties = new ApplicationProperties();
+        applicationProperties.getMail().setQueueCapacity(10);
+        applicationProperties.getMail().setBatchSize(5);
+        applicationProperties.getMail().setMaxAttempts(3);
+        applicationProperties.getMail().setInitialBackoffMillis(500);
+        mailDispatcher = new MailDispatcher(javaMailSender, applicationProperties, new MailMetersService(meterRegistry));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        mailDispatcher.stop();
+        greenMail.stop();
+    }
+
+    @Test
+    void testEmailsAreDeliveredInBatches() throws Exception {
+        greenMail.start();
+        for (int i = 0; i < 7; i++) {
+            assertThat(mailDispatcher.dispatch(createMessage("testSubject" + i))).isTrue();
+        }
+
+        mailDispatcher.start();
+        mailDispatcher.stop();
+
+        assertThat(greenMail.waitForIncomingEmail(RECEIVE_TIMEOUT_MILLIS, 7)).isTrue();
+        assertThat(greenMail.getReceivedMessages())
+            .extracting(MimeMessage::getSubject)
+            .containsExactlyInAnyOrder(
+                "testSubject0",
+                "testSubject1",
+                "testSubject2",
+                "testSubject3",
+                "testSubject4",
+                "testSubject5",
+                "testSubject6"
+            );
+        assertThat(meterRegistry.get("mail.sent").counter().count()).isEqualTo(7);
+        assertThat(meterRegistry.get("mail.send").tag("result", "success").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testEachBatchIsSentOverOneConnection() throws Exception {
+        greenMail.start();
+        for (int i = 0; i < 7; i++) {
+            mailDispatcher.dispatch(createMessage("testSubject" + i));
+        }
+
+        mailDispatcher.start();
+        mailDispatcher.stop();
+
+        assertThat(greenMail.waitForIncomingEmail(RECEIVE_TIMEOUT_MILLIS, 7)).isTrue();
+        // A batch of 5 emails, then a batch of 2 emails
+        assertThat(javaMailSender.connections).hasValue(2);
+    }
+
+    @Test
+    void testFailedEmailsAreSentAgainOnceTheServerAcceptsThem() throws Exception {
+        mailDispatcher.dispatch(createMessage("testSubject"));
+
+        // The server is down: the first attempt fails
+        mailDispatcher.start();
+        awaitFailedBatches(1);
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        greenMail.start();
+
+        assertThat(greenMail.waitForIncomingEmail(RECEIVE_TIMEOUT_MILLIS, 1)).isTrue();
+        // The server may receive the email before the worker counts it
+        mailDispatcher.stop();
+        assertThat(greenMail.getReceivedMessages()).extracting(MimeMessage::getSubject).containsExactly("testSubject");
+        assertThat(meterRegistry.get("mail.sent").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.failures").tag("cause", "send-failed").counter().count()).isZero();
+    }
+
+    private MimeMessage createMessage(String subject) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+        helper.setTo("john.doe@example.com");
+        helper.setFrom("test@localhost");
+        helper.setSubject(subject);
+        helper.setText("testContent");
+        return message;
+    }
+
+    private void awaitFailedBatches(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(RECEIVE_TIMEOUT_MILLIS);
+        while (failedBatches() < expected) {
+            assertThat(System.nanoTime()).as("failed batches").isLessThan(deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private long failedBatches() {
+        Timer timer = meterRegistry.find("mail.send").tag("result", "failure").timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Counts the SMTP connections opened to send the emails.
+     */
+    private static final class ConnectionCountingMailSender extends JavaMailSenderImpl {
+
+        private final AtomicInteger connections = new AtomicInteger();
+
+        @Override
+        protected Transport connectTransport() throws MessagingException {
+            connections.incrementAndGet();
+            return super.connectTransport();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.mycompany.myapp.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.management.MailMetersService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import javax.mail.Session;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+/**
+ * Test class for the {@link MailDispatcher}.
+ * <p>
+ * The emails are queued before the dispatcher starts, and stopping it waits until they are sent.
+ */
+class MailDispatcherTest {
+
+    private JavaMailSender javaMailSender;
+
+    private MeterRegistry meterRegistry;
+
+    private MailDispatcher mailDispatcher;
+
+    @BeforeEach
+    public void setup() {
+        javaMailSender = mock(JavaMailSender.class);
+        meterRegistry = new SimpleMeterRegistry();
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getMail().setQueueCapacity(3);
+        applicationProperties.getMail().setBatchSize(2);
+        applicationProperties.getMail().setMaxAttempts(3);
+        applicationProperties.getMail().setInitialBackoffMillis(1);
+        mailDispatcher = new MailDispatcher(javaMailSender, applicationProperties, new MailMetersService(meterRegistry));
+    }
+
+    @Test
+    void testEmailsAreSentInBatches() {
+        MimeMessage first = new MimeMessage((Session) null);
+        MimeMessage second = new MimeMessage((Session) null);
+        MimeMessage third = new MimeMessage((Session) null);
+        assertThat(mailDispatcher.dispatch(first)).isTrue();
+        assertThat(mailDispatcher.dispatch(second)).isTrue();
+        assertThat(mailDispatcher.dispatch(third)).isTrue();
+        assertThat(meterRegistry.get("mail.queue.size").gauge().value()).isEqualTo(3);
+
+        mailDispatcher.start();
+        mailDispatcher.stop();
+
+        verify(javaMailSender).send(first, second);
+        verify(javaMailSender).send(new MimeMessage[] { third });
+        assertThat(meterRegistry.get("mail.queue.size").gauge().value()).isZero();
+        assertThat(meterRegistry.get("mail.sent").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("mail.send").tag("result", "success").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    void testEmailsAreDroppedWhenTheQueueIsFull() {
+        for (int i = 0; i < 3; i++) {
+            mailDispatcher.dispatch(new MimeMessage((Session) null));
+        }
+
+        assertThat(mailDispatcher.dispatch(new MimeMessage((Session) null))).isFalse();
+        assertThat(meterRegistry.get("mail.failures").tag("cause", "queue-full").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testFailedEmailsAreSentAgain() {
+        MimeMessage sent = new MimeMessage((Session) null);
+        MimeMessage failed = new MimeMessage((Session) null);
+        doThrow(new MailSendException(Map.of(failed, new Exception("Mailbox unavailable")))).when(javaMailSender).send(sent, failed);
+        doNothing().when(javaMailSender).send(new MimeMessage[] { failed });
+        mailDispatcher.dispatch(sent);
+        mailDispatcher.dispatch(failed);
+
+        mailDispatcher.start();
+        mailDispatcher.stop();
+
+        verify(javaMailSender).send(sent, failed);
+        verify(javaMailSender).send(new MimeMessage[] { failed });
+        assertThat(meterRegistry.get("mail.sent").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("mail.send").tag("result", "failure").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("mail.failures").tag("cause", "send-failed").counter().count()).isZero();
+    }
+
+    @Test
+    void testEmailsAreDroppedAfterTheLastAttempt() {
+        MimeMessage message = new MimeMessage((Session) null);
+        doThrow(new MailAuthenticationException("Authentication failed")).when(javaMailSender).send(new MimeMessage[] { message });
+        mailDispatcher.dispatch(message);
+
+        mailDispatcher.start();
+        mailDispatcher.stop();
+
+        verify(javaMailSender, times(3)).send(new MimeMessage[] { message });
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        assertThat(meterRegistry.get("mail.sent").counter().count()).isZero();
+        assertThat(meterRegistry.get("mail.failures").tag("cause", "send-failed").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void testQueuedEmailsAreSentWhileARetryIsDelayed() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getMail().setMaxAttempts(2);
+        applicationProperties.getMail().setInitialBackoffMillis(2000);
+        mailDispatcher = new MailDispatcher(javaMailSender, applicationProperties, new MailMetersService(new SimpleMeterRegistry()));
+        MimeMessage failed = new MimeMessage((Session) null);
+        MimeMessage queued = new MimeMessage((Session) null);
+        doThrow(new MailAuthenticationException("Authentication failed")).when(javaMailSender).send(new MimeMessage[] { failed });
+        mailDispatcher.dispatch(failed);
+
+        mailDispatcher.start();
+        verify(javaMailSender, timeout(1000)).send(new MimeMessage[] { failed });
+        mailDispatcher.dispatch(queued);
+
+        // Sent before the failed email is sent again
+        verify(javaMailSender, timeout(1000)).send(new MimeMessage[] { queued });
+        verify(javaMailSender, times(1)).send(new MimeMessage[] { failed });
+        mailDispatcher.stop();
+        verify(javaMailSender, times(2)).send(new MimeMessage[] { failed });
+    }
+}
@@ -7,6 +7,8 @@ import static org.mockito.Mockito.*;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.config.Constants;
 import com.mycompany.myapp.domain.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
@@ -15,6 +17,7 @@ import java.net.URI;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import javax.mail.Multipart;
@@ -30,6 +33,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.web.util.HtmlUtils;
 import tech.jhipster.config.JHipsterProperties;
 
 /**
@@ -44,6 +48,11 @@ class MailServiceIT {
     private static final Pattern PATTERN_LOCALE_3 = Pattern.compile("([a-z]{2})-([a-zA-Z]{4})-([a-z]{2})");
     private static final Pattern PATTERN_LOCALE_2 = Pattern.compile("([a-z]{2})-([a-z]{2})");
 
+    /**
+     * The emails are sent by the worker thread of the {@link MailDispatcher}.
+     */
+    private static final long SEND_TIMEOUT_MILLIS = 5000;
+
     @Autowired
     private JHipsterProperties jHipsterProperties;
 
@@ -56,6 +65,9 @@ class MailServiceIT {
     @Autowired
     private MailService mailService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     public void setup() {
         doNothing().when(javaMailSender).send(any(MimeMessage.class));
@@ -65,7 +77,7 @@ class MailServiceIT {
     @Test
     void testSendEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
@@ -78,7 +90,7 @@ class MailServiceIT {
     @Test
     void testSendHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, true);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("testSubject");
         assertThat(message.getAllRecipients()[0]).hasToString("john.doe@example.com");
@@ -91,7 +103,7 @@ class MailServiceIT {
     @Test
     void testSendMultipartEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, false);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
@@ -108,7 +120,7 @@ class MailServiceIT {
     @Test
     void testSendMultipartHtmlEmail() throws Exception {
         mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", true, true);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         MimeMultipart mp = (MimeMultipart) message.getContent();
         MimeBodyPart part = (MimeBodyPart) ((MimeMultipart) mp.getBodyPart(0).getContent()).getBodyPart(0);
@@ -129,7 +141,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getSubject()).isEqualTo("test title");
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
@@ -138,6 +150,22 @@ class MailServiceIT {
         assertThat(message.getDataHandler().getContentType()).isEqualTo("text/html;charset=UTF-8");
     }
 
+    @Test
+    void testSendEmailFromTemplateRendersEveryUser() throws Exception {
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        for (String login : new String[] { "john", "<b>jane</b>" }) {
+            User user = new User();
+            user.setLangKey(Constants.DEFAULT_LANGUAGE);
+            user.setLogin(login);
+            user.setEmail("john.doe@example.com");
+            mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
+            verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS).atLeastOnce()).send(new MimeMessage[] { messageCaptor.capture() });
+            assertThat(messageCaptor.getValue().getContent().toString())
+                .isEqualToNormalizingNewlines("<html>test title, http://127.0.0.1:8080, " + HtmlUtils.htmlEscape(login) + "</html>\n");
+            clearInvocations(javaMailSender);
+        }
+    }
+
     @Test
     void testSendActivationEmail() throws Exception {
         User user = new User();
@@ -145,7 +173,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendActivationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -160,7 +188,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendCreationEmail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -175,7 +203,7 @@ class MailServiceIT {
         user.setLogin("john");
         user.setEmail("john.doe@example.com");
         mailService.sendPasswordResetMail(user);
-        verify(javaMailSender).send(messageCaptor.capture());
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS)).send(new MimeMessage[] { messageCaptor.capture() });
         MimeMessage message = messageCaptor.getValue();
         assertThat(message.getAllRecipients()[0]).hasToString(user.getEmail());
         assertThat(message.getFrom()[0]).hasToString(jHipsterProperties.getMail().getFrom());
@@ -185,12 +213,29 @@ class MailServiceIT {
 
     @Test
     void testSendEmailWithException() {
-        doThrow(MailSendException.class).when(javaMailSender).send(any(MimeMessage.class));
+        doThrow(MailSendException.class).when(javaMailSender).send(new MimeMessage[] { any() });
         try {
             mailService.sendEmail("john.doe@example.com", "testSubject", "testContent", false, false);
         } catch (Exception e) {
             fail("Exception shouldn't have been thrown");
         }
+        // Every attempt is made before the next test
+        verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS).times(2)).send(new MimeMessage[] { any() });
+    }
+
+    @Test
+    void testEmailsAreSentInBatches() throws Exception {
+        when(javaMailSender.createMimeMessage()).thenAnswer(invocation -> new MimeMessage((Session) null));
+        Counter sent = meterRegistry.get("mail.sent").counter();
+        double sentBefore = sent.count();
+        for (int i = 0; i < 10; i++) {
+            mailService.sendEmail("john.doe" + i + "@example.com", "testSubject" + i, "testContent", false, false);
+        }
+
+        awaitCount(sent, sentBefore + 10);
+        verify(javaMailSender, atLeastOnce()).send(new MimeMessage[] { messageCaptor.capture() });
+        assertThat(messageCaptor.getAllValues()).hasSize(10).extracting(MimeMessage::getSubject).contains("testSubject0", "testSubject9");
+        assertThat(meterRegistry.get("mail.send").tag("result", "success").timer().count()).isPositive();
     }
 
     @Test
@@ -201,7 +246,7 @@ class MailServiceIT {
         for (String langKey : languages) {
             user.setLangKey(langKey);
             mailService.sendEmailFromTemplate(user, "mail/testEmail", "email.test.title");
-            verify(javaMailSender, atLeastOnce()).send(messageCaptor.capture());
+            verify(javaMailSender, timeout(SEND_TIMEOUT_MILLIS).atLeastOnce()).send(new MimeMessage[] { messageCaptor.capture() });
             MimeMessage message = messageCaptor.getValue();
 
             String propertyFilePath = "i18n/messages_" + getJavaLocale(langKey) + ".properties";
@@ -217,6 +262,17 @@ class MailServiceIT {
         }
     }
 
+    /**
+     * The meters are updated once the emails are sent, and they also count the emails sent by the other tests.
+     */
+    private static void awaitCount(Counter counter, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SEND_TIMEOUT_MILLIS);
+        while (counter.count() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(counter.count()).isGreaterThanOrEqualTo(expected);
+    }
+
     /**
      * Convert a lang key to the Java locale.
      */
@@ -0,0 +1,128 @@
+package com.mycompany.myapp.service;
+
+import com.mycompany.myapp.domain.User;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.support.ResourceBundleMessageSource;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.spring5.SpringTemplateEngine;
+import org.thymeleaf.templatemode.TemplateMode;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * JMH benchmark of the rendering of the email templates.
+ * <p>
+ * {@code newContext} renders the content and resolves the subject of an email as the {@link MailService} does, with a
+ * new {@link Context} for every email, and {@code reusedContext} reuses the same {@link Context}, only replacing the
+ * user. Both use a template engine caching the parsed templates, as {@code spring.thymeleaf.cache} does in production.
+ * <p>
+ * Run it from the test classpath, for instance in the IDE, with the {@link #main(String[])} method.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MailTemplateBenchmark {
+
+    private static final int DISTINCT_USERS = 1000;
+
+    private static final Map<String, String> TITLE_KEYS = Map.of(
+        "mail/activationEmail",
+        "email.activation.title",
+        "mail/creationEmail",
+        "email.activation.title",
+        "mail/passwordResetEmail",
+        "email.reset.title"
+    );
+
+    @Param({ "mail/activationEmail", "mail/creationEmail", "mail/passwordResetEmail" })
+    private String templateName;
+
+    private String titleKey;
+
+    private JHipsterProperties jHipsterProperties;
+
+    private ResourceBundleMessageSource messageSource;
+
+    private SpringTemplateEngine templateEngine;
+
+    private Locale locale;
+
+    private Context context;
+
+    private User[] users;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        titleKey = TITLE_KEYS.get(templateName);
+        jHipsterProperties = new JHipsterProperties();
+        jHipsterProperties.getMail().setBaseUrl("http://127.0.0.1:8080");
+
+        ClassLoaderTemplateResolver templateResolver = new ClassLoaderTemplateResolver();
+        templateResolver.setPrefix("templates/");
+        templateResolver.setSuffix(".html");
+        templateResolver.setTemplateMode(TemplateMode.HTML);
+        templateResolver.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        templateResolver.setCacheable(true);
+
+        messageSource = new ResourceBundleMessageSource();
+        messageSource.setBasename("i18n/messages");
+        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
+
+        templateEngine = new SpringTemplateEngine();
+        templateEngine.setTemplateResolver(templateResolver);
+        templateEngine.setTemplateEngineMessageSource(messageSource);
+
+        locale = Locale.ENGLISH;
+        context = new Context(locale);
+        context.setVariable("baseUrl", jHipsterProperties.getMail().getBaseUrl());
+
+        users = new User[DISTINCT_USERS];
+        for (int i = 0; i < DISTINCT_USERS; i++) {
+            User user = new User();
+            user.setLogin("user-" + i);
+            user.setEmail("user-" + i + "@example.com");
+            user.setActivationKey("activation-key-" + i);
+            user.setResetKey("reset-key-" + i);
+            users[i] = user;
+        }
+    }
+
+    @Benchmark
+    public void newContext(Blackhole blackhole) {
+        Context newContext = new Context(locale);
+        newContext.setVariable("user", nextUser());
+        newContext.setVariable("baseUrl", jHipsterProperties.getMail().getBaseUrl());
+        blackhole.consume(templateEngine.process(templateName, newContext));
+        blackhole.consume(messageSource.getMessage(titleKey, null, locale));
+    }
+
+    @Benchmark
+    public void reusedContext(Blackhole blackhole) {
+        context.setVariable("user", nextUser());
+        blackhole.consume(templateEngine.process(templateName, context));
+        blackhole.consume(messageSource.getMessage(titleKey, null, locale));
+    }
+
+    private User nextUser() {
+        User user = users[next];
+        next = (next + 1) % users.length;
+        return user;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MailTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
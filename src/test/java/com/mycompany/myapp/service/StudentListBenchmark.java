@@ -0,0 +1,194 @@
+package com.mycompany.myapp.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.hibernate5.Hibernate5Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.service.dto.StudentDTO;
+import com.zaxxer.hikari.HikariDataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import org.hibernate.FlushMode;
+import org.hibernate.Session;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+/**
+ * JMH benchmark of a page of the student list, from its query to its JSON body, over ten thousand students in
+ * MariaDB.
+ * <p>
+ * {@code entities} loads managed students with their classEntity in a read-write transaction, and serializes them
+ * with the {@link Hibernate5Module}, as {@code GET /api/students} did before. {@code dtos} selects the same columns
+ * into {@link StudentDTO}s in a read-only session with {@link FlushMode#MANUAL}, as the {@link StudentQueryService}
+ * does in the read-only transaction of the endpoint. The second-level cache is disabled.
+ * <p>
+ * Both read the first page, as deeper pages add the same cost of skipping their offset to both.
+ * <p>
+ * The allocation per request is the {@code gc.alloc.rate.norm} of the {@link GCProfiler}, which {@link #main(String[])}
+ * adds. The students are loaded once in the {@code student_list_benchmark} database of the MariaDB server of
+ * {@code -Dbenchmark.jdbc.url}, by default the local one, with the {@code -Dbenchmark.jdbc.username} and
+ * {@code -Dbenchmark.jdbc.password} credentials. Run it from the test classpath, for instance in the IDE, with the
+ * {@link #main(String[])} method.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class StudentListBenchmark {
+
+    private static final int STUDENTS = 10_000;
+
+    private static final int CLASSES = 40;
+
+    private static final String ENTITY_QUERY = "select s from Student s left join fetch s.classEntity order by s.id desc";
+
+    private static final String DTO_QUERY =
+        "select new com.mycompany.myapp.service.dto.StudentDTO(s.id, s.studentId, s.name, s.age, s.classNam, s.address," +
+        " c.id, c.classId, c.name) from Student s left join s.classEntity c order by s.id desc";
+
+    @Param({ "20", "200" })
+    private int pageSize;
+
+    private HikariDataSource dataSource;
+
+    private EntityManagerFactory entityManagerFactory;
+
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() throws SQLException {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(
+            System.getProperty("benchmark.jdbc.url", "jdbc:mariadb://127.0.0.1:3306/student_list_benchmark?createDatabaseIfNotExist=true")
+        );
+        dataSource.setUsername(System.getProperty("benchmark.jdbc.username", "root"));
+        dataSource.setPassword(System.getProperty("benchmark.jdbc.password", ""));
+        dataSource.setAutoCommit(false);
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", "update");
+        properties.put("hibernate.cache.use_second_level_cache", "false");
+        properties.put("hibernate.cache.use_query_cache", "false");
+        properties.put("hibernate.physical_naming_strategy", CamelCaseToUnderscoresNamingStrategy.class.getName());
+        properties.put("hibernate.connection.provider_disables_autocommit", "true");
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan(Student.class.getPackageName());
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule()).registerModule(new Hibernate5Module());
+        loadStudents();
+    }
+
+    private void loadStudents() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select count(*) from student")) {
+                resultSet.next();
+                if (resultSet.getLong(1) == STUDENTS) {
+                    return;
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("delete from student");
+                statement.execute("delete from class_entity");
+            }
+            try (PreparedStatement insert = connection.prepareStatement("insert into class_entity (id, class_id, name, version) values (?, ?, ?, 0)")) {
+                for (int id = 1; id <= CLASSES; id++) {
+                    insert.setLong(1, id);
+                    insert.setInt(2, id);
+                    insert.setString(3, "Class " + id);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            Random random = new Random(42);
+            try (
+                PreparedStatement insert = connection.prepareStatement(
+                    "insert into student (id, student_id, name, age, class_nam, address, class_entity_id, version) values (?, ?, ?, ?, ?, ?, ?, 0)"
+                )
+            ) {
+                for (int id = 1; id <= STUDENTS; id++) {
+                    int classEntity = 1 + random.nextInt(CLASSES);
+                    insert.setLong(1, id);
+                    insert.setInt(2, id);
+                    insert.setString(3, "Student " + Integer.toString(random.nextInt(1 << 20), 36));
+                    insert.setInt(4, 18 + random.nextInt(50));
+                    insert.setString(5, "Class " + classEntity);
+                    insert.setString(6, random.nextInt(1000) + " Main Street");
+                    insert.setLong(7, classEntity);
+                    insert.addBatch();
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManagerFactory.close();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public byte[] entities() throws Exception {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            List<Student> students = entityManager
+                .createQuery(ENTITY_QUERY, Student.class)
+                .setMaxResults(pageSize)
+                .getResultList();
+            byte[] body = objectMapper.writeValueAsBytes(students);
+            entityManager.getTransaction().commit();
+            return body;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @Benchmark
+    public byte[] dtos() throws Exception {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            Session session = entityManager.unwrap(Session.class);
+            session.setDefaultReadOnly(true);
+            session.setHibernateFlushMode(FlushMode.MANUAL);
+            entityManager.getTransaction().begin();
+            List<StudentDTO> students = entityManager
+                .createQuery(DTO_QUERY, StudentDTO.class)
+                .setMaxResults(pageSize)
+                .getResultList();
+            byte[] body = objectMapper.writeValueAsBytes(students);
+            entityManager.getTransaction().commit();
+            return body;
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(StudentListBenchmark.class.getSimpleName()).addProfiler(GCProfiler.class).build()).run();
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.data.auditing.AuditingHandler;
 import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.transaction.annotation.Transactional;
 import tech.jhipster.security.RandomUtil;
 
@@ -50,6 +51,9 @@ class UserServiceIT {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private UserDetailsService userDetailsService;
+
     @Autowired
     private AuditingHandler auditingHandler;
 
@@ -148,6 +152,22 @@ class UserServiceIT {
         userRepository.delete(user);
     }
 
+    @Test
+    @Transactional
+    void assertThatPasswordResetEvictsCachedUserDetails() {
+        String resetKey = RandomUtil.generateResetKey();
+        user.setResetDate(Instant.now());
+        user.setResetKey(resetKey);
+        userRepository.saveAndFlush(user);
+        String oldPassword = userDetailsService.loadUserByUsername(DEFAULT_LOGIN).getPassword();
+
+        User updatedUser = userService.completePasswordReset("johndoe2", resetKey).orElseThrow();
+
+        assertThat(userDetailsService.loadUserByUsername(DEFAULT_LOGIN).getPassword())
+            .isNotEqualTo(oldPassword)
+            .isEqualTo(updatedUser.getPassword());
+    }
+
     @Test
     @Transactional
     void assertThatNotActivatedUsersWithNotNullActivationKeyCreatedBefore3DaysAreDeleted() {
@@ -0,0 +1,24 @@
+package com.mycompany.myapp.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class ClassEntityDTOTest {
+
+    @Test
+    void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(ClassEntityDTO.class);
+        ClassEntityDTO classEntityDTO1 = new ClassEntityDTO();
+        classEntityDTO1.setId(1L);
+        ClassEntityDTO classEntityDTO2 = new ClassEntityDTO();
+        assertThat(classEntityDTO1).isNotEqualTo(classEntityDTO2);
+        classEntityDTO2.setId(classEntityDTO1.getId());
+        assertThat(classEntityDTO1).isEqualTo(classEntityDTO2);
+        classEntityDTO2.setId(2L);
+        assertThat(classEntityDTO1).isNotEqualTo(classEntityDTO2);
+        classEntityDTO1.setId(null);
+        assertThat(classEntityDTO1).isNotEqualTo(classEntityDTO2);
+    }
+}
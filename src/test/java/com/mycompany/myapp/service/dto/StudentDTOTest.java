@@ -0,0 +1,24 @@
+package com.mycompany.myapp.service.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.mycompany.myapp.web.rest.TestUtil;
+import org.junit.jupiter.api.Test;
+
+class StudentDTOTest {
+
+    @Test
+    void dtoEqualsVerifier() throws Exception {
+        TestUtil.equalsVerifier(StudentDTO.class);
+        StudentDTO studentDTO1 = new StudentDTO();
+        studentDTO1.setId(1L);
+        StudentDTO studentDTO2 = new StudentDTO();
+        assertThat(studentDTO1).isNotEqualTo(studentDTO2);
+        studentDTO2.setId(studentDTO1.getId());
+        assertThat(studentDTO1).isEqualTo(studentDTO2);
+        studentDTO2.setId(2L);
+        assertThat(studentDTO1).isNotEqualTo(studentDTO2);
+        studentDTO1.setId(null);
+        assertThat(studentDTO1).isNotEqualTo(studentDTO2);
+    }
+}
@@ -1,13 +1,25 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
 import com.mycompany.myapp.domain.ClassEntity;
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.management.EndpointMetersService;
 import com.mycompany.myapp.repository.ClassEntityRepository;
+import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.service.StudentService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
@@ -16,9 +28,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -44,9 +59,18 @@ class ClassEntityResourceIT {
     @Autowired
     private ClassEntityRepository classEntityRepository;
 
+    @Autowired
+    private StudentRepository studentRepository;
+
     @Autowired
     private EntityManager em;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
     @Autowired
     private MockMvc restClassEntityMockMvc;
 
@@ -153,6 +177,155 @@ class ClassEntityResourceIT {
         restClassEntityMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getClassEntityNotModified() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+
+        String etag = restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL_ID, classEntity.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + classEntity.getVersion() + "\""))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL_ID, classEntity.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    @Transactional
+    void getAllClassEntitiesNotModified() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+
+        String etag = restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified());
+
+        // Delete the classEntity
+        classEntityRepository.delete(classEntity);
+        classEntityRepository.flush();
+
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+
+        // The last modified date of the remaining classEntities did not change, so it is not a validator of the list
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_MODIFIED_SINCE, "Fri, 01 Jan 2100 00:00:00 GMT"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    @Transactional
+    void getClassEntityStudents() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        ClassEntity otherClassEntity = classEntityRepository.saveAndFlush(createUpdatedEntity(em));
+        Student first = studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(11).classEntity(classEntity));
+        Student second = studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(12).classEntity(classEntity));
+        studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(13).classEntity(otherClassEntity));
+        em.clear();
+
+        // Get the students of the classEntity, with it
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/students?sort=id,asc", classEntity.getId()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(header().string("X-Total-Count", "2"))
+            .andExpect(jsonPath("$.[*].id").value(contains(first.getId().intValue(), second.getId().intValue())))
+            .andExpect(jsonPath("$.[*].classEntity.id").value(everyItem(is(classEntity.getId().intValue()))))
+            .andExpect(jsonPath("$.[*].classEntity.name").value(everyItem(is(DEFAULT_NAME))));
+    }
+
+    @Test
+    @Transactional
+    void getClassEntityStudentsInConstantQueries() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        ClassEntity largerClassEntity = classEntityRepository.saveAndFlush(createUpdatedEntity(em));
+        studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(11).classEntity(classEntity));
+        for (int i = 0; i < 5; i++) {
+            studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(20 + i).classEntity(largerClassEntity));
+        }
+
+        // The roster of 5 students takes as many statements as the one of a single student
+        double statements = getClassEntityStudentsStatements(classEntity, 1);
+        assertThat(statements).isPositive();
+        assertThat(getClassEntityStudentsStatements(largerClassEntity, 5)).isEqualTo(statements);
+    }
+
+    private double getClassEntityStudentsStatements(ClassEntity classEntity, int students) throws Exception {
+        em.clear();
+        DistributionSummary summary = meterRegistry
+            .find(EndpointMetersService.STATEMENTS_METER_NAME)
+            .tag(EndpointMetersService.ENDPOINT_DIMENSION, "ClassEntityResource.getClassEntityStudents")
+            .summary();
+        double before = summary == null ? 0 : summary.totalAmount();
+
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL_ID + "/students", classEntity.getId()))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].classEntity.name").value(everyItem(is(classEntity.getName()))))
+            .andExpect(jsonPath("$.length()").value(students));
+
+        return (
+            meterRegistry
+                .get(EndpointMetersService.STATEMENTS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "ClassEntityResource.getClassEntityStudents")
+                .summary()
+                .totalAmount() -
+            before
+        );
+    }
+
+    @Test
+    @Transactional
+    void getClassEntityStatistics() throws Exception {
+        // Initialize the database
+        cacheManager.getCache(StudentService.STATISTICS_CACHE).clear();
+        classEntityRepository.saveAndFlush(classEntity);
+        ClassEntity emptyClassEntity = classEntityRepository.saveAndFlush(createUpdatedEntity(em));
+        studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(11).age(20).classEntity(classEntity));
+        studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).studentId(12).age(30).classEntity(classEntity));
+
+        // Get the statistics of every classEntity, including the ones without students
+        String stats = "$.[?(@.classEntityId == " + classEntity.getId() + ")]";
+        String emptyStats = "$.[?(@.classEntityId == " + emptyClassEntity.getId() + ")]";
+        restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "/stats"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath(stats + ".name").value(contains(DEFAULT_NAME)))
+            .andExpect(jsonPath(stats + ".students").value(contains(2)))
+            .andExpect(jsonPath(stats + ".minAge").value(contains(20)))
+            .andExpect(jsonPath(stats + ".maxAge").value(contains(30)))
+            .andExpect(jsonPath(stats + ".averageAge").value(contains(25.0)))
+            .andExpect(jsonPath(emptyStats + ".students").value(contains(0)))
+            .andExpect(jsonPath(emptyStats + ".averageAge").value(contains((Object) null)));
+        cacheManager.getCache(StudentService.STATISTICS_CACHE).clear();
+    }
+
+    @Test
+    @Transactional
+    void getNonExistingClassEntityStudents() throws Exception {
+        restClassEntityMockMvc.perform(get(ENTITY_API_URL_ID + "/students", Long.MAX_VALUE)).andExpect(status().isNotFound());
+    }
+
     @Test
     @Transactional
     void putExistingClassEntity() throws Exception {
@@ -183,6 +356,261 @@ class ClassEntityResourceIT {
         assertThat(testClassEntity.getName()).isEqualTo(UPDATED_NAME);
     }
 
+    @Test
+    @Transactional
+    void putClassEntityWithIfMatch() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        Long version = classEntity.getVersion();
+
+        ClassEntity updatedClassEntity = new ClassEntity().classId(UPDATED_CLASS_ID).name(UPDATED_NAME);
+        updatedClassEntity.setId(classEntity.getId());
+
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedClassEntity.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedClassEntity))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""));
+
+        // A second update with the same ETag fails
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedClassEntity.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedClassEntity))
+            )
+            .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    @Transactional
+    void patchClassEntityWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+
+        ClassEntity partialUpdatedClassEntity = new ClassEntity();
+        partialUpdatedClassEntity.setId(classEntity.getId());
+        partialUpdatedClassEntity.setName(UPDATED_NAME);
+
+        restClassEntityMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedClassEntity.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (classEntity.getVersion() + 1) + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedClassEntity))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(classEntityRepository.findById(classEntity.getId()).get().getName()).isEqualTo(DEFAULT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void patchClassEntityInTwoStatements() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        Long version = classEntity.getVersion();
+        em.clear();
+
+        ClassEntity partialUpdatedClassEntity = new ClassEntity();
+        partialUpdatedClassEntity.setId(classEntity.getId());
+        partialUpdatedClassEntity.setName(UPDATED_NAME);
+
+        DistributionSummary summary = meterRegistry
+            .find(EndpointMetersService.STATEMENTS_METER_NAME)
+            .tag(EndpointMetersService.ENDPOINT_DIMENSION, "ClassEntityResource.partialUpdateClassEntity")
+            .summary();
+        double before = summary == null ? 0 : summary.totalAmount();
+
+        // The update checks the version, then the classEntity is read
+        restClassEntityMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedClassEntity.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedClassEntity))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME))
+            .andExpect(jsonPath("$.classId").value(DEFAULT_CLASS_ID));
+
+        assertThat(
+            meterRegistry
+                .get(EndpointMetersService.STATEMENTS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "ClassEntityResource.partialUpdateClassEntity")
+                .summary()
+                .totalAmount() -
+            before
+        )
+            .isEqualTo(2);
+        ClassEntity testClassEntity = classEntityRepository.findById(classEntity.getId()).get();
+        assertThat(testClassEntity.getName()).isEqualTo(UPDATED_NAME);
+        assertThat(testClassEntity.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @Transactional
+    void patchClassEntityRenamesItsStudents() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        Student student = studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).classNam(null).classEntity(classEntity));
+        Long studentVersion = student.getVersion();
+        em.clear();
+
+        ClassEntity partialUpdatedClassEntity = new ClassEntity();
+        partialUpdatedClassEntity.setId(classEntity.getId());
+        partialUpdatedClassEntity.setName(UPDATED_NAME);
+
+        restClassEntityMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedClassEntity.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedClassEntity))
+            )
+            .andExpect(status().isOk());
+
+        // The classNam of the students is read from the classEntity, so they are not written
+        Student testStudent = studentRepository.findById(student.getId()).get();
+        assertThat(testStudent.getClassNam()).isEqualTo(UPDATED_NAME);
+        assertThat(testStudent.getVersion()).isEqualTo(studentVersion);
+    }
+
+    @Test
+    @Transactional
+    void upsertClassEntityInOneStatement() throws Exception {
+        int databaseSizeBeforeUpsert = classEntityRepository.findAll().size();
+
+        // The first request creates the classEntity
+        MvcResult created = restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/by-class-id/{classId}", DEFAULT_CLASS_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(classEntity))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0\""))
+            .andExpect(jsonPath("$.classId").value(DEFAULT_CLASS_ID))
+            .andExpect(jsonPath("$.version").value(0))
+            .andReturn();
+        long id = new ObjectMapper().readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        DistributionSummary summary = meterRegistry
+            .find(EndpointMetersService.STATEMENTS_METER_NAME)
+            .tag(EndpointMetersService.ENDPOINT_DIMENSION, "ClassEntityResource.upsertClassEntity")
+            .summary();
+        double before = summary == null ? 0 : summary.totalAmount();
+        Object lastId = em.createNativeQuery("select lastval(sequence_generator)").getSingleResult();
+
+        // Repeating it updates the same classEntity, in a single statement, which takes no id from the sequence
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/by-class-id/{classId}", DEFAULT_CLASS_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(classEntity.name(UPDATED_NAME)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+            .andExpect(jsonPath("$.id").value(id))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME))
+            .andExpect(jsonPath("$.version").value(1));
+
+        assertThat(
+            meterRegistry
+                .get(EndpointMetersService.STATEMENTS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "ClassEntityResource.upsertClassEntity")
+                .summary()
+                .totalAmount() -
+            before
+        )
+            .isEqualTo(1);
+        assertThat(em.createNativeQuery("select lastval(sequence_generator)").getSingleResult()).isEqualTo(lastId);
+        assertThat(classEntityRepository.findAll()).hasSize(databaseSizeBeforeUpsert + 1);
+        ClassEntity testClassEntity = classEntityRepository.findById(id).get();
+        assertThat(testClassEntity.getName()).isEqualTo(UPDATED_NAME);
+        assertThat(testClassEntity.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void upsertWithClassIdMismatchClassEntity() throws Exception {
+        int databaseSizeBeforeUpsert = classEntityRepository.findAll().size();
+
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/by-class-id/{classId}", UPDATED_CLASS_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(classEntity))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(classEntityRepository.findAll()).hasSize(databaseSizeBeforeUpsert);
+    }
+
+    @Test
+    @Transactional
+    void upsertClassEntitiesInBulk() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        int databaseSizeBeforeUpsert = classEntityRepository.findAll().size();
+        em.clear();
+
+        // The test configuration uses chunks of 2 classEntities
+        List<ClassEntity> classEntities = List.of(
+            createEntity(em).name(UPDATED_NAME),
+            createUpdatedEntity(em),
+            createEntity(em).classId(3)
+        );
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(classEntities))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].classId").value(contains(DEFAULT_CLASS_ID, UPDATED_CLASS_ID, 3)))
+            .andExpect(jsonPath("$.[*].version").value(contains(classEntity.getVersion().intValue() + 1, 0, 0)))
+            .andExpect(jsonPath("$.[0].id").value(classEntity.getId().intValue()));
+
+        assertThat(classEntityRepository.findAll()).hasSize(databaseSizeBeforeUpsert + 2);
+        assertThat(classEntityRepository.findById(classEntity.getId()).get().getName()).isEqualTo(UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    void upsertClassEntitiesInBulkWithDuplicateClassId() throws Exception {
+        int databaseSizeBeforeUpsert = classEntityRepository.findAll().size();
+
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(classEntity, createUpdatedEntity(em).classId(DEFAULT_CLASS_ID))))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(classEntityRepository.findAll()).hasSize(databaseSizeBeforeUpsert);
+    }
+
+    @Test
+    @Transactional
+    void upsertClassEntitiesInBulkWithoutClassId() throws Exception {
+        int databaseSizeBeforeUpsert = classEntityRepository.findAll().size();
+
+        restClassEntityMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/bulk")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(List.of(createUpdatedEntity(em), classEntity.classId(null))))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(classEntityRepository.findAll()).hasSize(databaseSizeBeforeUpsert);
+    }
+
     @Test
     @Transactional
     void putNonExistingClassEntity() throws Exception {
@@ -374,4 +802,96 @@ class ClassEntityResourceIT {
         List<ClassEntity> classEntityList = classEntityRepository.findAll();
         assertThat(classEntityList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void deleteClassEntityWithStudents() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        Student student = studentRepository.saveAndFlush(StudentResourceIT.createEntity(em).classNam(null).classEntity(classEntity));
+        long version = student.getVersion();
+
+        int databaseSizeBeforeDelete = classEntityRepository.findAll().size();
+
+        // Delete the classEntity
+        restClassEntityMockMvc
+            .perform(delete(ENTITY_API_URL_ID, classEntity.getId()).accept(MediaType.APPLICATION_JSON))
+            .andExpect(status().isNoContent());
+
+        // Validate the database contains one less item, and the student is kept without a classEntity, with its name
+        assertThat(classEntityRepository.findAll()).hasSize(databaseSizeBeforeDelete - 1);
+        Student testStudent = studentRepository.findById(student.getId()).get();
+        assertThat(testStudent.getClassEntity()).isNull();
+        assertThat(testStudent.getClassNam()).isEqualTo(DEFAULT_NAME);
+        assertThat(testStudent.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @Transactional
+    void getAllClassEntitiesWithKeysetPagination() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+        ClassEntity otherClassEntity = classEntityRepository.saveAndFlush(createUpdatedEntity(em));
+
+        // Get the first page sorted by name, which links to the next one without counting the classEntities
+        MvcResult firstPage = restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=1&sort=name,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherClassEntity.getId().intValue())))
+            .andReturn();
+        String link = firstPage.getResponse().getHeader(HttpHeaders.LINK);
+        assertThat(link).endsWith("; rel=\"next\"");
+
+        // Get the next page
+        restClassEntityMockMvc
+            .perform(get(URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>')))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(classEntity.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllClassEntitiesWithKeysetPaginationAsWithOffsetPagination() throws Exception {
+        // Initialize the database
+        classEntityRepository.saveAndFlush(classEntity);
+
+        // The last classEntity is the same JSON document in both pagination modes
+        MvcResult offsetPage = restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andReturn();
+        MvcResult keysetPage = restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode offsetClassEntities = new ObjectMapper().readTree(offsetPage.getResponse().getContentAsString());
+        JsonNode keysetClassEntities = new ObjectMapper().readTree(keysetPage.getResponse().getContentAsString());
+        assertThat(keysetClassEntities).isEqualTo(offsetClassEntities);
+        assertThat(keysetClassEntities.get(0).get("id").asLong()).isEqualTo(classEntity.getId());
+    }
+
+    @Test
+    @Transactional
+    void exportClassEntities() throws Exception {
+        // Initialize the database
+        ClassEntity savedClassEntity = classEntityRepository.saveAndFlush(classEntity);
+        ClassEntity otherClassEntity = classEntityRepository.saveAndFlush(createUpdatedEntity(em));
+
+        // Export all the classEntities, one JSON document per line
+        MvcResult result = restClassEntityMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+
+        List<JsonNode> lines = new ObjectMapper().readerFor(JsonNode.class).<JsonNode>readValues(body).readAll();
+        assertThat(lines).hasSize(body.split("\n").length);
+        assertThat(lines.stream().map(line -> line.get("id").asLong()))
+            .contains(savedClassEntity.getId(), otherClassEntity.getId());
+        assertThat(lines.stream().filter(line -> line.get("id").asLong() == otherClassEntity.getId()).findFirst())
+            .hasValueSatisfying(line -> assertThat(line.get("name").asText()).isEqualTo(UPDATED_NAME));
+    }
 }
@@ -0,0 +1,107 @@
+package com.mycompany.myapp.web.rest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.service.ExportService;
+import com.mycompany.myapp.service.StudentQueryService;
+import com.mycompany.myapp.service.StudentService;
+import com.mycompany.myapp.service.dto.BulkChunkResultDTO;
+import com.mycompany.myapp.web.rest.errors.ErrorConstants;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionSystemException;
+
+/**
+ * Test class for the failures of the bulk endpoints of the {@link StudentResource}, which the database of the
+ * integration tests cannot cause.
+ * <p>
+ * The chunks have 2 students.
+ */
+class StudentResourceBulkTest {
+
+    private static final String BODY = "{\"studentId\":1}\n{\"studentId\":2}\n{\"studentId\":3}\n{\"studentId\":4}\n{\"studentId\":5}\n";
+
+    private StudentService studentService;
+
+    private StudentResource studentResource;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    public void setup() {
+        studentService = mock(StudentService.class);
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getBulk().setChunkSize(2);
+        studentResource =
+            new StudentResource(
+                studentService,
+                mock(StudentQueryService.class),
+                mock(StudentRepository.class),
+                mock(ExportService.class),
+                applicationProperties,
+                new ObjectMapper()
+            );
+    }
+
+    @Test
+    void testChunkFailingAtCommitDoesNotStopTheNextChunks() throws Exception {
+        when(studentService.saveAll(anyList()))
+            .thenAnswer(invocation -> saved(invocation.getArgument(0)))
+            .thenThrow(new TransactionSystemException("Could not commit JPA transaction"))
+            .thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        List<BulkChunkResultDTO> results = studentResource.createStudentsInBulk(body(BODY)).getBody();
+
+        assertThat(results).extracting(BulkChunkResultDTO::getSize).containsExactly(2, 2, 1);
+        assertThat(results).extracting(BulkChunkResultDTO::getError).containsExactly(null, ErrorConstants.ERR_DATA_ACCESS, null);
+        assertThat(results.get(1).getIds()).isEmpty();
+        assertThat(results.get(2).getIds()).hasSize(1);
+    }
+
+    @Test
+    void testChunkWithoutTransactionDoesNotStopTheNextChunks() throws Exception {
+        when(studentService.upsertAll(anyList()))
+            .thenThrow(new CannotCreateTransactionException("Could not open JPA EntityManager for transaction"))
+            .thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        List<BulkChunkResultDTO> results = studentResource.upsertStudentsInBulk(body(BODY)).getBody();
+
+        assertThat(results).extracting(BulkChunkResultDTO::getError).containsExactly(ErrorConstants.ERR_DATA_ACCESS, null, null);
+        assertThat(results).flatExtracting(BulkChunkResultDTO::getIds).hasSize(3);
+    }
+
+    @Test
+    void testInvalidDocumentStopsReadingAfterTheWrittenChunks() throws Exception {
+        when(studentService.saveAll(anyList())).thenAnswer(invocation -> saved(invocation.getArgument(0)));
+
+        List<BulkChunkResultDTO> results = studentResource
+            .createStudentsInBulk(body("{\"studentId\":1}\n{\"studentId\":2}\n{\"studentId\":3}\n{\"studentId\":\"three\"}\n"))
+            .getBody();
+
+        assertThat(results).extracting(BulkChunkResultDTO::getSize).containsExactly(2, 1);
+        assertThat(results.get(0).getIds()).hasSize(2);
+        assertThat(results.get(1).getIds()).isEmpty();
+        assertThat(results.get(1).getError()).isEqualTo(ErrorConstants.ERR_INVALID_JSON);
+    }
+
+    private List<Student> saved(List<Student> students) {
+        students.forEach(student -> student.setId(ids.incrementAndGet()));
+        return students;
+    }
+
+    private static ByteArrayInputStream body(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
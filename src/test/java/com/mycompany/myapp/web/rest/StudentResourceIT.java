@@ -1,24 +1,51 @@
 package com.mycompany.myapp.web.rest;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
 import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.mycompany.myapp.IntegrationTest;
+import com.mycompany.myapp.config.ApplicationProperties;
+import com.mycompany.myapp.domain.ClassEntity;
 import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.management.EndpointMetersService;
 import com.mycompany.myapp.repository.StudentRepository;
+import com.mycompany.myapp.repository.search.StudentSearchRepository;
+import com.mycompany.myapp.service.StudentService;
+import com.mycompany.myapp.service.dto.BulkChunkResultDTO;
+import com.mycompany.myapp.web.rest.errors.ErrorConstants;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collection;
 import java.util.List;
 import java.util.Random;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import javax.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.transaction.AfterTransaction;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
@@ -53,12 +80,24 @@ class StudentResourceIT {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private StudentSearchRepository studentSearchRepository;
+
     @Autowired
     private EntityManager em;
 
     @Autowired
     private MockMvc restStudentMockMvc;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationProperties applicationProperties;
+
     private Student student;
 
     /**
@@ -98,6 +137,15 @@ class StudentResourceIT {
         student = createEntity(em);
     }
 
+    /**
+     * The search index is only written on commit, and some tests write it directly, so it is reloaded from the database
+     * once their transaction is rolled back.
+     */
+    @AfterTransaction
+    public void resetSearchIndex() {
+        studentSearchRepository.reindexAll();
+    }
+
     @Test
     @Transactional
     void createStudent() throws Exception {
@@ -116,6 +164,8 @@ class StudentResourceIT {
         assertThat(testStudent.getAge()).isEqualTo(DEFAULT_AGE);
         assertThat(testStudent.getClassNam()).isEqualTo(DEFAULT_CLASS_NAM);
         assertThat(testStudent.getAddress()).isEqualTo(DEFAULT_ADDRESS);
+        // The student is indexed once its transaction commits, which this test never does
+        assertThat(studentSearchRepository.searchIdsByName(DEFAULT_NAME, Integer.MAX_VALUE)).doesNotContain(testStudent.getId());
     }
 
     @Test
@@ -136,6 +186,47 @@ class StudentResourceIT {
         assertThat(studentList).hasSize(databaseSizeBeforeCreate);
     }
 
+    @Test
+    void createStudentWithExistingStudentId() throws Exception {
+        // The unique key is checked when the transaction of the request commits, so this test cannot be rolled back
+        Student existingStudent = studentRepository.saveAndFlush(createEntity(em).studentId(101));
+        try {
+            int databaseSizeBeforeCreate = studentRepository.findAll().size();
+
+            restStudentMockMvc
+                .perform(
+                    post(ENTITY_API_URL).contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(student.studentId(101)))
+                )
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(ErrorConstants.ERR_DUPLICATE_KEY));
+
+            assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+        } finally {
+            studentRepository.delete(existingStudent);
+        }
+    }
+
+    @Test
+    @Transactional
+    void createStudentWithClassEntity() throws Exception {
+        ClassEntity classEntity = new ClassEntity().classId(1).name(UPDATED_CLASS_NAM);
+        em.persist(classEntity);
+        em.flush();
+
+        // The classNam of the student is the name of its classEntity
+        restStudentMockMvc
+            .perform(
+                post(ENTITY_API_URL)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(student.classEntity(classEntity)))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.classNam").value(UPDATED_CLASS_NAM));
+
+        List<Student> studentList = studentRepository.findAll();
+        assertThat(studentList.get(studentList.size() - 1).getClassNam()).isEqualTo(UPDATED_CLASS_NAM);
+    }
+
     @Test
     @Transactional
     void getAllStudents() throws Exception {
@@ -155,6 +246,230 @@ class StudentResourceIT {
             .andExpect(jsonPath("$.[*].address").value(hasItem(DEFAULT_ADDRESS)));
     }
 
+    @Test
+    @Transactional
+    void getAllStudentsRecordsEndpointMetrics() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        DistributionSummary statements = meterRegistry
+            .find(EndpointMetersService.STATEMENTS_METER_NAME)
+            .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.getAllStudents")
+            .summary();
+        long countBefore = statements == null ? 0 : statements.count();
+
+        restStudentMockMvc.perform(get(ENTITY_API_URL + "?sort=id,desc")).andExpect(status().isOk());
+
+        statements =
+            meterRegistry
+                .get(EndpointMetersService.STATEMENTS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.getAllStudents")
+                .summary();
+        assertThat(statements.count()).isEqualTo(countBefore + 1);
+        assertThat(statements.totalAmount()).isPositive();
+        assertThat(
+            meterRegistry
+                .get(EndpointMetersService.ROWS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.getAllStudents")
+                .summary()
+                .max()
+        )
+            .isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void getStudentsByIdFiltering() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        Long id = student.getId();
+
+        defaultStudentShouldBeFound("id.equals=" + id);
+        defaultStudentShouldNotBeFound("id.notEquals=" + id);
+
+        defaultStudentShouldBeFound("id.greaterThanOrEqual=" + id);
+        defaultStudentShouldNotBeFound("id.greaterThan=" + id);
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByStudentIdIsInShouldWork() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        defaultStudentShouldBeFound("studentId.in=" + DEFAULT_STUDENT_ID + "," + UPDATED_STUDENT_ID);
+        defaultStudentShouldNotBeFound("studentId.in=" + UPDATED_STUDENT_ID);
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByStudentIdIsInRange() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        defaultStudentShouldBeFound("studentId.greaterThanOrEqual=" + DEFAULT_STUDENT_ID + "&studentId.lessThan=" + UPDATED_STUDENT_ID);
+        defaultStudentShouldNotBeFound("studentId.greaterThan=" + DEFAULT_STUDENT_ID + "&studentId.lessThan=" + UPDATED_STUDENT_ID);
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByAgeIsInRange() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        defaultStudentShouldBeFound("age.greaterThanOrEqual=" + DEFAULT_AGE + "&age.lessThanOrEqual=" + UPDATED_AGE);
+        defaultStudentShouldNotBeFound("age.lessThan=" + DEFAULT_AGE);
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByClassNamStartsWith() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        defaultStudentShouldBeFound("classNam.startsWith=" + DEFAULT_CLASS_NAM.substring(0, 3));
+        defaultStudentShouldNotBeFound("classNam.startsWith=" + UPDATED_CLASS_NAM.substring(0, 3));
+        defaultStudentShouldNotBeFound("classNam.startsWith=%25");
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByClassNamIsInShouldWork() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        defaultStudentShouldBeFound("classNam.in=" + DEFAULT_CLASS_NAM + "," + UPDATED_CLASS_NAM);
+        defaultStudentShouldNotBeFound("classNam.in=" + UPDATED_CLASS_NAM);
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByAddressIsEqualToSomething() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        defaultStudentShouldBeFound("address.equals=" + DEFAULT_ADDRESS);
+        defaultStudentShouldNotBeFound("address.equals=" + UPDATED_ADDRESS);
+        defaultStudentShouldBeFound("address.startsWith=" + DEFAULT_ADDRESS.substring(0, 3) + "&address.specified=true");
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsByClassEntityIsEqualToSomething() throws Exception {
+        ClassEntity classEntity = ClassEntityResourceIT.createEntity(em);
+        em.persist(classEntity);
+        em.flush();
+        student.setClassEntity(classEntity);
+        studentRepository.saveAndFlush(student);
+        Long classEntityId = classEntity.getId();
+        em.clear();
+
+        // Get all the studentList where classEntity equals to classEntityId, with their classEntity
+        defaultStudentShouldBeFound("classEntityId.equals=" + classEntityId);
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&classEntityId.equals=" + classEntityId))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].classEntity.name").value(contains(classEntity.getName())));
+
+        // Get all the studentList where classEntity equals to (classEntityId + 1)
+        defaultStudentShouldNotBeFound("classEntityId.equals=" + (classEntityId + 1));
+    }
+
+    @Test
+    @Transactional
+    void getStudentStatistics() throws Exception {
+        // Initialize the database
+        cacheManager.getCache(StudentService.STATISTICS_CACHE).clear();
+        studentRepository.saveAndFlush(createEntity(em).studentId(11).age(150));
+        studentRepository.saveAndFlush(createEntity(em).studentId(12).age(150));
+        studentRepository.saveAndFlush(createEntity(em).studentId(13).age(151));
+
+        // Get the number of students of every age
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "/stats"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[?(@.age == 150)].students").value(contains(2)))
+            .andExpect(jsonPath("$.[?(@.age == 151)].students").value(contains(1)));
+
+        // The statistics are cached
+        studentRepository.saveAndFlush(createEntity(em).studentId(14).age(150));
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[?(@.age == 150)].students").value(contains(2)));
+        cacheManager.getCache(StudentService.STATISTICS_CACHE).clear();
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsWithoutCount() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+        Student otherStudent = studentRepository.saveAndFlush(createUpdatedEntity(em));
+        String filter = "id.in=" + student.getId() + "," + otherStudent.getId();
+
+        // Get the first page, which links to the next one without counting the students
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?count=false&size=1&sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("page=1&size=1")))
+            .andExpect(header().string(HttpHeaders.LINK, containsString("rel=\"next\"")))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherStudent.getId().intValue())));
+
+        // Get the last page, which has no next page
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?count=false&page=1&size=1&sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(header().string(HttpHeaders.LINK, not(containsString("rel=\"next\""))))
+            .andExpect(jsonPath("$.[*].id").value(contains(student.getId().intValue())));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is returned.
+     */
+    private void defaultStudentShouldBeFound(String filter) throws Exception {
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(student.getId().intValue())))
+            .andExpect(jsonPath("$.[*].studentId").value(hasItem(DEFAULT_STUDENT_ID)))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)))
+            .andExpect(jsonPath("$.[*].age").value(hasItem(DEFAULT_AGE)))
+            .andExpect(jsonPath("$.[*].classNam").value(hasItem(DEFAULT_CLASS_NAM)))
+            .andExpect(jsonPath("$.[*].address").value(hasItem(DEFAULT_ADDRESS)));
+
+        // Check, that the count call also returns 1
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("1"));
+    }
+
+    /**
+     * Executes the search, and checks that the default entity is not returned.
+     */
+    private void defaultStudentShouldNotBeFound(String filter) throws Exception {
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$").isArray())
+            .andExpect(jsonPath("$").isEmpty());
+
+        // Check, that the count call also returns 0
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "/count?sort=id,desc&" + filter))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(content().string("0"));
+    }
+
     @Test
     @Transactional
     void getStudent() throws Exception {
@@ -181,6 +496,87 @@ class StudentResourceIT {
         restStudentMockMvc.perform(get(ENTITY_API_URL_ID, Long.MAX_VALUE)).andExpect(status().isNotFound());
     }
 
+    @Test
+    @Transactional
+    void getStudentNotModified() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        MvcResult result = restStudentMockMvc
+            .perform(get(ENTITY_API_URL_ID, student.getId()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + student.getVersion() + "\""))
+            .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+            .andReturn();
+
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL_ID, student.getId()).header(HttpHeaders.IF_NONE_MATCH, result.getResponse().getHeader(HttpHeaders.ETAG)))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+        restStudentMockMvc
+            .perform(
+                get(ENTITY_API_URL_ID, student.getId())
+                    .header(HttpHeaders.IF_MODIFIED_SINCE, result.getResponse().getHeader(HttpHeaders.LAST_MODIFIED))
+            )
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @Transactional
+    void getStudentModifiedWithItsClassEntity() throws Exception {
+        // Initialize the database
+        ClassEntity classEntity = new ClassEntity().classId(1).name(DEFAULT_CLASS_NAM);
+        em.persist(classEntity);
+        studentRepository.saveAndFlush(student.classEntity(classEntity));
+
+        String etag = restStudentMockMvc
+            .perform(get(ENTITY_API_URL_ID, student.getId()))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        // The body of the student includes the name of its classEntity
+        classEntity.setName(UPDATED_CLASS_NAM);
+        em.flush();
+
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL_ID, student.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, not(etag)))
+            .andExpect(jsonPath("$.classEntity.name").value(UPDATED_CLASS_NAM));
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsNotModified() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        String etag = restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, containsString("W/")))
+            .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""));
+
+        // Update the student
+        student.setName(UPDATED_NAME);
+        studentRepository.saveAndFlush(student);
+
+        restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?sort=id,desc").header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].name").value(hasItem(UPDATED_NAME)));
+    }
+
     @Test
     @Transactional
     void putExistingStudent() throws Exception {
@@ -219,6 +615,237 @@ class StudentResourceIT {
         assertThat(testStudent.getAddress()).isEqualTo(UPDATED_ADDRESS);
     }
 
+    @Test
+    @Transactional
+    void putStudentWithIfMatch() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+        Long version = student.getVersion();
+
+        Student updatedStudent = createUpdatedEntity(em);
+        updatedStudent.setId(student.getId());
+
+        restStudentMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedStudent.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedStudent))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "\""))
+            .andExpect(jsonPath("$.version").value(version + 1));
+
+        assertThat(studentRepository.findById(student.getId()).get().getName()).isEqualTo(UPDATED_NAME);
+    }
+
+    @Test
+    @Transactional
+    void putStudentWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        Student updatedStudent = createUpdatedEntity(em);
+        updatedStudent.setId(student.getId());
+
+        restStudentMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedStudent.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (student.getVersion() + 1) + "\"")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedStudent))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(studentRepository.findById(student.getId()).get().getName()).isEqualTo(DEFAULT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void putStudentWithStaleVersion() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        Student updatedStudent = createUpdatedEntity(em);
+        updatedStudent.setId(student.getId());
+        updatedStudent.setVersion(student.getVersion() + 1);
+
+        restStudentMockMvc
+            .perform(
+                put(ENTITY_API_URL_ID, updatedStudent.getId())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(updatedStudent))
+            )
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @Transactional
+    void patchStudentWithStaleIfMatch() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+
+        Student partialUpdatedStudent = new Student();
+        partialUpdatedStudent.setId(student.getId());
+        partialUpdatedStudent.setName(UPDATED_NAME);
+
+        restStudentMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedStudent.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + (student.getVersion() + 1) + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedStudent))
+            )
+            .andExpect(status().isPreconditionFailed());
+
+        assertThat(studentRepository.findById(student.getId()).get().getName()).isEqualTo(DEFAULT_NAME);
+    }
+
+    @Test
+    @Transactional
+    void patchClassNamOfStudentWithClassEntity() throws Exception {
+        // Initialize the database
+        ClassEntity classEntity = new ClassEntity().classId(1).name(DEFAULT_CLASS_NAM);
+        em.persist(classEntity);
+        studentRepository.saveAndFlush(student.classEntity(classEntity));
+        em.clear();
+
+        Student partialUpdatedStudent = new Student();
+        partialUpdatedStudent.setId(student.getId());
+        partialUpdatedStudent.setName(UPDATED_NAME);
+        partialUpdatedStudent.setClassNam(UPDATED_CLASS_NAM);
+
+        // The classNam stays the name of the classEntity
+        restStudentMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedStudent.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedStudent))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME))
+            .andExpect(jsonPath("$.classNam").value(DEFAULT_CLASS_NAM));
+    }
+
+    @Test
+    @Transactional
+    void patchStudentInTwoStatements() throws Exception {
+        // Initialize the database
+        ClassEntity classEntity = new ClassEntity().classId(1).name(DEFAULT_CLASS_NAM);
+        em.persist(classEntity);
+        studentRepository.saveAndFlush(student.classEntity(classEntity));
+        Long version = student.getVersion();
+        em.clear();
+
+        Student partialUpdatedStudent = new Student();
+        partialUpdatedStudent.setId(student.getId());
+        partialUpdatedStudent.setName(UPDATED_NAME);
+
+        DistributionSummary summary = meterRegistry
+            .find(EndpointMetersService.STATEMENTS_METER_NAME)
+            .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.partialUpdateStudent")
+            .summary();
+        double before = summary == null ? 0 : summary.totalAmount();
+
+        // The update checks the version, then the student is read with its classEntity
+        restStudentMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, partialUpdatedStudent.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"" + version + "-" + classEntity.getVersion() + "\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(partialUpdatedStudent))
+            )
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + (version + 1) + "-" + classEntity.getVersion() + "\""))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME))
+            .andExpect(jsonPath("$.age").value(DEFAULT_AGE))
+            .andExpect(jsonPath("$.version").value(version + 1))
+            .andExpect(jsonPath("$.classEntity.name").value(DEFAULT_CLASS_NAM));
+
+        assertThat(
+            meterRegistry
+                .get(EndpointMetersService.STATEMENTS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.partialUpdateStudent")
+                .summary()
+                .totalAmount() -
+            before
+        )
+            .isEqualTo(2);
+        Student testStudent = studentRepository.findById(student.getId()).get();
+        assertThat(testStudent.getName()).isEqualTo(UPDATED_NAME);
+        assertThat(testStudent.getStudentId()).isEqualTo(DEFAULT_STUDENT_ID);
+        assertThat(testStudent.getVersion()).isEqualTo(version + 1);
+    }
+
+    @Test
+    @Transactional
+    void upsertStudentInOneStatement() throws Exception {
+        int databaseSizeBeforeUpsert = studentRepository.findAll().size();
+
+        // The first request creates the student
+        MvcResult created = restStudentMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/by-student-id/{studentId}", DEFAULT_STUDENT_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(student))
+            )
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.studentId").value(DEFAULT_STUDENT_ID))
+            .andExpect(jsonPath("$.version").value(0))
+            .andReturn();
+        long id = new ObjectMapper().readTree(created.getResponse().getContentAsString()).get("id").asLong();
+
+        DistributionSummary summary = meterRegistry
+            .find(EndpointMetersService.STATEMENTS_METER_NAME)
+            .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.upsertStudent")
+            .summary();
+        double before = summary == null ? 0 : summary.totalAmount();
+
+        // Repeating it updates the same student, in a single statement
+        restStudentMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/by-student-id/{studentId}", DEFAULT_STUDENT_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(student.name(UPDATED_NAME)))
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(id))
+            .andExpect(jsonPath("$.name").value(UPDATED_NAME))
+            .andExpect(jsonPath("$.version").value(1));
+
+        assertThat(
+            meterRegistry
+                .get(EndpointMetersService.STATEMENTS_METER_NAME)
+                .tag(EndpointMetersService.ENDPOINT_DIMENSION, "StudentResource.upsertStudent")
+                .summary()
+                .totalAmount() -
+            before
+        )
+            .isEqualTo(1);
+        List<Student> studentList = studentRepository.findAll();
+        assertThat(studentList).hasSize(databaseSizeBeforeUpsert + 1);
+        Student testStudent = studentRepository.findById(id).get();
+        assertThat(testStudent.getName()).isEqualTo(UPDATED_NAME);
+        assertThat(testStudent.getAge()).isEqualTo(DEFAULT_AGE);
+        assertThat(testStudent.getVersion()).isEqualTo(1);
+    }
+
+    @Test
+    @Transactional
+    void upsertWithStudentIdMismatchStudent() throws Exception {
+        int databaseSizeBeforeUpsert = studentRepository.findAll().size();
+
+        restStudentMockMvc
+            .perform(
+                put(ENTITY_API_URL + "/by-student-id/{studentId}", UPDATED_STUDENT_ID)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(TestUtil.convertObjectToJsonBytes(student))
+            )
+            .andExpect(status().isBadRequest());
+
+        assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeUpsert);
+    }
+
     @Test
     @Transactional
     void putNonExistingStudent() throws Exception {
@@ -366,6 +993,22 @@ class StudentResourceIT {
         assertThat(studentList).hasSize(databaseSizeBeforeUpdate);
     }
 
+    @Test
+    @Transactional
+    void patchNonExistingStudentWithIfMatch() throws Exception {
+        student.setId(count.incrementAndGet());
+
+        // A missing student is told from a modified one by the write transaction
+        restStudentMockMvc
+            .perform(
+                patch(ENTITY_API_URL_ID, student.getId())
+                    .header(HttpHeaders.IF_MATCH, "\"0\"")
+                    .contentType("application/merge-patch+json")
+                    .content(TestUtil.convertObjectToJsonBytes(student))
+            )
+            .andExpect(status().isBadRequest());
+    }
+
     @Test
     @Transactional
     void patchWithIdMismatchStudent() throws Exception {
@@ -419,4 +1062,329 @@ class StudentResourceIT {
         List<Student> studentList = studentRepository.findAll();
         assertThat(studentList).hasSize(databaseSizeBeforeDelete - 1);
     }
+
+    @Test
+    @Transactional
+    void searchStudent() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+        studentSearchRepository.index(student);
+
+        // Search the student
+        restStudentMockMvc
+            .perform(post("/api/search?sort=id,desc").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"aaaaa\"}"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.[*].id").value(hasItem(student.getId().intValue())))
+            .andExpect(jsonPath("$.[*].name").value(hasItem(DEFAULT_NAME)));
+
+        restStudentMockMvc
+            .perform(
+                post("/api/search?sort=id,desc")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"name\":\"aaaaa\",\"age\":" + UPDATED_AGE + "}")
+            )
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(student.getId().intValue()))));
+    }
+
+    @Test
+    @Transactional
+    void searchStudentMatchingTooManyIds() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+        Student otherStudent = studentRepository.saveAndFlush(createUpdatedEntity(em).name(DEFAULT_NAME));
+        studentSearchRepository.index(student);
+        studentSearchRepository.index(otherStudent);
+
+        // The name is then matched in the database
+        int maxIds = applicationProperties.getSearch().getMaxIds();
+        applicationProperties.getSearch().setMaxIds(1);
+        try {
+            restStudentMockMvc
+                .perform(post("/api/search?sort=id,desc").contentType(MediaType.APPLICATION_JSON).content("{\"name\":\"aaaaa\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.[*].id").value(hasItem(student.getId().intValue())))
+                .andExpect(jsonPath("$.[*].id").value(hasItem(otherStudent.getId().intValue())));
+        } finally {
+            applicationProperties.getSearch().setMaxIds(maxIds);
+        }
+    }
+
+    @Test
+    @Transactional
+    void searchStudentByAge() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+        Student otherStudent = studentRepository.saveAndFlush(createUpdatedEntity(em));
+
+        // Search the students without a name, in the database
+        restStudentMockMvc
+            .perform(post("/api/search?sort=id,desc").contentType(MediaType.APPLICATION_JSON).content("{\"age\":" + DEFAULT_AGE + "}"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(hasItem(student.getId().intValue())))
+            .andExpect(jsonPath("$.[*].id").value(not(hasItem(otherStudent.getId().intValue()))))
+            .andExpect(jsonPath("$.[*].age").value(everyItem(is(DEFAULT_AGE))));
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsWithKeysetPagination() throws Exception {
+        // Initialize the database
+        studentRepository.saveAndFlush(student);
+        Student otherStudent = studentRepository.saveAndFlush(createUpdatedEntity(em));
+
+        // Get the first page, which links to the next one without counting the students
+        MvcResult firstPage = restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("X-Total-Count"))
+            .andExpect(jsonPath("$.[*].id").value(contains(otherStudent.getId().intValue())))
+            .andReturn();
+        String link = firstPage.getResponse().getHeader(HttpHeaders.LINK);
+        assertThat(link).endsWith("; rel=\"next\"");
+
+        // Get the next page
+        restStudentMockMvc
+            .perform(get(URI.create(link.substring(link.indexOf('<') + 1, link.indexOf('>')))))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.[*].id").value(contains(student.getId().intValue())));
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsWithKeysetPaginationAsWithOffsetPagination() throws Exception {
+        // Initialize the database
+        ClassEntity classEntity = new ClassEntity().classId(1).name(UPDATED_CLASS_NAM);
+        em.persist(classEntity);
+        studentRepository.saveAndFlush(student.classNam(null).classEntity(classEntity));
+
+        // The last student is the same JSON document in both pagination modes
+        MvcResult offsetPage = restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andReturn();
+        MvcResult keysetPage = restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "?after=&size=1&sort=id,desc"))
+            .andExpect(status().isOk())
+            .andReturn();
+        JsonNode offsetStudents = new ObjectMapper().readTree(offsetPage.getResponse().getContentAsString());
+        JsonNode keysetStudents = new ObjectMapper().readTree(keysetPage.getResponse().getContentAsString());
+        assertThat(keysetStudents).isEqualTo(offsetStudents);
+        assertThat(keysetStudents.get(0).get("id").asLong()).isEqualTo(student.getId());
+        assertThat(keysetStudents.get(0).get("classNam").asText()).isEqualTo(UPDATED_CLASS_NAM);
+        assertThat(keysetStudents.get(0).get("classEntity").get("id").asLong()).isEqualTo(classEntity.getId());
+    }
+
+    @Test
+    @Transactional
+    void getAllStudentsWithKeysetPaginationAndInvalidCursor() throws Exception {
+        restStudentMockMvc.perform(get(ENTITY_API_URL + "?after=&sort=unknown,asc")).andExpect(status().isBadRequest());
+        restStudentMockMvc.perform(get(ENTITY_API_URL + "?after=&sort=age,asc&sort=name,desc")).andExpect(status().isBadRequest());
+        restStudentMockMvc.perform(get(ENTITY_API_URL + "?after=not-a-cursor&sort=name,asc")).andExpect(status().isBadRequest());
+        String tamperedAge = Base64.getUrlEncoder().withoutPadding().encodeToString("age\n1\nvseven".getBytes(StandardCharsets.UTF_8));
+        restStudentMockMvc.perform(get(ENTITY_API_URL + "?after=" + tamperedAge + "&sort=age,asc")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @Transactional
+    void exportStudents() throws Exception {
+        // Initialize the database
+        Student savedStudent = studentRepository.saveAndFlush(student);
+        Student otherStudent = studentRepository.saveAndFlush(createUpdatedEntity(em));
+
+        // Export all the students, one JSON document per line
+        MvcResult result = restStudentMockMvc
+            .perform(get(ENTITY_API_URL + "/export"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+            .andReturn();
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).endsWith("\n");
+
+        List<JsonNode> lines = new ObjectMapper().readerFor(JsonNode.class).<JsonNode>readValues(body).readAll();
+        assertThat(lines).hasSize(body.split("\n").length);
+        assertThat(lines.stream().map(line -> line.get("id").asLong()))
+            .contains(savedStudent.getId(), otherStudent.getId());
+        assertThat(lines.stream().filter(line -> line.get("id").asLong() == otherStudent.getId()).findFirst())
+            .hasValueSatisfying(line -> assertThat(line.get("name").asText()).isEqualTo(UPDATED_NAME));
+    }
+
+    @Test
+    void createStudentsInBulk() throws Exception {
+        int databaseSizeBeforeCreate = studentRepository.findAll().size();
+        List<Student> students = List.of(createEntity(em), createUpdatedEntity(em), createEntity(em).studentId(3));
+
+        // Chunks are committed one by one, so this test cannot run in a rolled back transaction
+        List<BulkChunkResultDTO> results = postStudentsInBulk(MediaType.APPLICATION_JSON, TestUtil.convertObjectToJsonBytes(students));
+        try {
+            // The test configuration uses chunks of 2 students
+            assertThat(results).extracting(BulkChunkResultDTO::getSize).containsExactly(2, 1);
+            assertThat(results).extracting(BulkChunkResultDTO::getError).containsOnlyNulls();
+            assertThat(results).flatExtracting(BulkChunkResultDTO::getIds).hasSize(3).doesNotContainNull();
+
+            List<Student> studentList = studentRepository.findAll();
+            assertThat(studentList).hasSize(databaseSizeBeforeCreate + 3);
+            Student secondStudent = studentRepository.findById(results.get(0).getIds().get(1)).orElseThrow();
+            assertThat(secondStudent.getName()).isEqualTo(UPDATED_NAME);
+            assertThat(studentSearchRepository.searchIdsByName(UPDATED_NAME, Integer.MAX_VALUE)).contains(secondStudent.getId());
+        } finally {
+            deleteCreatedStudents(results);
+        }
+    }
+
+    @Test
+    void createStudentsInBulkWithNdjsonAndFailingChunk() throws Exception {
+        int databaseSizeBeforeCreate = studentRepository.findAll().size();
+        String tooLongName = "A".repeat(300);
+        String body =
+            "{\"name\":\"first\"}\n{\"name\":\"second\"}\n" +
+            "{\"name\":\"third\"}\n{\"name\":\"" + tooLongName + "\"}\n" +
+            "{\"name\":\"fifth\"}\n{\"name\":";
+
+        List<BulkChunkResultDTO> results = postStudentsInBulk(MediaType.APPLICATION_NDJSON, body.getBytes());
+        try {
+            assertThat(results).extracting(BulkChunkResultDTO::getSize).containsExactly(2, 2, 1);
+            assertThat(results.get(0).getIds()).hasSize(2);
+            assertThat(results.get(0).getError()).isNull();
+            // The failing chunk is rolled back as a whole, without undoing the previous one
+            assertThat(results.get(1).getIds()).isEmpty();
+            assertThat(results.get(1).getError()).isEqualTo(ErrorConstants.ERR_DATA_ACCESS);
+            assertThat(studentSearchRepository.searchIdsByName("third", Integer.MAX_VALUE)).isEmpty();
+            // Reading stops at the malformed document, and the students read before it are not saved
+            assertThat(results.get(2).getIds()).isEmpty();
+            assertThat(results.get(2).getError()).isEqualTo(ErrorConstants.ERR_INVALID_JSON);
+
+            assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeCreate + 2);
+        } finally {
+            deleteCreatedStudents(results);
+        }
+    }
+
+    @Test
+    void createStudentsInBulkWithExistingId() throws Exception {
+        Student existingStudent = createEntity(em);
+        existingStudent.setId(1L);
+
+        List<BulkChunkResultDTO> results = postStudentsInBulk(
+            MediaType.APPLICATION_JSON,
+            TestUtil.convertObjectToJsonBytes(List.of(existingStudent))
+        );
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getIds()).isEmpty();
+        assertThat(results.get(0).getError()).isNotBlank();
+    }
+
+    @Test
+    void createStudentsInBulkWithDuplicateStudentId() throws Exception {
+        Student existingStudent = studentRepository.saveAndFlush(createEntity(em).studentId(101));
+        int databaseSizeBeforeCreate = studentRepository.findAll().size();
+
+        try {
+            List<BulkChunkResultDTO> results = postStudentsInBulk(
+                MediaType.APPLICATION_JSON,
+                TestUtil.convertObjectToJsonBytes(List.of(createEntity(em).studentId(101)))
+            );
+
+            assertThat(results).hasSize(1);
+            assertThat(results.get(0).getIds()).isEmpty();
+            // The message of the database is only logged
+            assertThat(results.get(0).getError()).isEqualTo(ErrorConstants.ERR_DUPLICATE_KEY);
+            assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeCreate);
+        } finally {
+            studentRepository.deleteById(existingStudent.getId());
+            studentSearchRepository.deleteFromIndexById(existingStudent.getId());
+        }
+    }
+
+    @Test
+    void upsertStudentsInBulk() throws Exception {
+        Student existingStudent = studentRepository.saveAndFlush(createEntity(em).studentId(101));
+        int databaseSizeBeforeUpsert = studentRepository.findAll().size();
+        List<Student> students = List.of(
+            createUpdatedEntity(em).studentId(101),
+            createEntity(em).studentId(102),
+            createEntity(em).studentId(103)
+        );
+
+        List<BulkChunkResultDTO> results = writeStudentsInBulk(
+            put(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(students))
+        );
+        try {
+            assertThat(results).extracting(BulkChunkResultDTO::getSize).containsExactly(2, 1);
+            assertThat(results).extracting(BulkChunkResultDTO::getError).containsOnlyNulls();
+            assertThat(results.get(0).getIds().get(0)).isEqualTo(existingStudent.getId());
+
+            assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeUpsert + 2);
+            Student testStudent = studentRepository.findById(existingStudent.getId()).orElseThrow();
+            assertThat(testStudent.getName()).isEqualTo(UPDATED_NAME);
+            assertThat(testStudent.getVersion()).isEqualTo(existingStudent.getVersion() + 1);
+            assertThat(studentSearchRepository.searchIdsByName(UPDATED_NAME, Integer.MAX_VALUE)).contains(existingStudent.getId());
+
+            // Repeating the request changes nothing but the versions
+            List<BulkChunkResultDTO> repeated = writeStudentsInBulk(
+                put(ENTITY_API_URL + "/bulk").contentType(MediaType.APPLICATION_JSON).content(TestUtil.convertObjectToJsonBytes(students))
+            );
+            assertThat(repeated)
+                .flatExtracting(BulkChunkResultDTO::getIds)
+                .containsExactlyElementsOf(results.stream().flatMap(result -> result.getIds().stream()).collect(Collectors.toList()));
+            assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeUpsert + 2);
+        } finally {
+            deleteCreatedStudents(results);
+        }
+    }
+
+    @Test
+    void upsertStudentsInBulkWithDuplicateStudentId() throws Exception {
+        int databaseSizeBeforeUpsert = studentRepository.findAll().size();
+
+        // The test configuration uses chunks of 2 students
+        List<BulkChunkResultDTO> results = writeStudentsInBulk(
+            put(ENTITY_API_URL + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.convertObjectToJsonBytes(List.of(createEntity(em).studentId(101), createUpdatedEntity(em).studentId(101))))
+        );
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getIds()).isEmpty();
+        assertThat(results.get(0).getError()).isNotBlank();
+        assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeUpsert);
+    }
+
+    @Test
+    void upsertStudentsInBulkWithoutStudentId() throws Exception {
+        int databaseSizeBeforeUpsert = studentRepository.findAll().size();
+        Student studentWithoutStudentId = createEntity(em).studentId(null);
+
+        List<BulkChunkResultDTO> results = writeStudentsInBulk(
+            put(ENTITY_API_URL + "/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(TestUtil.convertObjectToJsonBytes(List.of(studentWithoutStudentId)))
+        );
+
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0).getIds()).isEmpty();
+        assertThat(results.get(0).getError()).isNotBlank();
+        assertThat(studentRepository.findAll()).hasSize(databaseSizeBeforeUpsert);
+    }
+
+    private List<BulkChunkResultDTO> postStudentsInBulk(MediaType contentType, byte[] body) throws Exception {
+        return writeStudentsInBulk(post(ENTITY_API_URL + "/bulk").contentType(contentType).content(body));
+    }
+
+    private List<BulkChunkResultDTO> writeStudentsInBulk(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = restStudentMockMvc
+            .perform(request)
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andReturn();
+        return new ObjectMapper().readValue(result.getResponse().getContentAsString(), new TypeReference<List<BulkChunkResultDTO>>() {});
+    }
+
+    private void deleteCreatedStudents(Collection<BulkChunkResultDTO> results) {
+        List<Long> ids = results.stream().flatMap(result -> result.getIds().stream()).collect(Collectors.toList());
+        studentRepository.deleteAllById(ids);
+        ids.forEach(studentSearchRepository::deleteFromIndexById);
+    }
 }
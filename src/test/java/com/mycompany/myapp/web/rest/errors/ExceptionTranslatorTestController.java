@@ -1,8 +1,10 @@
 package com.mycompany.myapp.web.rest.errors;
 
+import java.sql.SQLIntegrityConstraintViolationException;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -17,6 +19,22 @@ public class ExceptionTranslatorTestController {
         throw new ConcurrencyFailureException("test concurrency failure");
     }
 
+    @GetMapping("/duplicate-key")
+    public void duplicateKey() {
+        throw new DataIntegrityViolationException(
+            "test duplicate key",
+            new SQLIntegrityConstraintViolationException("Duplicate entry '1' for key 'ux_student__student_id'", "23000", 1062)
+        );
+    }
+
+    @GetMapping("/data-integrity-violation")
+    public void dataIntegrityViolation() {
+        throw new DataIntegrityViolationException(
+            "test data integrity violation",
+            new SQLIntegrityConstraintViolationException("Cannot add or update a child row", "23000", 1452)
+        );
+    }
+
     @PostMapping("/method-argument")
     public void methodArgument(@Valid @RequestBody TestDTO testDTO) {}
 
@@ -0,0 +1,87 @@
+package com.mycompany.myapp.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.service.dto.VersionSummaryDTO;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Test class for the {@link ETagUtil} utility class.
+ */
+class ETagUtilTest {
+
+    @Test
+    void strongETagOfVersions() {
+        assertThat(ETagUtil.generateETag(3L)).isEqualTo("\"3\"");
+        assertThat(ETagUtil.generateETag(3L, 7L)).isEqualTo("\"3-7\"");
+        assertThat(ETagUtil.generateETag(3L, null)).isEqualTo("\"3\"");
+    }
+
+    @Test
+    void weakETagOfSummary() {
+        Instant lastModifiedDate = Instant.ofEpochMilli(1234);
+
+        assertThat(ETagUtil.generateETag(new VersionSummaryDTO(2L, 5L, lastModifiedDate))).isEqualTo("W/\"2-5-1234\"");
+        assertThat(ETagUtil.generateETag(new VersionSummaryDTO(0L, null, null))).isEqualTo("W/\"0-0-0\"");
+    }
+
+    @Test
+    void summaryIsLastModifiedWithItsRelatedEntities() {
+        Instant earlier = Instant.ofEpochSecond(1000);
+        Instant later = Instant.ofEpochSecond(2000);
+
+        assertThat(new VersionSummaryDTO(1L, 1L, earlier, later).getLastModifiedDate()).isEqualTo(later);
+        assertThat(new VersionSummaryDTO(1L, 1L, later, earlier).getLastModifiedDate()).isEqualTo(later);
+        assertThat(new VersionSummaryDTO(1L, 1L, later, null).getLastModifiedDate()).isEqualTo(later);
+    }
+
+    @Test
+    void validatorHeadersAreLastModifiedWithTheLatestDate() {
+        Instant earlier = Instant.ofEpochSecond(1000);
+        Instant later = Instant.ofEpochSecond(2000);
+
+        HttpHeaders headers = ETagUtil.generateValidatorHttpHeaders("\"1\"", earlier, null, later);
+
+        assertThat(headers.getETag()).isEqualTo("\"1\"");
+        assertThat(headers.getLastModified()).isEqualTo(later.toEpochMilli());
+    }
+
+    @Test
+    void validatorHeadersWithoutDate() {
+        HttpHeaders headers = ETagUtil.generateValidatorHttpHeaders("\"1\"", (Instant) null);
+
+        assertThat(headers.containsKey(HttpHeaders.LAST_MODIFIED)).isFalse();
+    }
+
+    @Test
+    void ifMatch() {
+        assertThatCode(() -> ETagUtil.checkIfMatch(null, "\"1\"")).doesNotThrowAnyException();
+        assertThatCode(() -> ETagUtil.checkIfMatch("\"1\"", "\"1\"")).doesNotThrowAnyException();
+        assertThatCode(() -> ETagUtil.checkIfMatch("\"0\", \"1\"", "\"1\"")).doesNotThrowAnyException();
+        assertThatCode(() -> ETagUtil.checkIfMatch("*", "\"1\"")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void ifMatchFails() {
+        assertThatThrownBy(() -> ETagUtil.checkIfMatch("\"0\"", "\"1\""))
+            .isInstanceOf(ResponseStatusException.class)
+            .extracting(e -> ((ResponseStatusException) e).getStatus())
+            .isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThatThrownBy(() -> ETagUtil.checkIfMatch("W/\"1\"", "\"1\"")).isInstanceOf(ResponseStatusException.class);
+    }
+
+    @Test
+    void ifMatchVersions() {
+        assertThat(ETagUtil.parseIfMatchVersions(null)).isNull();
+        assertThat(ETagUtil.parseIfMatchVersions("*")).isNull();
+        assertThat(ETagUtil.parseIfMatchVersions("\"3\"")).containsExactly(3L);
+        assertThat(ETagUtil.parseIfMatchVersions("\"3-7\", \"4-7\"")).containsExactly(3L, 4L);
+        assertThat(ETagUtil.parseIfMatchVersions("W/\"3\", \"x\"")).isEmpty();
+    }
+}
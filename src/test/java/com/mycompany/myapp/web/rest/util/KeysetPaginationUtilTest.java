@@ -0,0 +1,124 @@
+package com.mycompany.myapp.web.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.mycompany.myapp.domain.Student;
+import com.mycompany.myapp.repository.Keyset;
+import com.mycompany.myapp.web.rest.errors.BadRequestAlertException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Test class for the {@link KeysetPaginationUtil} utility class.
+ */
+class KeysetPaginationUtilTest {
+
+    private static final Set<String> SORTABLE = Set.of("id", "name", "age");
+
+    private static final Pageable BY_NAME = PageRequest.of(0, 20, Sort.by("name"));
+
+    @Test
+    void cursorRoundTrip() {
+        String cursor = KeysetPaginationUtil.encodeCursor(new Student().id(42L).name("Alice"), "name");
+
+        Keyset keyset = KeysetPaginationUtil.decodeCursor(cursor, BY_NAME, Student.class, SORTABLE, "student");
+
+        assertThat(keyset.getProperty()).isEqualTo("name");
+        assertThat(keyset.getValue()).isEqualTo("Alice");
+        assertThat(keyset.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void cursorRoundTripWithNullValue() {
+        String cursor = KeysetPaginationUtil.encodeCursor(new Student().id(42L), "name");
+
+        Keyset keyset = KeysetPaginationUtil.decodeCursor(cursor, BY_NAME, Student.class, SORTABLE, "student");
+
+        assertThat(keyset.getValue()).isNull();
+        assertThat(keyset.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void emptyCursorIsFirstPage() {
+        assertThat(KeysetPaginationUtil.decodeCursor("", BY_NAME, Student.class, SORTABLE, "student")).isNull();
+    }
+
+    @Test
+    void cursorForAnotherSortIsRejected() {
+        String cursor = KeysetPaginationUtil.encodeCursor(new Student().id(42L).age(7), "age");
+
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor(cursor, BY_NAME, Student.class, SORTABLE, "student"))
+            .isInstanceOf(BadRequestAlertException.class);
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("%%%", BY_NAME, Student.class, SORTABLE, "student"))
+            .isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    void cursorWithTamperedValueIsRejected() {
+        Pageable byAge = PageRequest.of(0, 20, Sort.by("age"));
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString("age\n42\nvseven".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor(tampered, byAge, Student.class, SORTABLE, "student"))
+            .isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    void unsortableProperty() {
+        Pageable byAddress = PageRequest.of(0, 20, Sort.by("address"));
+
+        assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("", byAddress, Student.class, SORTABLE, "student"))
+            .isInstanceOf(BadRequestAlertException.class);
+    }
+
+    @Test
+    void sortWithIdTieBreaker() {
+        Pageable byAgeThenId = PageRequest.of(0, 20, Sort.by(Sort.Order.desc("age"), Sort.Order.desc("id")));
+
+        assertThat(KeysetPaginationUtil.decodeCursor("", byAgeThenId, Student.class, SORTABLE, "student")).isNull();
+    }
+
+    @Test
+    void unsupportedSort() {
+        Pageable byAgeThenName = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("age"), Sort.Order.desc("name")));
+        Pageable byAgeThenIdDesc = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("age"), Sort.Order.desc("id")));
+        Pageable byIdThenAge = PageRequest.of(0, 20, Sort.by(Sort.Order.asc("id"), Sort.Order.asc("age")));
+
+        for (Pageable pageable : List.of(byAgeThenName, byAgeThenIdDesc, byIdThenAge)) {
+            assertThatThrownBy(() -> KeysetPaginationUtil.decodeCursor("", pageable, Student.class, SORTABLE, "student"))
+                .isInstanceOf(BadRequestAlertException.class);
+        }
+    }
+
+    @Test
+    void nextLinkOnlyWhenThereIsANextPage() {
+        List<Student> content = List.of(new Student().id(1L).name("Alice"), new Student().id(2L).name("Bob"));
+        UriComponentsBuilder uriBuilder = UriComponentsBuilder.fromUriString("/api/students?after=&size=2&sort=name,asc");
+
+        HttpHeaders headers = KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+            uriBuilder,
+            new SliceImpl<>(content, PageRequest.of(0, 2, Sort.by("name")), true)
+        );
+
+        String expectedCursor = KeysetPaginationUtil.encodeCursor(content.get(1), "name");
+        assertThat(headers.get(HttpHeaders.LINK))
+            .containsExactly("</api/students?sort=name,asc&after=" + expectedCursor + "&size=2>; rel=\"next\"");
+
+        headers =
+            KeysetPaginationUtil.generateKeysetPaginationHttpHeaders(
+                uriBuilder,
+                new SliceImpl<>(Collections.emptyList(), PageRequest.of(0, 2, Sort.by("name")), false)
+            );
+        assertThat(headers.get(HttpHeaders.LINK)).isNull();
+    }
+}